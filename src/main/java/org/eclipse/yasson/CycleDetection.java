@@ -0,0 +1,43 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+/**
+ * Strategy of the recursive reference detection used during serialization.
+ *
+ * @see YassonConfig#withCycleDetection(CycleDetection)
+ */
+public enum CycleDetection {
+
+    /**
+     * No detection is performed. Serialization of the object graph with recursive reference
+     * ends with {@link StackOverflowError}. Suitable for the object graphs which are known to be acyclic.
+     */
+    OFF,
+
+    /**
+     * Only the depth of the currently serialized object graph is checked. Serialization fails as soon as
+     * the maximum depth is exceeded.
+     *
+     * @see YassonConfig#withMaxDepth(int)
+     */
+    DEPTH,
+
+    /**
+     * Every serialized instance is checked against the instances currently being serialized.
+     * Instances are compared by their identity, {@code equals} and {@code hashCode} methods are never called.
+     * This is the default strategy.
+     */
+    IDENTITY
+
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a class which binding model is generated at build time by the {@code yasson-apt} annotation processor.
+ * <br>
+ * Generated {@link org.eclipse.yasson.spi.GeneratedBindingModel} provides direct access to the fields and methods
+ * of the properties declared by the annotated class, so that they are not accessed by reflection at runtime.
+ * Properties inherited from the superclass are covered only if the superclass is annotated as well.
+ */
+@Retention(RetentionPolicy.CLASS)
+@Target(ElementType.TYPE)
+public @interface GenerateBindingModel {
+}
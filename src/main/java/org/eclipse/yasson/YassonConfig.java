@@ -13,10 +13,14 @@
 package org.eclipse.yasson;
 
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.serializer.JsonbSerializer;
 
+import org.eclipse.yasson.spi.EagerParsingListener;
+import org.eclipse.yasson.spi.JsonBufferPool;
+
 /**
  * Custom properties for configuring Yasson outside of the specification {@link jakarta.json.bind.JsonbConfig} scope.
  */
@@ -57,6 +61,61 @@ public class YassonConfig extends JsonbConfig {
      */
     public static final String DATE_TIME_IN_MILLIS_AS_A_STRING = "yasson.time-in-millis-as-a-string";
 
+    /**
+     * @see #withGeneratedAccessors(boolean)
+     */
+    public static final String GENERATED_ACCESSORS = "yasson.generated-accessors";
+
+    /**
+     * @see #withCycleDetection(CycleDetection)
+     */
+    public static final String CYCLE_DETECTION = "yasson.cycle-detection";
+
+    /**
+     * @see #withMaxDepth(int)
+     */
+    public static final String MAX_DEPTH = "yasson.max-depth";
+
+    /**
+     * @see #withStreamFlushInterval(int)
+     */
+    public static final String STREAM_FLUSH_INTERVAL = "yasson.stream-flush-interval";
+
+    /**
+     * @see #withJsonpProperties(Map)
+     */
+    public static final String JSONP_PROPERTIES = "yasson.jsonp-properties";
+
+    /**
+     * @see #withBufferPool(JsonBufferPool)
+     */
+    public static final String BUFFER_POOL = "yasson.buffer-pool";
+
+    /**
+     * @see #withEagerParsingPackages(String...)
+     */
+    public static final String EAGER_PARSE_PACKAGES = "yasson.eager-parse-packages";
+
+    /**
+     * @see #withEagerParsingExecutor(Executor)
+     */
+    public static final String EAGER_PARSE_EXECUTOR = "yasson.eager-parse-executor";
+
+    /**
+     * @see #withAsyncEagerParsing(boolean)
+     */
+    public static final String EAGER_PARSE_ASYNC = "yasson.eager-parse-async";
+
+    /**
+     * @see #withEagerParsingListener(EagerParsingListener)
+     */
+    public static final String EAGER_PARSE_LISTENER = "yasson.eager-parse-listener";
+
+    /**
+     * @see #withSharedModelCache(boolean)
+     */
+    public static final String SHARED_MODEL_CACHE = "yasson.shared-model-cache";
+
     /**
      * Property used to specify behaviour on deserialization when JSON document contains properties
      * which doesn't exist in the target class. Default value is 'false'.
@@ -142,4 +201,147 @@ public class YassonConfig extends JsonbConfig {
         return this;
     }
 
+    /**
+     * Property used to enable generated property accessors. When enabled, Yasson defines one hidden class per
+     * bound class, which reads and writes its properties directly instead of invoking them through reflection.
+     * Reflection is still used for the properties and classes where defining of such a class is not allowed.
+     * Hidden classes require Java 16 or newer. Default value is {@code false}.
+     *
+     * @param value whether to generate property accessors
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withGeneratedAccessors(boolean value) {
+        setProperty(GENERATED_ACCESSORS, value);
+        return this;
+    }
+
+    /**
+     * Property used to specify how the recursive references are detected during serialization.
+     * Default value is {@link CycleDetection#IDENTITY}.
+     *
+     * @param value cycle detection strategy
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withCycleDetection(CycleDetection value) {
+        setProperty(CYCLE_DETECTION, value);
+        return this;
+    }
+
+    /**
+     * Property used to specify maximum depth of the serialized object graph. Only checked when
+     * {@link CycleDetection#DEPTH} cycle detection is used. Default value is {@code 1000}.
+     *
+     * @param value maximum depth of the serialized object graph
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withMaxDepth(int value) {
+        setProperty(MAX_DEPTH, value);
+        return this;
+    }
+
+    /**
+     * Property used to specify after how many elements of the serialized {@link java.util.stream.Stream},
+     * {@link java.util.Iterator}, {@link java.util.Spliterator} or {@link Iterable} the generator is flushed.
+     * Default value is {@code 0}, which means the generator is not flushed.
+     *
+     * @param value number of elements written between the generator flushes
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withStreamFlushInterval(int value) {
+        setProperty(STREAM_FLUSH_INTERVAL, value);
+        return this;
+    }
+
+    /**
+     * Properties passed to the JSON-P provider when the parser and generator factories are created, such as the buffer
+     * pool or the buffer size settings of the provider. Properties are passed as they are, together with the ones
+     * derived from this config.
+     *
+     * @param properties JSON-P provider properties
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withJsonpProperties(Map<String, ?> properties) {
+        setProperty(JSONP_PROPERTIES, properties);
+        return this;
+    }
+
+    /**
+     * Pool of the buffers Yasson writes the JSON to. If not set, the default pool is used.
+     *
+     * @param bufferPool buffer pool
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withBufferPool(JsonBufferPool bufferPool) {
+        setProperty(BUFFER_POOL, bufferPool);
+        return this;
+    }
+
+    /**
+     * Package prefixes of the classes to eagerly parse upon creation of the Jsonb instance, in addition to the classes
+     * set by {@link #withEagerParsing(Class...)}. Classes are looked up in the class index files
+     * {@code META-INF/yasson/class-index} created at build time, such as by the {@code yasson-apt} annotation
+     * processor, which list one binary class name per line. Classes not listed in any index are not parsed.
+     *
+     * @param packages package prefixes of the classes to eagerly parse
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withEagerParsingPackages(String... packages) {
+        setProperty(EAGER_PARSE_PACKAGES, packages);
+        return this;
+    }
+
+    /**
+     * Executor used to eagerly parse the classes in parallel, such as the {@link java.util.concurrent.ForkJoinPool}.
+     * If not set, classes are parsed one by one on the thread creating the Jsonb instance, or by the common
+     * {@link java.util.concurrent.ForkJoinPool} if the {@link #withAsyncEagerParsing(boolean) async parsing} is enabled.
+     *
+     * @param executor executor parsing the classes
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withEagerParsingExecutor(Executor executor) {
+        setProperty(EAGER_PARSE_EXECUTOR, executor);
+        return this;
+    }
+
+    /**
+     * Property used to parse the classes eagerly in the background. When enabled, Jsonb instance is returned before
+     * the classes are parsed and the failures are only reported to the
+     * {@link #withEagerParsingListener(EagerParsingListener) listener} and logged. Classes requested before they have
+     * been parsed in the background are parsed on demand. Default value is {@code false}.
+     *
+     * @param value whether to parse the classes in the background
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withAsyncEagerParsing(boolean value) {
+        setProperty(EAGER_PARSE_ASYNC, value);
+        return this;
+    }
+
+    /**
+     * Listener notified about the progress and the time of the eager parsing of every class.
+     *
+     * @param listener eager parsing listener
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withEagerParsingListener(EagerParsingListener listener) {
+        setProperty(EAGER_PARSE_LISTENER, listener);
+        return this;
+    }
+
+    /**
+     * Property used to share the class models, serializers and deserializers with the other Jsonb instances created with
+     * the equivalent configuration and the same JSON-P provider, which have this property enabled as well. Configuration
+     * values such as strings, numbers, enums and classes are compared by their value, other objects such as adapters
+     * and strategies by their identity. Formatting, encoding, JSON-P properties, buffer pool and eager parsing settings
+     * do not affect the sharing. Shared models are released once all the Jsonb instances using them are closed.
+     * Default value is {@code false}.
+     *
+     * @param value whether to share the models across the Jsonb instances
+     * @return This YassonConfig instance
+     */
+    public YassonConfig withSharedModelCache(boolean value) {
+        setProperty(SHARED_MODEL_CACHE, value);
+        return this;
+    }
+
 }
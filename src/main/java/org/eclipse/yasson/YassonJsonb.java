@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,7 +12,17 @@
 
 package org.eclipse.yasson;
 
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
 import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
 
 import jakarta.json.JsonStructure;
 import jakarta.json.bind.JsonbException;
@@ -29,6 +39,11 @@ import jakarta.json.stream.JsonParser;
  * <p>
  * This interface accepts instantiated generators and parsers with different input / output sources.
  * </p>
+ * <p>
+ * Byte arrays, {@link ByteBuffer} and {@link WritableByteChannel} sources and targets are read and written directly
+ * in the configured {@link jakarta.json.bind.JsonbConfig#ENCODING encoding}, without an intermediate
+ * {@link String} or character stream copy of the whole document. Files are read through memory mapping.
+ * </p>
  */
 public interface YassonJsonb extends jakarta.json.bind.Jsonb {
 
@@ -131,4 +146,219 @@ public interface YassonJsonb extends jakarta.json.bind.Jsonb {
      * @since JSON Binding 1.0
      */
     JsonStructure toJsonStructure(Object object, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the specified range of the byte array and return the resulting content tree.
+     *
+     * @param bytes       Byte array containing JSON data encoded in the configured encoding.
+     * @param offset      Offset of the first byte of JSON data.
+     * @param length      Number of bytes of JSON data.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the remaining bytes of the buffer and return the resulting content tree.
+     * Buffer position is advanced by the bytes read.
+     *
+     * @param buffer      Buffer containing JSON data encoded in the configured encoding.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException;
+
+    /**
+     * Writes the object content tree into a byte array in the configured encoding.
+     *
+     * @param object The object content tree to be serialized.
+     * @return byte array containing the serialized JSON data
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    byte[] toJsonBytes(Object object) throws JsonbException;
+
+    /**
+     * Writes the object content tree into the remaining space of the buffer in the configured encoding.
+     * Buffer position is advanced by the bytes written.
+     *
+     * @param object The object content tree to be serialized.
+     * @param buffer The buffer to write JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization, including the buffer not having enough space remaining.
+     */
+    void toJson(Object object, ByteBuffer buffer) throws JsonbException;
+
+    /**
+     * Writes the object content tree into the channel in the configured encoding.
+     * The channel has to be in the blocking mode, serialization fails if the channel does not accept any bytes.
+     * The channel is not closed on a completion for further interaction.
+     *
+     * @param object  The object content tree to be serialized.
+     * @param channel The channel to write JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    void toJson(Object object, WritableByteChannel channel) throws JsonbException;
+
+    /**
+     * Reads in a JSON data from the file and return the resulting content tree.
+     * File is memory mapped and read in the configured encoding.
+     *
+     * @param path        File containing JSON data.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return the newly created root object of the java content tree
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> T fromJson(Path path, Type runtimeType) throws JsonbException;
+
+    /**
+     * Reads in the top level JSON array from the file and return the stream of its elements.
+     * File is memory mapped and read in the configured encoding. Elements are deserialized lazily,
+     * one by one as the stream is consumed. File is closed once all the elements are consumed or the stream is closed.
+     *
+     * @param path        File containing JSON array.
+     * @param elementType Type of the array elements.
+     * @param <T>         Type of the array elements.
+     * @return lazily deserialized stream of the array elements
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> Stream<T> fromJsonArrayStream(Path path, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in the UTF-8 encoded JSON Lines input, one JSON value per line, and return the stream of the values.
+     * Values are deserialized lazily, one by one as the stream is consumed, and blank lines are skipped.
+     * Input stream is closed once all the values are consumed or the stream is closed.
+     *
+     * @param stream The stream to read JSON Lines from.
+     * @param type   Type of the values.
+     * @param <T>    Type of the values.
+     * @return lazily deserialized stream of the values
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> Stream<T> fromJsonLines(InputStream stream, Type type) throws JsonbException;
+
+    /**
+     * Reads in the JSON Lines input, one JSON value per line, and return the stream of the values.
+     * Values are deserialized lazily, one by one as the stream is consumed, and blank lines are skipped.
+     * Reader is closed once all the values are consumed or the stream is closed.
+     *
+     * @param reader The reader to read JSON Lines from.
+     * @param type   Type of the values.
+     * @param <T>    Type of the values.
+     * @return lazily deserialized stream of the values
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> Stream<T> fromJsonLines(Reader reader, Type type) throws JsonbException;
+
+    /**
+     * Writes the values as UTF-8 encoded JSON Lines, each value serialized in compact form on its own line.
+     * Output stream is closed on a completion.
+     *
+     * @param values The values to be serialized.
+     * @param stream The stream to write JSON Lines to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    void toJsonLines(Iterator<?> values, OutputStream stream) throws JsonbException;
+
+    /**
+     * Writes the values as UTF-8 encoded JSON Lines, each value serialized in compact form on its own line.
+     * Output stream is closed on a completion, the stream of the values is left open.
+     *
+     * @param values The values to be serialized.
+     * @param stream The stream to write JSON Lines to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    void toJsonLines(Stream<?> values, OutputStream stream) throws JsonbException;
+
+    /**
+     * Reads in the top level JSON array from the stream and return the stream of its elements.
+     * Elements are deserialized lazily, one by one as the stream is consumed.
+     * Input stream is closed once all the elements are consumed or the returned stream is closed.
+     *
+     * @param stream      The stream to read JSON array from.
+     * @param elementType Type of the array elements.
+     * @param <T>         Type of the array elements.
+     * @return lazily deserialized stream of the array elements
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> Stream<T> fromJsonArrayStream(InputStream stream, Type elementType) throws JsonbException;
+
+    /**
+     * Reads in the top level JSON array from the stream and return the iterator of its elements.
+     * Elements are deserialized lazily, one by one as they are requested.
+     * Input stream is closed once all the elements are consumed.
+     *
+     * @param stream      The stream to read JSON array from.
+     * @param elementType Type of the array elements.
+     * @param <T>         Type of the array elements.
+     * @return lazily deserializing iterator of the array elements
+     * @throws JsonbException       If any unexpected error(s) occur(s) during deserialization.
+     */
+    <T> Iterator<T> fromJsonArrayIterator(InputStream stream, Type elementType) throws JsonbException;
+
+    /**
+     * Writes the object content tree into the string builder.
+     *
+     * @param object  The object content tree to be serialized.
+     * @param builder The string builder to append JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    void toJson(Object object, StringBuilder builder) throws JsonbException;
+
+    /**
+     * Writes the object content tree into the appendable. The appendable is not closed on a completion.
+     * <p>
+     * This method is not an overload of {@code toJson}, since the appendable could be also
+     * an {@link OutputStream}, such as {@link java.io.PrintStream}, which would make the existing calls ambiguous.
+     * </p>
+     *
+     * @param object     The object content tree to be serialized.
+     * @param appendable The appendable to append JSON data to.
+     * @throws JsonbException       If any unexpected problem occurs during the
+     *                              serialization.
+     */
+    void appendJson(Object object, Appendable appendable) throws JsonbException;
+
+    /**
+     * Reads in the UTF-8 encoded JSON data published as the chunks of bytes and return the stage completed
+     * with the resulting content tree.
+     * <p>
+     * Chunks are requested one by one and tokenized as they arrive, no thread is blocked waiting for the data.
+     * The stage is completed once the root value is complete, the subscription is cancelled at that point.
+     * Deserialization failures complete the stage exceptionally with {@link JsonbException}.
+     * </p>
+     *
+     * @param publisher   Publisher of the JSON data chunks.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @param <T>         Type of the content tree's root object.
+     * @return stage completed with the newly created root object of the java content tree
+     * @throws JsonbException       If the configured encoding is not UTF-8.
+     */
+    <T> CompletionStage<T> fromJson(Flow.Publisher<ByteBuffer> publisher, Type runtimeType) throws JsonbException;
+
+    /**
+     * Returns the publisher of the JSON representation of the given object tree as the chunks of bytes.
+     * <p>
+     * Object is serialized gradually on the thread requesting the chunks, only as far as needed to satisfy the demand.
+     * Root collection, array, map, stream or iterator is serialized one element at a time, so that it is never written
+     * to a single buffer at once. Publisher accepts a single subscriber. Serialization failures are signalled
+     * to the subscriber as {@link JsonbException}.
+     * </p>
+     *
+     * @param object      The object content tree to be serialized.
+     * @param runtimeType Runtime type of the content tree's root object.
+     * @return publisher of the JSON data chunks
+     * @throws JsonbException If any unexpected problem occurs during the
+     *                        serialization.
+     */
+    Flow.Publisher<ByteBuffer> toJsonPublisher(Object object, Type runtimeType) throws JsonbException;
 }
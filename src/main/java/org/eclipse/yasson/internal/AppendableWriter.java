@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.CharBuffer;
+
+/**
+ * {@link Writer} appending the written characters to the {@link Appendable}.
+ * <br>
+ * Characters are passed to the {@link StringBuilder} directly, other appendables receive them wrapped, not copied.
+ * Closing the writer does not close the appendable.
+ */
+final class AppendableWriter extends Writer {
+
+    private final Appendable appendable;
+    private final StringBuilder builder;
+
+    /**
+     * Create new instance.
+     *
+     * @param appendable appendable to write to
+     */
+    AppendableWriter(Appendable appendable) {
+        this.appendable = appendable;
+        this.builder = appendable instanceof StringBuilder ? (StringBuilder) appendable : null;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        appendable.append((char) c);
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        if (builder != null) {
+            builder.append(chars, offset, length);
+        } else {
+            appendable.append(CharBuffer.wrap(chars, offset, length));
+        }
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        appendable.append(str, offset, offset + length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (appendable instanceof Flushable) {
+            ((Flushable) appendable).flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        flush();
+    }
+
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.deserializer.ModelDeserializer;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Iterator lazily deserializing the elements of the top level JSON array.
+ * <br>
+ * Each element is deserialized only once it is requested, by the element deserializer resolved once for all
+ * the elements, so only a single element is held in memory at a time. Parser is closed once the end of the array
+ * is reached, deserialization fails or the iterator is {@link #close() closed}.
+ *
+ * @param <T> type of the elements
+ */
+final class ArrayElementIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private final JsonParser parser;
+    private final DeserializationContextImpl context;
+    private final ModelDeserializer<JsonParser> elementDeserializer;
+    private boolean started;
+    private boolean finished;
+    private boolean ready;
+    private T next;
+
+    /**
+     * Create new instance.
+     *
+     * @param jsonbContext jsonb context
+     * @param parser       parser positioned before the top level array
+     * @param elementType  type of the array elements
+     */
+    ArrayElementIterator(JsonbContext jsonbContext, JsonParser parser, Type elementType) {
+        this.parser = parser;
+        this.context = new DeserializationContextImpl(jsonbContext);
+        this.elementDeserializer = jsonbContext.getChainModelCreator().deserializerChain(elementType);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (!ready && !finished) {
+            advance();
+        }
+        return ready;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T element = next;
+        next = null;
+        ready = false;
+        return element;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+        try {
+            if (!started) {
+                started = true;
+                JsonParser.Event first = parser.hasNext() ? parser.next() : null;
+                if (first != JsonParser.Event.START_ARRAY) {
+                    throw new JsonbException(Messages.getMessage(MessageKeys.ARRAY_EXPECTED, first));
+                }
+            }
+            JsonParser.Event event = parser.next();
+            if (event == JsonParser.Event.END_ARRAY) {
+                close();
+                return;
+            }
+            context.setLastValueEvent(event);
+            next = (T) elementDeserializer.deserialize(parser, context.childContext());
+            ready = true;
+        } catch (JsonbException e) {
+            close();
+            throw e;
+        } catch (RuntimeException e) {
+            close();
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        }
+    }
+
+    @Override
+    public void close() {
+        if (!finished) {
+            finished = true;
+            parser.close();
+        }
+    }
+
+}
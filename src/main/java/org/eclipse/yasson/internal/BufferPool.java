@@ -0,0 +1,121 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import org.eclipse.yasson.spi.JsonBufferPool;
+
+/**
+ * Default pool of the reusable output buffers.
+ * <br>
+ * Buffers are kept in the fixed number of slots which are claimed and released by compare-and-set, so the pool
+ * never blocks, never pins the virtual threads and does not depend on the thread identity. Each thread starts scanning
+ * the slots at a different position to lower the contention. If there is no free buffer, new one is allocated. If all
+ * the slots are occupied, released buffer is left to the garbage collector. Char buffers larger than
+ * {@link #MAX_POOLED_CHARS} are not pooled, so the pooled char buffers retain at most 8 MB
+ * even with all the slots occupied.
+ */
+public final class BufferPool implements JsonBufferPool {
+
+    /**
+     * Size of the pooled byte buffers.
+     */
+    static final int BYTE_BUFFER_SIZE = 8192;
+
+    /**
+     * Largest char buffer kept in the pool. Buffers of the larger documents are allocated on demand.
+     */
+    static final int MAX_POOLED_CHARS = 1 << 16;
+
+    private static final int MAX_SLOTS = 64;
+
+    private final AtomicReferenceArray<byte[]> byteBuffers;
+    private final AtomicReferenceArray<char[]> charBuffers;
+
+    /**
+     * Create new instance with the number of slots derived from the number of available processors.
+     */
+    public BufferPool() {
+        this(Math.min(MAX_SLOTS, Runtime.getRuntime().availableProcessors() * 2));
+    }
+
+    BufferPool(int slots) {
+        this.byteBuffers = new AtomicReferenceArray<>(slots);
+        this.charBuffers = new AtomicReferenceArray<>(slots);
+    }
+
+    @Override
+    public byte[] takeBytes() {
+        int slots = byteBuffers.length();
+        int start = startSlot(slots);
+        for (int i = 0; i < slots; i++) {
+            int slot = (start + i) % slots;
+            byte[] buffer = byteBuffers.get(slot);
+            if (buffer != null && byteBuffers.compareAndSet(slot, buffer, null)) {
+                return buffer;
+            }
+        }
+        return new byte[BYTE_BUFFER_SIZE];
+    }
+
+    @Override
+    public void releaseBytes(byte[] buffer) {
+        int slots = byteBuffers.length();
+        int start = startSlot(slots);
+        for (int i = 0; i < slots; i++) {
+            int slot = (start + i) % slots;
+            if (byteBuffers.get(slot) == null && byteBuffers.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public char[] takeChars(int minimumSize) {
+        int slots = charBuffers.length();
+        int start = startSlot(slots);
+        for (int i = 0; i < slots; i++) {
+            int slot = (start + i) % slots;
+            char[] buffer = charBuffers.get(slot);
+            if (buffer != null && charBuffers.compareAndSet(slot, buffer, null)) {
+                if (buffer.length >= minimumSize) {
+                    return buffer;
+                }
+                //too small buffer is replaced by the larger one once released
+                break;
+            }
+        }
+        return new char[minimumSize];
+    }
+
+    @Override
+    public void releaseChars(char[] buffer) {
+        if (buffer.length > MAX_POOLED_CHARS) {
+            return;
+        }
+        int slots = charBuffers.length();
+        int start = startSlot(slots);
+        for (int i = 0; i < slots; i++) {
+            int slot = (start + i) % slots;
+            if (charBuffers.get(slot) == null && charBuffers.compareAndSet(slot, null, buffer)) {
+                return;
+            }
+        }
+    }
+
+    private static int startSlot(int slots) {
+        return (Thread.currentThread().hashCode() & Integer.MAX_VALUE) % slots;
+    }
+
+}
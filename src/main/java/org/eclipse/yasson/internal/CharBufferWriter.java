@@ -0,0 +1,101 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.Writer;
+import java.util.Arrays;
+
+import org.eclipse.yasson.spi.JsonBufferPool;
+
+/**
+ * Unsynchronized {@link Writer} collecting the written characters in the pooled char buffer.
+ * <br>
+ * Buffer is taken from the pool sized to the expected output size and grown if needed. Closing the writer keeps
+ * the written characters, buffer is returned to the pool by {@link #release()}.
+ */
+final class CharBufferWriter extends Writer {
+
+    private final JsonBufferPool bufferPool;
+    private char[] buffer;
+    private int size;
+
+    /**
+     * Create new instance.
+     *
+     * @param bufferPool   pool of the buffers
+     * @param expectedSize expected number of the written characters
+     */
+    CharBufferWriter(JsonBufferPool bufferPool, int expectedSize) {
+        this.bufferPool = bufferPool;
+        this.buffer = bufferPool.takeChars(expectedSize);
+    }
+
+    private void ensure(int length) {
+        if (length > buffer.length - size) {
+            buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + length));
+        }
+    }
+
+    @Override
+    public void write(int c) {
+        ensure(1);
+        buffer[size++] = (char) c;
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) {
+        ensure(length);
+        System.arraycopy(chars, offset, buffer, size, length);
+        size += length;
+    }
+
+    @Override
+    public void write(String str, int offset, int length) {
+        ensure(length);
+        str.getChars(offset, offset + length, buffer, size);
+        size += length;
+    }
+
+    @Override
+    public void flush() {
+        //noop
+    }
+
+    @Override
+    public void close() {
+        //noop, buffer is released by release()
+    }
+
+    /**
+     * Number of the written characters.
+     *
+     * @return number of the written characters
+     */
+    int size() {
+        return size;
+    }
+
+    @Override
+    public String toString() {
+        return new String(buffer, 0, size);
+    }
+
+    /**
+     * Return the buffer to the pool. Writer must not be used afterwards.
+     */
+    void release() {
+        bufferPool.releaseChars(buffer);
+        buffer = null;
+    }
+
+}
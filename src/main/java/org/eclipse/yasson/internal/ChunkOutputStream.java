@@ -0,0 +1,100 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.Queue;
+
+/**
+ * {@link OutputStream} cutting the written bytes into the chunks of the fixed size.
+ * <br>
+ * Every chunk is queued as soon as it is full, the last partial chunk is queued once the stream is closed.
+ * Queued chunks are ready to be read. Chunks are newly allocated, since they are handed over to the consumer.
+ */
+final class ChunkOutputStream extends OutputStream {
+
+    private final int chunkSize;
+    private final Queue<ByteBuffer> chunks = new ArrayDeque<>();
+    private ByteBuffer current;
+
+    /**
+     * Create new instance.
+     *
+     * @param chunkSize size of the chunks
+     */
+    ChunkOutputStream(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    public void write(int b) {
+        if (current == null) {
+            current = ByteBuffer.allocate(chunkSize);
+        }
+        current.put((byte) b);
+        if (!current.hasRemaining()) {
+            queueCurrent();
+        }
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        int written = 0;
+        while (written < length) {
+            if (current == null) {
+                current = ByteBuffer.allocate(chunkSize);
+            }
+            int count = Math.min(length - written, current.remaining());
+            current.put(bytes, offset + written, count);
+            written += count;
+            if (!current.hasRemaining()) {
+                queueCurrent();
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        if (current != null && current.position() > 0) {
+            queueCurrent();
+        }
+        current = null;
+    }
+
+    /**
+     * Remove the oldest queued chunk.
+     *
+     * @return oldest queued chunk, null if there is none
+     */
+    ByteBuffer poll() {
+        return chunks.poll();
+    }
+
+    /**
+     * Whether there is any chunk queued.
+     *
+     * @return whether there is any chunk queued
+     */
+    boolean hasChunk() {
+        return !chunks.isEmpty();
+    }
+
+    private void queueCurrent() {
+        current.flip();
+        chunks.add(current);
+        current = null;
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -23,6 +23,8 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.logging.Level;
+import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
 import jakarta.json.bind.JsonbException;
@@ -36,12 +38,15 @@ import org.eclipse.yasson.internal.model.Property;
 import org.eclipse.yasson.internal.model.PropertyModel;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.GeneratedBindingModel;
 
 /**
  * Created a class internal model.
  */
 class ClassParser {
 
+    private static final Logger LOGGER = Logger.getLogger(ClassParser.class.getName());
+
     private static final String IS_PREFIX = "is";
 
     private static final String GET_PREFIX = "get";
@@ -58,9 +63,26 @@ class ClassParser {
      * Parse class fields and getters setters. Merge to java bean like properties.
      */
     void parseProperties(ClassModel classModel, JsonbAnnotatedElement<Class<?>> classElement) {
-        final Map<String, Property> classProperties = new HashMap<>();
-        parseFields(classElement, classProperties);
-        parseClassAndInterfaceMethods(classElement, classProperties);
+        parseProperties(classModel, classElement, null);
+    }
+
+    /**
+     * Parse class fields and getters setters. Merge to java bean like properties. Fields and methods declared by the class
+     * are taken from the generated model if it lists them, otherwise they are discovered by the reflection.
+     */
+    void parseProperties(ClassModel classModel,
+                         JsonbAnnotatedElement<Class<?>> classElement,
+                         GeneratedBindingModel generatedModel) {
+        Map<String, Property> classProperties = generatedModel == null
+                ? null
+                : AccessController.doPrivileged((PrivilegedAction<Map<String, Property>>) () -> parseDeclaredMembers(
+                        classElement, generatedModel));
+        if (classProperties == null) {
+            classProperties = new HashMap<>();
+            parseFields(classElement, classProperties);
+            parseMethods(classElement.getElement(), classElement, classProperties);
+        }
+        parseInterfaceMethods(classElement, classProperties);
 
         //add sorted properties from parent, if they are not overridden in current class
         //parent properties are by default first by alphabet, than properties from a subclass
@@ -121,15 +143,43 @@ class ClassParser {
         }
     }
 
-    private void parseClassAndInterfaceMethods(JsonbAnnotatedElement<Class<?>> classElement,
-                                               Map<String, Property> classProperties) {
-        Class<?> concreteClass = classElement.getElement();
-        parseMethods(concreteClass, classElement, classProperties);
-        for (Class<?> ifc : jsonbContext.getAnnotationIntrospector().collectInterfaces(concreteClass)) {
+    private void parseInterfaceMethods(JsonbAnnotatedElement<Class<?>> classElement,
+                                       Map<String, Property> classProperties) {
+        for (Class<?> ifc : jsonbContext.getAnnotationIntrospector().collectInterfaces(classElement.getElement())) {
             parseIfaceMethodAnnotations(ifc, classElement, classProperties);
         }
     }
 
+    private Map<String, Property> parseDeclaredMembers(JsonbAnnotatedElement<Class<?>> classElement,
+                                                       GeneratedBindingModel generatedModel) {
+        String[] members = generatedModel.getDeclaredMembers();
+        Class<?>[] types = generatedModel.getDeclaredMemberTypes();
+        if (members == null || types == null || members.length != types.length) {
+            return null;
+        }
+        Class<?> clazz = classElement.getElement();
+        Map<String, Property> classProperties = new HashMap<>();
+        try {
+            for (int i = 0; i < members.length; i++) {
+                String member = members[i];
+                if (member.endsWith("()")) {
+                    String name = member.substring(0, member.length() - 2);
+                    Method method = types[i] == null ? clazz.getDeclaredMethod(name) : clazz.getDeclaredMethod(name, types[i]);
+                    registerMethod(toPropertyMethod(name), method, classElement, classProperties);
+                } else {
+                    Property property = new Property(member, classElement);
+                    property.setField(clazz.getDeclaredField(member));
+                    classProperties.put(member, property);
+                }
+            }
+        } catch (NoSuchFieldException | NoSuchMethodException e) {
+            //generated model does not match the class, members are discovered by the reflection
+            LOGGER.log(Level.FINE, Messages.getMessage(MessageKeys.GENERATED_MEMBER_NOT_FOUND, clazz.getName()), e);
+            return null;
+        }
+        return classProperties;
+    }
+
     private void parseIfaceMethodAnnotations(Class<?> ifc,
                                              JsonbAnnotatedElement<Class<?>> classElement,
                                              Map<String, Property> classProperties) {
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Set;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.CycleDetection;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Detector of the recursive references in the serialized object graph.
+ * <br>
+ * Instances currently being serialized are kept in the identity stack. Stack is scanned linearly, since the depth
+ * of the usual object graph is small. Instances deeper than {@link #LINEAR_SCAN_DEPTH} are also stored in the identity set,
+ * to keep the check fast in the very deep graphs.
+ */
+final class CycleDetector {
+
+    static final int LINEAR_SCAN_DEPTH = 32;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final CycleDetection strategy;
+    private final int maxDepth;
+    private Object[] stack;
+    private Set<Object> deepInstances;
+    private int depth;
+
+    CycleDetector(CycleDetection strategy, int maxDepth) {
+        this.strategy = strategy;
+        this.maxDepth = maxDepth;
+    }
+
+    /**
+     * Register instance which serialization has just started.
+     *
+     * @param instance serialized instance
+     * @return false if the instance is already being serialized, true otherwise
+     */
+    boolean push(Object instance) {
+        switch (strategy) {
+        case OFF:
+            return true;
+        case DEPTH:
+            if (depth >= maxDepth) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.MAX_DEPTH_EXCEEDED, maxDepth, instance.getClass()));
+            }
+            depth++;
+            return true;
+        default:
+            if (contains(instance)) {
+                return false;
+            }
+            if (stack == null) {
+                stack = new Object[INITIAL_CAPACITY];
+            } else if (depth == stack.length) {
+                stack = Arrays.copyOf(stack, depth * 2);
+            }
+            if (depth >= LINEAR_SCAN_DEPTH) {
+                if (deepInstances == null) {
+                    deepInstances = Collections.newSetFromMap(new IdentityHashMap<>());
+                }
+                deepInstances.add(instance);
+            }
+            stack[depth++] = instance;
+            return true;
+        }
+    }
+
+    /**
+     * Unregister instance which serialization has been finished.
+     * <br>
+     * If some instances were not unregistered because their serialization failed, they are unregistered as well.
+     *
+     * @param instance serialized instance
+     * @return if instance was unregistered
+     */
+    boolean pop(Object instance) {
+        switch (strategy) {
+        case OFF:
+            return true;
+        case DEPTH:
+            if (depth > 0) {
+                depth--;
+                return true;
+            }
+            return false;
+        default:
+            for (int i = depth - 1; i >= 0; i--) {
+                if (stack[i] == instance) {
+                    unwind(i);
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    private boolean contains(Object instance) {
+        int linear = Math.min(depth, LINEAR_SCAN_DEPTH);
+        for (int i = 0; i < linear; i++) {
+            if (stack[i] == instance) {
+                return true;
+            }
+        }
+        return depth > LINEAR_SCAN_DEPTH && deepInstances.contains(instance);
+    }
+
+    private void unwind(int newDepth) {
+        for (int i = depth - 1; i >= newDepth; i--) {
+            if (i >= LINEAR_SCAN_DEPTH) {
+                deepInstances.remove(stack[i]);
+            }
+            stack[i] = null;
+        }
+        depth = newDepth;
+    }
+
+}
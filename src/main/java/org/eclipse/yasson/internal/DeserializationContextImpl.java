@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,9 +28,14 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Deserialization context implementation.
+ * <br>
+ * Nested values are deserialized in the child contexts obtained by {@link #childContext()}. Since nested values are
+ * deserialized one after another, every context holds at most one active child, which is reused for each of them.
+ * Child contexts therefore form the stack of the reusable frames for the whole deserialization call.
  */
 public class DeserializationContextImpl extends ProcessingContext implements DeserializationContext {
-    private final List<Runnable> delayedSetters = new ArrayList<>();
+    private List<Runnable> delayedSetters;
+    private DeserializationContextImpl child;
     private JsonParser.Event lastValueEvent;
     private Customization customization = ClassCustomization.empty();
     private Object instance;
@@ -54,6 +59,34 @@ public class DeserializationContextImpl extends ProcessingContext implements Des
         this.lastValueEvent = context.lastValueEvent;
     }
 
+    /**
+     * Return child context for the deserialization of the nested value.
+     * <br>
+     * Returned context is reused by every call of this method. It is reset to the state of the newly created child context
+     * and it must not be used once another child context has been obtained from this context.
+     *
+     * @return reset child context
+     */
+    public DeserializationContextImpl childContext() {
+        DeserializationContextImpl context = child;
+        if (context == null) {
+            context = new DeserializationContextImpl(this);
+            child = context;
+        } else {
+            context.reset(lastValueEvent);
+        }
+        return context;
+    }
+
+    private void reset(JsonParser.Event lastValueEvent) {
+        this.lastValueEvent = lastValueEvent;
+        this.customization = ClassCustomization.empty();
+        this.instance = null;
+        if (delayedSetters != null) {
+            delayedSetters.clear();
+        }
+    }
+
     /**
      * Return instance of currently deserialized type.
      *
@@ -73,12 +106,25 @@ public class DeserializationContextImpl extends ProcessingContext implements Des
     }
 
     /**
-     * Return the list of deferred deserializers.
+     * Add deserializer which will be run once the instance of currently deserialized type is created.
      *
-     * @return list of deferred deserializers
+     * @param deferredDeserializer deferred deserializer
+     */
+    public void addDeferredDeserializer(Runnable deferredDeserializer) {
+        if (delayedSetters == null) {
+            delayedSetters = new ArrayList<>();
+        }
+        delayedSetters.add(deferredDeserializer);
+    }
+
+    /**
+     * Run and remove all the deferred deserializers.
      */
-    public List<Runnable> getDeferredDeserializers() {
-        return delayedSetters;
+    public void runDeferredDeserializers() {
+        if (delayedSetters != null) {
+            delayedSetters.forEach(Runnable::run);
+            delayedSetters.clear();
+        }
     }
 
     /**
@@ -0,0 +1,201 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.EagerParsingListener;
+
+/**
+ * Eagerly parses the configured classes upon creation of the Jsonb instance.
+ * <br>
+ * Classes are parsed one by one on the calling thread, unless the executor is configured or the parsing is
+ * asynchronous. Parsing by the executor is awaited, unless it is asynchronous. Failure of the synchronous parsing
+ * fails the creation of the Jsonb instance, while failure of the asynchronous one is only reported and logged.
+ */
+final class EagerInitializer {
+
+    /**
+     * Class index files listing the classes which can be selected by their package prefix.
+     */
+    static final String CLASS_INDEX = "META-INF/yasson/class-index";
+
+    private static final Logger LOGGER = Logger.getLogger(EagerInitializer.class.getName());
+
+    private final JsonbContext jsonbContext;
+    private final EagerParsingListener listener;
+    private final int total;
+    private final AtomicInteger completed = new AtomicInteger();
+    private final AtomicInteger failed = new AtomicInteger();
+
+    private EagerInitializer(JsonbContext jsonbContext, int total) {
+        this.jsonbContext = jsonbContext;
+        this.listener = jsonbContext.getConfigProperties().getEagerInitListener();
+        this.total = total;
+    }
+
+    /**
+     * Eagerly parse the classes configured by the given context.
+     *
+     * @param jsonbContext context of the created Jsonb instance
+     */
+    static void initialize(JsonbContext jsonbContext) {
+        JsonbConfigProperties configProperties = jsonbContext.getConfigProperties();
+        Set<Class<?>> classes = new LinkedHashSet<>(configProperties.getEagerInitClasses());
+        if (!configProperties.getEagerInitPackages().isEmpty()) {
+            classes.addAll(indexedClasses(configProperties.getEagerInitPackages()));
+        }
+        if (classes.isEmpty()) {
+            return;
+        }
+        EagerInitializer initializer = new EagerInitializer(jsonbContext, classes.size());
+        Executor executor = configProperties.getEagerInitExecutor();
+        if (executor == null && !configProperties.isEagerInitAsync()) {
+            long start = System.nanoTime();
+            for (Class<?> eagerInitClass : classes) {
+                initializer.parse(eagerInitClass);
+            }
+            initializer.finish(start);
+            return;
+        }
+        CompletableFuture<Void> parsing = initializer.parseAll(classes, executor == null ? ForkJoinPool.commonPool() : executor);
+        if (configProperties.isEagerInitAsync()) {
+            return;
+        }
+        try {
+            parsing.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new JsonbException(e.getCause().getMessage(), e.getCause());
+        }
+    }
+
+    private CompletableFuture<Void> parseAll(Set<Class<?>> classes, Executor executor) {
+        long start = System.nanoTime();
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(classes.size());
+        for (Class<?> eagerInitClass : classes) {
+            tasks.add(CompletableFuture.runAsync(() -> parse(eagerInitClass), executor));
+        }
+        return CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0]))
+                .whenComplete((result, error) -> finish(start));
+    }
+
+    private void parse(Class<?> eagerInitClass) {
+        long start = System.nanoTime();
+        try {
+            // Eagerly initialize requested ClassModels and Serializers
+            jsonbContext.getChainModelCreator().deserializerChain(eagerInitClass);
+            jsonbContext.getSerializationModelCreator().serializerChain(eagerInitClass, true, true);
+        } catch (RuntimeException | Error e) {
+            failed.incrementAndGet();
+            int done = completed.incrementAndGet();
+            if (listener != null) {
+                listener.classFailed(eagerInitClass, e, done, total);
+            }
+            if (jsonbContext.getConfigProperties().isEagerInitAsync()) {
+                LOGGER.log(Level.WARNING, Messages.getMessage(MessageKeys.EAGER_PARSING_FAILED, eagerInitClass), e);
+            }
+            throw e;
+        }
+        int done = completed.incrementAndGet();
+        if (listener != null) {
+            listener.classParsed(eagerInitClass, System.nanoTime() - start, done, total);
+        }
+    }
+
+    private void finish(long start) {
+        if (listener != null) {
+            listener.parsingFinished(total, failed.get(), System.nanoTime() - start);
+        }
+    }
+
+    private static Set<Class<?>> indexedClasses(Set<String> packages) {
+        ClassLoader classLoader = AccessController.doPrivileged((PrivilegedAction<ClassLoader>) () -> {
+            ClassLoader contextClassLoader = Thread.currentThread().getContextClassLoader();
+            return contextClassLoader == null ? EagerInitializer.class.getClassLoader() : contextClassLoader;
+        });
+        Set<Class<?>> classes = new LinkedHashSet<>();
+        for (String className : indexedClassNames(classLoader)) {
+            if (!isInPackages(className, packages)) {
+                continue;
+            }
+            try {
+                classes.add(Class.forName(className, false, classLoader));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.log(Level.FINE, Messages.getMessage(MessageKeys.INDEXED_CLASS_NOT_LOADED, className), e);
+            }
+        }
+        return classes;
+    }
+
+    private static Set<String> indexedClassNames(ClassLoader classLoader) {
+        Set<String> classNames = new LinkedHashSet<>();
+        try {
+            Enumeration<URL> indexes = classLoader.getResources(CLASS_INDEX);
+            for (URL index : Collections.list(indexes)) {
+                try (BufferedReader reader = new BufferedReader(new InputStreamReader(index.openStream(),
+                                                                                      StandardCharsets.UTF_8))) {
+                    String line;
+                    while ((line = reader.readLine()) != null) {
+                        line = line.trim();
+                        if (!line.isEmpty() && !line.startsWith("#")) {
+                            classNames.add(line);
+                        }
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.CLASS_INDEX_READ_FAILED, CLASS_INDEX), e);
+        }
+        return classNames;
+    }
+
+    private static boolean isInPackages(String className, Set<String> packages) {
+        for (String prefix : packages) {
+            String packagePrefix = prefix.isEmpty() || prefix.endsWith(".") ? prefix : prefix + ".";
+            if (className.startsWith(packagePrefix)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+}
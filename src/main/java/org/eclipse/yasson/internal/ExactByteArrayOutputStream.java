@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link OutputStream} collecting the bytes for the array of the exact size.
+ * <br>
+ * Bytes are written to the array of the expected size first, overflowing bytes are written to the further chunks
+ * without copying the bytes already written. If the expected size matches the number of bytes written,
+ * the first array is returned as it is, otherwise the bytes are copied to the new array once.
+ */
+final class ExactByteArrayOutputStream extends OutputStream {
+
+    private final byte[] first;
+    private List<byte[]> chunks;
+    private byte[] current;
+    private int position;
+    private int size;
+
+    /**
+     * Create new instance.
+     *
+     * @param expectedSize expected number of the bytes written
+     */
+    ExactByteArrayOutputStream(int expectedSize) {
+        this.first = new byte[Math.max(1, expectedSize)];
+        this.current = first;
+    }
+
+    @Override
+    public void write(int b) {
+        if (position == current.length) {
+            nextChunk();
+        }
+        current[position++] = (byte) b;
+        size++;
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) {
+        int written = 0;
+        while (written < length) {
+            if (position == current.length) {
+                nextChunk();
+            }
+            int count = Math.min(length - written, current.length - position);
+            System.arraycopy(bytes, offset + written, current, position, count);
+            position += count;
+            written += count;
+        }
+        size += length;
+    }
+
+    /**
+     * Number of the bytes written.
+     *
+     * @return number of the bytes written
+     */
+    int size() {
+        return size;
+    }
+
+    /**
+     * Bytes written to this stream.
+     *
+     * @return array of the exact size containing the bytes written
+     */
+    byte[] toByteArray() {
+        if (chunks == null) {
+            return size == first.length ? first : Arrays.copyOf(first, size);
+        }
+        byte[] result = new byte[size];
+        int offset = 0;
+        for (byte[] chunk : chunks) {
+            System.arraycopy(chunk, 0, result, offset, chunk.length);
+            offset += chunk.length;
+        }
+        System.arraycopy(current, 0, result, offset, position);
+        return result;
+    }
+
+    private void nextChunk() {
+        if (chunks == null) {
+            chunks = new ArrayList<>();
+        }
+        chunks.add(current);
+        //chunks grow with the size written, so the large outputs do not end up in many small chunks
+        current = new byte[Math.max(BufferPool.BYTE_BUFFER_SIZE, size)];
+        position = 0;
+    }
+
+}
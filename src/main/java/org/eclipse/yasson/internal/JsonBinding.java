@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,27 +12,40 @@
 
 package org.eclipse.yasson.internal;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Reader;
 import java.io.StringReader;
-import java.io.StringWriter;
 import java.io.Writer;
 import java.lang.reflect.Type;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
-import java.util.Map;
-import java.util.Set;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 import jakarta.json.JsonStructure;
-import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
 import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.YassonJsonb;
+import org.eclipse.yasson.internal.deserializer.PublisherDeserializer;
 import org.eclipse.yasson.internal.jsonstructure.JsonGeneratorToStructureAdapter;
 import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Implementation of Jsonb interface.
@@ -41,14 +54,16 @@ public class JsonBinding implements YassonJsonb {
 
     private final JsonbContext jsonbContext;
 
+    /**
+     * Whether the compact UTF-8 output can be written by {@link Utf8JsonGenerator}. Generators of the JSON-P provider
+     * set explicitly by {@link jakarta.json.bind.JsonbBuilder#withProvider(JsonProvider)} are always used.
+     */
+    private final boolean directUtf8Output;
+
     JsonBinding(JsonBindingBuilder builder) {
         this.jsonbContext = new JsonbContext(builder.getConfig(), builder.getProvider().orElseGet(JsonProvider::provider));
-        Set<Class<?>> eagerInitClasses = this.jsonbContext.getConfigProperties().getEagerInitClasses();
-        for (Class<?> eagerInitClass : eagerInitClasses) {
-            // Eagerly initialize requested ClassModels and Serializers
-            jsonbContext.getChainModelCreator().deserializerChain(eagerInitClass);
-            jsonbContext.getSerializationModelCreator().serializerChain(eagerInitClass, true, true);
-        }
+        this.directUtf8Output = builder.getProvider().isEmpty();
+        EagerInitializer.initialize(jsonbContext);
     }
 
     private <T> T deserialize(final Type type, final JsonParser parser, final DeserializationContextImpl unmarshaller) {
@@ -57,7 +72,7 @@ public class JsonBinding implements YassonJsonb {
 
     @Override
     public <T> T fromJson(String str, Class<T> type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(new StringReader(str))) {
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(new StringReader(str))) {
             final DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
             return deserialize(type, parser, unmarshaller);
         }
@@ -65,7 +80,7 @@ public class JsonBinding implements YassonJsonb {
 
     @Override
     public <T> T fromJson(String str, Type type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(new StringReader(str))) {
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(new StringReader(str))) {
             DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
             return deserialize(type, parser, unmarshaller);
         }
@@ -73,7 +88,7 @@ public class JsonBinding implements YassonJsonb {
 
     @Override
     public <T> T fromJson(Reader reader, Class<T> type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(reader)) {
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(reader)) {
             DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
             return deserialize(type, parser, unmarshaller);
         }
@@ -81,7 +96,7 @@ public class JsonBinding implements YassonJsonb {
 
     @Override
     public <T> T fromJson(Reader reader, Type type) throws JsonbException {
-        try (JsonParser parser = jsonbContext.getJsonProvider().createParser(reader)) {
+        try (JsonParser parser = jsonbContext.getJsonParserFactory().createParser(reader)) {
             DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
             return deserialize(type, parser, unmarshaller);
         }
@@ -117,29 +132,143 @@ public class JsonBinding implements YassonJsonb {
         }
     }
 
+    @Override
+    public <T> T fromJson(byte[] bytes, int offset, int length, Type runtimeType) throws JsonbException {
+        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
+        try (JsonParser parser = inputStreamParser(new ByteArrayInputStream(bytes, offset, length))) {
+            return deserialize(runtimeType, parser, unmarshaller);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(ByteBuffer buffer, Type runtimeType) throws JsonbException {
+        if (buffer.hasArray()) {
+            //heap buffer is read in place, as the byte array range
+            T result = fromJson(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining(), runtimeType);
+            buffer.position(buffer.limit());
+            return result;
+        }
+        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
+        try (JsonParser parser = inputStreamParser(new ByteBufferInputStream(buffer))) {
+            return deserialize(runtimeType, parser, unmarshaller);
+        }
+    }
+
+    @Override
+    public <T> T fromJson(Path path, Type runtimeType) throws JsonbException {
+        DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
+        try (JsonParser parser = inputStreamParser(mappedFile(path))) {
+            return deserialize(runtimeType, parser, unmarshaller);
+        }
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonArrayStream(Path path, Type elementType) throws JsonbException {
+        ArrayElementIterator<T> iterator = arrayElements(inputStreamParser(mappedFile(path)), elementType);
+        return lazyStream(iterator, iterator::close);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonArrayStream(InputStream stream, Type elementType) throws JsonbException {
+        ArrayElementIterator<T> iterator = arrayElements(inputStreamParser(stream), elementType);
+        return lazyStream(iterator, iterator::close);
+    }
+
+    @Override
+    public <T> Iterator<T> fromJsonArrayIterator(InputStream stream, Type elementType) throws JsonbException {
+        return arrayElements(inputStreamParser(stream), elementType);
+    }
+
+    private <T> ArrayElementIterator<T> arrayElements(JsonParser parser, Type elementType) {
+        try {
+            return new ArrayElementIterator<>(jsonbContext, parser, elementType);
+        } catch (RuntimeException e) {
+            parser.close();
+            throw e;
+        }
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonLines(InputStream stream, Type type) throws JsonbException {
+        JsonLinesIterator<T> iterator = JsonLinesIterator.create(jsonbContext, stream, type);
+        return lazyStream(iterator, iterator::close);
+    }
+
+    @Override
+    public <T> Stream<T> fromJsonLines(Reader reader, Type type) throws JsonbException {
+        JsonLinesIterator<T> iterator = JsonLinesIterator.create(jsonbContext, reader, type);
+        return lazyStream(iterator, iterator::close);
+    }
+
+    private static <T> Stream<T> lazyStream(Iterator<T> iterator, Runnable closeHandler) {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(iterator, Spliterator.ORDERED), false)
+                .onClose(closeHandler);
+    }
+
+    private static InputStream mappedFile(Path path) {
+        try {
+            return new MappedFileInputStream(path, MappedFileInputStream.WINDOW_SIZE);
+        } catch (IOException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.FILE_READ_FAILED, path), e);
+        }
+    }
+
+    @Override
+    public <T> CompletionStage<T> fromJson(Flow.Publisher<ByteBuffer> publisher, Type runtimeType) throws JsonbException {
+        Charset charset = jsonbContext.getCharset();
+        if (!StandardCharsets.UTF_8.equals(charset)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.UNSUPPORTED_ASYNC_ENCODING, charset));
+        }
+        PublisherDeserializer<T> subscriber = new PublisherDeserializer<>(jsonbContext, runtimeType);
+        publisher.subscribe(subscriber);
+        return subscriber.result();
+    }
+
+    @Override
+    public Flow.Publisher<ByteBuffer> toJsonPublisher(Object object, Type runtimeType) throws JsonbException {
+        return new JsonPublisher(new SerializationContextImpl(jsonbContext, runtimeType), object, this::streamGenerator);
+    }
+
     private JsonParser inputStreamParser(InputStream stream) {
-        return jsonbContext.getJsonParserFactory()
-                .createParser(stream,
-                              Charset.forName((String) jsonbContext.getConfig()
-                                      .getProperty(JsonbConfig.ENCODING).orElse("UTF-8")));
+        return jsonbContext.getJsonParserFactory().createParser(stream, jsonbContext.getCharset());
     }
 
     @Override
     public String toJson(Object object) throws JsonbException {
-        StringWriter writer = new StringWriter();
-        try (JsonGenerator generator = writerGenerator(writer)) {
-            new SerializationContextImpl(jsonbContext).marshall(object, generator);
-        }
-        return writer.toString();
+        return toJsonString(object, new SerializationContextImpl(jsonbContext));
     }
 
     @Override
     public String toJson(Object object, Type type) throws JsonbException {
-        StringWriter writer = new StringWriter();
-        try (JsonGenerator generator = writerGenerator(writer)) {
-            new SerializationContextImpl(jsonbContext, type).marshall(object, generator);
+        return toJsonString(object, new SerializationContextImpl(jsonbContext, type));
+    }
+
+    private String toJsonString(Object object, SerializationContextImpl marshaller) {
+        OutputSizeEstimator sizeEstimator = jsonbContext.getOutputSizeEstimator();
+        Class<?> rootType = object == null ? Object.class : object.getClass();
+        CharBufferWriter writer = new CharBufferWriter(jsonbContext.getBufferPool(), sizeEstimator.estimateSize(rootType));
+        try {
+            try (JsonGenerator generator = writerGenerator(writer)) {
+                marshaller.marshall(object, generator);
+            }
+            sizeEstimator.recordSize(rootType, writer.size());
+            return writer.toString();
+        } finally {
+            writer.release();
+        }
+    }
+
+    @Override
+    public void toJson(Object object, StringBuilder builder) throws JsonbException {
+        appendJson(object, builder);
+    }
+
+    @Override
+    public void appendJson(Object object, Appendable appendable) throws JsonbException {
+        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
+        try (JsonGenerator generator = writerGenerator(new AppendableWriter(appendable))) {
+            marshaller.marshallWithoutClose(object, generator);
         }
-        return writer.toString();
     }
 
     @Override
@@ -159,11 +288,7 @@ public class JsonBinding implements YassonJsonb {
     }
 
     private JsonGenerator writerGenerator(Writer writer) {
-        Map<String, ?> factoryProperties = jsonbContext.createJsonpProperties(jsonbContext.getConfig());
-        if (factoryProperties.isEmpty()) {
-            return jsonbContext.getJsonProvider().createGenerator(writer);
-        }
-        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties).createGenerator(writer);
+        return jsonbContext.getJsonGeneratorFactory().createGenerator(writer);
     }
 
     @Override
@@ -182,6 +307,47 @@ public class JsonBinding implements YassonJsonb {
         }
     }
 
+    @Override
+    public byte[] toJsonBytes(Object object) throws JsonbException {
+        OutputSizeEstimator sizeEstimator = jsonbContext.getOutputSizeEstimator();
+        Class<?> rootType = object == null ? Object.class : object.getClass();
+        ExactByteArrayOutputStream stream = new ExactByteArrayOutputStream(sizeEstimator.estimateSize(rootType));
+        toJson(object, stream);
+        sizeEstimator.recordSize(rootType, stream.size());
+        return stream.toByteArray();
+    }
+
+    @Override
+    public void toJson(Object object, ByteBuffer buffer) throws JsonbException {
+        final int remaining = buffer.remaining();
+        try {
+            toJson(object, new ByteBufferOutputStream(buffer));
+        } catch (BufferOverflowException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.BUFFER_OVERFLOW, remaining), e);
+        } catch (JsonbException e) {
+            if (e.getCause() instanceof BufferOverflowException) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.BUFFER_OVERFLOW, remaining), e.getCause());
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public void toJson(Object object, WritableByteChannel channel) throws JsonbException {
+        toJson(object, new ChannelOutputStream(channel));
+    }
+
+    @Override
+    public void toJsonLines(Iterator<?> values, OutputStream stream) throws JsonbException {
+        final SerializationContextImpl marshaller = new SerializationContextImpl(jsonbContext);
+        marshaller.marshallAll(values, new Utf8JsonGenerator(stream, jsonbContext.getBufferPool(), true));
+    }
+
+    @Override
+    public void toJsonLines(Stream<?> values, OutputStream stream) throws JsonbException {
+        toJsonLines(values.iterator(), stream);
+    }
+
     @Override
     public <T> T fromJson(JsonParser jsonParser, Class<T> type) throws JsonbException {
         DeserializationContextImpl unmarshaller = new DeserializationContextImpl(jsonbContext);
@@ -223,15 +389,17 @@ public class JsonBinding implements YassonJsonb {
     }
 
     private JsonGenerator streamGenerator(OutputStream stream) {
-        Map<String, ?> factoryProperties = jsonbContext.createJsonpProperties(jsonbContext.getConfig());
-        final String encoding = (String) jsonbContext.getConfig().getProperty(JsonbConfig.ENCODING).orElse("UTF-8");
-        return jsonbContext.getJsonProvider().createGeneratorFactory(factoryProperties)
-                .createGenerator(stream, Charset.forName(encoding));
+        final Charset charset = jsonbContext.getCharset();
+        if (directUtf8Output && jsonbContext.getJsonpProperties().isEmpty() && StandardCharsets.UTF_8.equals(charset)) {
+            //compact UTF-8 output is written directly, without the charset encoder
+            return new Utf8JsonGenerator(stream, jsonbContext.getBufferPool());
+        }
+        return jsonbContext.getJsonGeneratorFactory().createGenerator(stream, charset);
     }
 
     @Override
     public void close() throws Exception {
-        jsonbContext.getComponentInstanceCreator().close();
+        jsonbContext.close();
     }
 
 }
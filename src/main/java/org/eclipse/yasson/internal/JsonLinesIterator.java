@@ -0,0 +1,301 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.ByteArrayInputStream;
+import java.io.CharArrayReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.eclipse.yasson.internal.deserializer.ModelDeserializer;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.JsonBufferPool;
+
+/**
+ * Iterator lazily deserializing the values of the JSON Lines input, one value per line.
+ * <br>
+ * Lines are read into a single reused line buffer and parsed from it in place. All the values are deserialized
+ * by the same deserialization context and the value deserializer resolved once for all the lines. Blank lines are
+ * skipped. Input is closed once its end is reached, deserialization fails or the iterator is {@link #close() closed}.
+ *
+ * @param <T> type of the values
+ */
+abstract class JsonLinesIterator<T> implements Iterator<T>, AutoCloseable {
+
+    private static final int INITIAL_LINE_SIZE = 256;
+
+    private final JsonParserFactory parserFactory;
+    private final DeserializationContextImpl context;
+    private final ModelDeserializer<JsonParser> deserializer;
+
+    /**
+     * Number of the last line read.
+     */
+    int lineNumber;
+    private boolean finished;
+    private boolean ready;
+    private T next;
+
+    private JsonLinesIterator(JsonbContext jsonbContext, Type type) {
+        this.parserFactory = jsonbContext.getJsonParserFactory();
+        this.context = new DeserializationContextImpl(jsonbContext);
+        this.deserializer = jsonbContext.getChainModelCreator().deserializerChain(type);
+    }
+
+    /**
+     * Create iterator of the UTF-8 encoded JSON Lines.
+     *
+     * @param jsonbContext jsonb context
+     * @param stream       input stream
+     * @param type         type of the values
+     * @param <T>          type of the values
+     * @return JSON Lines iterator
+     */
+    static <T> JsonLinesIterator<T> create(JsonbContext jsonbContext, InputStream stream, Type type) {
+        return new ByteLines<>(jsonbContext, stream, type);
+    }
+
+    /**
+     * Create iterator of the JSON Lines.
+     *
+     * @param jsonbContext jsonb context
+     * @param reader       input reader
+     * @param type         type of the values
+     * @param <T>          type of the values
+     * @return JSON Lines iterator
+     */
+    static <T> JsonLinesIterator<T> create(JsonbContext jsonbContext, Reader reader, Type type) {
+        return new CharLines<>(jsonbContext, reader, type);
+    }
+
+    /**
+     * Read the next non blank line into the line buffer.
+     *
+     * @return whether the line has been read, false at the end of input
+     * @throws IOException if reading of the input fails
+     */
+    abstract boolean readLine() throws IOException;
+
+    /**
+     * Create parser of the line which has been read.
+     *
+     * @param parserFactory parser factory
+     * @return line parser
+     */
+    abstract JsonParser lineParser(JsonParserFactory parserFactory);
+
+    /**
+     * Close the input.
+     *
+     * @throws IOException if closing of the input fails
+     */
+    abstract void closeInput() throws IOException;
+
+    @Override
+    public boolean hasNext() {
+        if (!ready && !finished) {
+            advance();
+        }
+        return ready;
+    }
+
+    @Override
+    public T next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        T value = next;
+        next = null;
+        ready = false;
+        return value;
+    }
+
+    @SuppressWarnings("unchecked")
+    private void advance() {
+        boolean complete;
+        try {
+            if (!readLine()) {
+                close();
+                return;
+            }
+            try (JsonParser parser = lineParser(parserFactory)) {
+                JsonParser.Event event = parser.next();
+                context.setLastValueEvent(event);
+                next = (T) deserializer.deserialize(parser, context.childContext());
+                complete = !parser.hasNext();
+            }
+        } catch (IOException | RuntimeException e) {
+            //deserialization failures are wrapped as well, so the line number is always reported
+            close();
+            throw new JsonbException(Messages.getMessage(MessageKeys.JSON_LINES_INVALID_LINE, lineNumber), e);
+        }
+        if (!complete) {
+            close();
+            throw new JsonbException(Messages.getMessage(MessageKeys.JSON_LINES_INVALID_LINE, lineNumber));
+        }
+        ready = true;
+    }
+
+    @Override
+    public void close() {
+        if (!finished) {
+            finished = true;
+            try {
+                closeInput();
+            } catch (IOException e) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+            }
+        }
+    }
+
+    private static boolean isBlank(int c) {
+        return c == ' ' || c == '\t' || c == '\r';
+    }
+
+    private static final class ByteLines<T> extends JsonLinesIterator<T> {
+
+        private final InputStream stream;
+        private final JsonBufferPool bufferPool;
+        private byte[] buffer;
+        private int position;
+        private int limit;
+        private byte[] line = new byte[INITIAL_LINE_SIZE];
+        private int lineLength;
+
+        private ByteLines(JsonbContext jsonbContext, InputStream stream, Type type) {
+            super(jsonbContext, type);
+            this.stream = stream;
+            this.bufferPool = jsonbContext.getBufferPool();
+            this.buffer = bufferPool.takeBytes();
+        }
+
+        @Override
+        boolean readLine() throws IOException {
+            boolean blank = true;
+            lineLength = 0;
+            while (true) {
+                if (position == limit) {
+                    limit = stream.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        if (!blank) {
+                            lineNumber++;
+                            return true;
+                        }
+                        return false;
+                    }
+                }
+                byte b = buffer[position++];
+                if (b == '\n') {
+                    lineNumber++;
+                    if (!blank) {
+                        return true;
+                    }
+                    lineLength = 0;
+                    continue;
+                }
+                blank &= isBlank(b);
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, lineLength * 2);
+                }
+                line[lineLength++] = b;
+            }
+        }
+
+        @Override
+        JsonParser lineParser(JsonParserFactory parserFactory) {
+            return parserFactory.createParser(new ByteArrayInputStream(line, 0, lineLength), StandardCharsets.UTF_8);
+        }
+
+        @Override
+        void closeInput() throws IOException {
+            bufferPool.releaseBytes(buffer);
+            buffer = null;
+            stream.close();
+        }
+
+    }
+
+    private static final class CharLines<T> extends JsonLinesIterator<T> {
+
+        private final Reader reader;
+        private final char[] buffer = new char[BufferPool.BYTE_BUFFER_SIZE];
+        private int position;
+        private int limit;
+        private char[] line = new char[INITIAL_LINE_SIZE];
+        private int lineLength;
+
+        private CharLines(JsonbContext jsonbContext, Reader reader, Type type) {
+            super(jsonbContext, type);
+            this.reader = reader;
+        }
+
+        @Override
+        boolean readLine() throws IOException {
+            boolean blank = true;
+            lineLength = 0;
+            while (true) {
+                if (position == limit) {
+                    limit = reader.read(buffer, 0, buffer.length);
+                    position = 0;
+                    if (limit <= 0) {
+                        limit = 0;
+                        if (!blank) {
+                            lineNumber++;
+                            return true;
+                        }
+                        return false;
+                    }
+                }
+                char c = buffer[position++];
+                if (c == '\n') {
+                    lineNumber++;
+                    if (!blank) {
+                        return true;
+                    }
+                    lineLength = 0;
+                    continue;
+                }
+                blank &= isBlank(c);
+                if (lineLength == line.length) {
+                    line = Arrays.copyOf(line, lineLength * 2);
+                }
+                line[lineLength++] = c;
+            }
+        }
+
+        @Override
+        JsonParser lineParser(JsonParserFactory parserFactory) {
+            return parserFactory.createParser(new CharArrayReader(line, 0, lineLength));
+        }
+
+        @Override
+        void closeInput() throws IOException {
+            reader.close();
+        }
+
+    }
+
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Objects;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.function.Function;
+
+import jakarta.json.stream.JsonGenerator;
+
+/**
+ * Publisher of the serialized JSON as the chunks of the fixed size.
+ * <br>
+ * Value is serialized in steps on the thread requesting the chunks, only as far as needed to satisfy the outstanding
+ * demand. When the demand drops to zero, serialization stops after the current step and it is resumed from there
+ * by the next request. Publisher accepts a single subscriber.
+ */
+final class JsonPublisher implements Flow.Publisher<ByteBuffer> {
+
+    private final SerializationContextImpl marshaller;
+    private final Object object;
+    private final Function<OutputStream, JsonGenerator> generatorFactory;
+    private final AtomicBoolean subscribed = new AtomicBoolean();
+
+    /**
+     * Create new instance.
+     *
+     * @param marshaller       marshaller of the published value
+     * @param object           published value
+     * @param generatorFactory factory of the generator writing to the given stream
+     */
+    JsonPublisher(SerializationContextImpl marshaller, Object object, Function<OutputStream, JsonGenerator> generatorFactory) {
+        this.marshaller = marshaller;
+        this.object = object;
+        this.generatorFactory = generatorFactory;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+        Objects.requireNonNull(subscriber);
+        if (subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new ChunkSubscription(subscriber));
+            return;
+        }
+        subscriber.onSubscribe(new Flow.Subscription() {
+            @Override
+            public void request(long n) {
+            }
+
+            @Override
+            public void cancel() {
+            }
+        });
+        subscriber.onError(new IllegalStateException("JSON publisher accepts a single subscriber"));
+    }
+
+    private final class ChunkSubscription implements Flow.Subscription {
+
+        private final Flow.Subscriber<? super ByteBuffer> subscriber;
+        private final ChunkOutputStream output = new ChunkOutputStream(BufferPool.BYTE_BUFFER_SIZE);
+        private final AtomicLong demand = new AtomicLong();
+        private final AtomicInteger drains = new AtomicInteger();
+        private volatile boolean cancelled;
+        private volatile Throwable failure;
+        //accessed only by the thread draining the chunks
+        private JsonGenerator generator;
+        private BooleanSupplier steps;
+        private boolean serialized;
+        private boolean done;
+
+        private ChunkSubscription(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                failure = new IllegalArgumentException("Number of requested chunks must be positive: " + n);
+            } else {
+                demand.getAndUpdate(current -> Long.MAX_VALUE - current < n ? Long.MAX_VALUE : current + n);
+            }
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        private void drain() {
+            //only one thread emits at a time, requests made meanwhile are handled by it
+            if (drains.getAndIncrement() != 0) {
+                return;
+            }
+            do {
+                emit();
+            } while (drains.decrementAndGet() != 0);
+        }
+
+        private void emit() {
+            while (!done) {
+                if (cancelled) {
+                    terminate();
+                    return;
+                }
+                if (failure != null) {
+                    terminate();
+                    subscriber.onError(failure);
+                    return;
+                }
+                if (output.hasChunk()) {
+                    if (demand.get() == 0) {
+                        return;
+                    }
+                    demand.decrementAndGet();
+                    subscriber.onNext(output.poll());
+                } else if (serialized) {
+                    done = true;
+                    subscriber.onComplete();
+                } else if (demand.get() > 0) {
+                    step();
+                } else {
+                    return;
+                }
+            }
+        }
+
+        private void step() {
+            try {
+                if (steps == null) {
+                    generator = generatorFactory.apply(output);
+                    steps = marshaller.marshallInSteps(object, generator);
+                }
+                serialized = !steps.getAsBoolean();
+            } catch (RuntimeException e) {
+                failure = e;
+            }
+        }
+
+        private void terminate() {
+            done = true;
+            if (!serialized && generator != null) {
+                try {
+                    //releases the generator buffers
+                    generator.close();
+                } catch (RuntimeException ignored) {
+                    //incomplete JSON is expected to be reported
+                }
+            }
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2017, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2017, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2020 Payara Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -21,6 +21,7 @@ import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -28,6 +29,7 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Executor;
 import java.util.function.Consumer;
 
 import jakarta.json.bind.JsonbConfig;
@@ -39,6 +41,7 @@ import jakarta.json.bind.config.PropertyOrderStrategy;
 import jakarta.json.bind.config.PropertyVisibilityStrategy;
 import jakarta.json.bind.serializer.JsonbSerializer;
 
+import org.eclipse.yasson.CycleDetection;
 import org.eclipse.yasson.YassonConfig;
 import org.eclipse.yasson.internal.model.PropertyModel;
 import org.eclipse.yasson.internal.model.ReverseTreeMap;
@@ -47,6 +50,8 @@ import org.eclipse.yasson.internal.model.customization.StrategiesProvider;
 import org.eclipse.yasson.internal.model.customization.VisibilityStrategiesProvider;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.EagerParsingListener;
+import org.eclipse.yasson.spi.JsonBufferPool;
 
 /**
  * Resolved properties from JSONB config.
@@ -77,6 +82,17 @@ public class JsonbConfigProperties {
     private final JsonbSerializer<Object> nullSerializer;
     private final Set<Class<?>> eagerInitClasses;
     private final boolean forceMapArraySerializerForNullKeys;
+    private final boolean generatedAccessors;
+    private final CycleDetection cycleDetection;
+    private final int maxDepth;
+    private final int streamFlushInterval;
+    private final Map<String, ?> jsonpProperties;
+    private final JsonBufferPool bufferPool;
+    private final Set<String> eagerInitPackages;
+    private final Executor eagerInitExecutor;
+    private final boolean eagerInitAsync;
+    private final EagerParsingListener eagerInitListener;
+    private final boolean sharedModelCache;
 
     /**
      * Creates new resolved JSONB config.
@@ -102,6 +118,17 @@ public class JsonbConfigProperties {
         this.requiredCreatorParameters = initRequiredCreatorParameters();
         this.forceMapArraySerializerForNullKeys = initForceMapArraySerializerForNullKeys();
         this.dateInMillisecondsAsString = initDateInMillisecondsAsString();
+        this.generatedAccessors = initGeneratedAccessors();
+        this.cycleDetection = initCycleDetection();
+        this.maxDepth = initMaxDepth();
+        this.streamFlushInterval = initStreamFlushInterval();
+        this.jsonpProperties = initJsonpProperties();
+        this.bufferPool = initBufferPool();
+        this.eagerInitPackages = initEagerInitPackages();
+        this.eagerInitExecutor = initEagerInitExecutor();
+        this.eagerInitAsync = initEagerInitAsync();
+        this.eagerInitListener = initEagerInitListener();
+        this.sharedModelCache = initSharedModelCache();
     }
 
     private Class<? extends Map> initDefaultMapImplType() {
@@ -233,10 +260,75 @@ public class JsonbConfigProperties {
         return new HashSet<>(Arrays.asList((Class<?>[]) eagerInitClasses));
     }
 
+    private Set<String> initEagerInitPackages() {
+        Optional<Object> property = jsonbConfig.getProperty(YassonConfig.EAGER_PARSE_PACKAGES);
+        if (property.isEmpty()) {
+            return Collections.emptySet();
+        }
+        Object eagerInitPackages = property.get();
+        if (!(eagerInitPackages instanceof String[])) {
+            throw new JsonbException("YassonConfig.EAGER_PARSE_PACKAGES must be instance of String[]");
+        }
+        return new LinkedHashSet<>(Arrays.asList((String[]) eagerInitPackages));
+    }
+
+    private Executor initEagerInitExecutor() {
+        return jsonbConfig.getProperty(YassonConfig.EAGER_PARSE_EXECUTOR)
+                .map(o -> {
+                    if (!(o instanceof Executor)) {
+                        throw new JsonbException("YassonConfig.EAGER_PARSE_EXECUTOR must be instance of " + Executor.class);
+                    }
+                    return (Executor) o;
+                }).orElse(null);
+    }
+
+    private boolean initEagerInitAsync() {
+        return getConfigProperty(YassonConfig.EAGER_PARSE_ASYNC, Boolean.class, false);
+    }
+
+    private EagerParsingListener initEagerInitListener() {
+        return jsonbConfig.getProperty(YassonConfig.EAGER_PARSE_LISTENER)
+                .map(o -> {
+                    if (!(o instanceof EagerParsingListener)) {
+                        throw new JsonbException("YassonConfig.EAGER_PARSE_LISTENER must be instance of "
+                                                         + EagerParsingListener.class);
+                    }
+                    return (EagerParsingListener) o;
+                }).orElse(null);
+    }
+
+    private boolean initSharedModelCache() {
+        return getConfigProperty(YassonConfig.SHARED_MODEL_CACHE, Boolean.class, false);
+    }
+
     private boolean initForceMapArraySerializerForNullKeys() {
         return getConfigProperty(YassonConfig.FORCE_MAP_ARRAY_SERIALIZER_FOR_NULL_KEYS, Boolean.class, false);
     }
 
+    private boolean initGeneratedAccessors() {
+        return getConfigProperty(YassonConfig.GENERATED_ACCESSORS, Boolean.class, false);
+    }
+
+    private CycleDetection initCycleDetection() {
+        return getConfigProperty(YassonConfig.CYCLE_DETECTION, CycleDetection.class, CycleDetection.IDENTITY);
+    }
+
+    private int initMaxDepth() {
+        int value = getConfigProperty(YassonConfig.MAX_DEPTH, Integer.class, 1000);
+        if (value < 1) {
+            throw new JsonbException("YassonConfig.MAX_DEPTH must be a positive number");
+        }
+        return value;
+    }
+
+    private int initStreamFlushInterval() {
+        int value = getConfigProperty(YassonConfig.STREAM_FLUSH_INTERVAL, Integer.class, 0);
+        if (value < 0) {
+            throw new JsonbException("YassonConfig.STREAM_FLUSH_INTERVAL must not be a negative number");
+        }
+        return value;
+    }
+
     /**
      * Gets nullable from {@link JsonbConfig}.
      * If true null values are serialized to json.
@@ -259,6 +351,15 @@ public class JsonbConfigProperties {
         return failOnUnknownProperties;
     }
 
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> initJsonpProperties() {
+        return getConfigProperty(YassonConfig.JSONP_PROPERTIES, Map.class, Collections.emptyMap());
+    }
+
+    private JsonBufferPool initBufferPool() {
+        return getConfigProperty(YassonConfig.BUFFER_POOL, JsonBufferPool.class, new BufferPool());
+    }
+
     private <T> T getConfigProperty(String propertyName, Class<T> propertyType, T defaultValue) {
         Objects.requireNonNull(defaultValue, "Default value cannot be null");
         return jsonbConfig.getProperty(propertyName)
@@ -408,4 +509,103 @@ public class JsonbConfigProperties {
     public boolean isDateInMillisecondsAsString() {
         return dateInMillisecondsAsString;
     }
+
+    /**
+     * Whether generated property accessors should be used instead of reflection.
+     *
+     * @return true if accessors should be generated
+     */
+    public boolean isGeneratedAccessors() {
+        return generatedAccessors;
+    }
+
+    /**
+     * Strategy of the recursive reference detection.
+     *
+     * @return cycle detection strategy
+     */
+    public CycleDetection getCycleDetection() {
+        return cycleDetection;
+    }
+
+    /**
+     * Maximum depth of the serialized object graph.
+     *
+     * @return maximum depth
+     */
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    /**
+     * Number of the sequence elements written between the generator flushes, zero if not flushed.
+     *
+     * @return stream flush interval
+     */
+    public int getStreamFlushInterval() {
+        return streamFlushInterval;
+    }
+
+    /**
+     * Properties passed to the JSON-P provider as they are.
+     *
+     * @return JSON-P provider properties
+     */
+    public Map<String, ?> getJsonpProperties() {
+        return jsonpProperties;
+    }
+
+    /**
+     * Pool of the output buffers.
+     *
+     * @return buffer pool
+     */
+    public JsonBufferPool getBufferPool() {
+        return bufferPool;
+    }
+
+    /**
+     * Package prefixes of the indexed classes to eagerly parse.
+     *
+     * @return eager parsing package prefixes
+     */
+    public Set<String> getEagerInitPackages() {
+        return eagerInitPackages;
+    }
+
+    /**
+     * Executor parsing the classes eagerly, null if not set.
+     *
+     * @return eager parsing executor
+     */
+    public Executor getEagerInitExecutor() {
+        return eagerInitExecutor;
+    }
+
+    /**
+     * Whether the classes are parsed eagerly in the background.
+     *
+     * @return whether eager parsing is asynchronous
+     */
+    public boolean isEagerInitAsync() {
+        return eagerInitAsync;
+    }
+
+    /**
+     * Listener of the eager parsing progress, null if not set.
+     *
+     * @return eager parsing listener
+     */
+    public EagerParsingListener getEagerInitListener() {
+        return eagerInitListener;
+    }
+
+    /**
+     * Whether the models are shared with the other Jsonb instances with the equivalent configuration.
+     *
+     * @return whether the shared model cache is used
+     */
+    public boolean isSharedModelCache() {
+        return sharedModelCache;
+    }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,9 +12,11 @@
 
 package org.eclipse.yasson.internal;
 
+import java.nio.charset.Charset;
 import java.security.AccessController;
 import java.security.PrivilegedAction;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
@@ -22,12 +24,14 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.ServiceLoader;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.logging.Logger;
 
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.spi.JsonProvider;
 import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
 import jakarta.json.stream.JsonParserFactory;
 
 import org.eclipse.yasson.internal.components.JsonbComponentInstanceCreatorFactory;
@@ -35,6 +39,7 @@ import org.eclipse.yasson.internal.deserializer.DeserializationModelCreator;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 import org.eclipse.yasson.internal.serializer.SerializationModelCreator;
+import org.eclipse.yasson.spi.JsonBufferPool;
 import org.eclipse.yasson.spi.JsonbComponentInstanceCreator;
 
 /**
@@ -56,14 +61,26 @@ public class JsonbContext {
 
     private final JsonProvider jsonProvider;
 
+    private final Map<String, ?> jsonpProperties;
+
     private final JsonParserFactory jsonParserFactory;
 
+    private final JsonGeneratorFactory jsonGeneratorFactory;
+
+    private final Charset charset;
+
     private final ComponentMatcher componentMatcher;
 
     private final AnnotationIntrospector annotationIntrospector;
 
     private final JsonbConfigProperties configProperties;
 
+    private final OutputSizeEstimator outputSizeEstimator = new OutputSizeEstimator();
+
+    private final SharedModelCache.Share sharedModels;
+
+    private final AtomicBoolean closed = new AtomicBoolean();
+
     /**
      * Creates and initialize context.
      *
@@ -71,17 +88,59 @@ public class JsonbContext {
      * @param jsonProvider provider of JSONP
      */
     public JsonbContext(JsonbConfig jsonbConfig, JsonProvider jsonProvider) {
+        this(jsonbConfig, jsonProvider, true);
+    }
+
+    /**
+     * Creates and initialize context.
+     *
+     * @param jsonbConfig       jsonb jsonbConfig not null
+     * @param jsonProvider      provider of JSONP
+     * @param allowSharedModels whether the models can be shared with the other contexts, if enabled by the config
+     */
+    JsonbContext(JsonbConfig jsonbConfig, JsonProvider jsonProvider, boolean allowSharedModels) {
         Objects.requireNonNull(jsonbConfig);
         this.jsonbConfig = jsonbConfig;
-        this.mappingContext = new MappingContext(this);
-        this.componentInstanceCreator = initComponentInstanceCreator();
-        this.componentMatcher = new ComponentMatcher(this);
-        this.annotationIntrospector = new AnnotationIntrospector(this);
         this.jsonProvider = jsonProvider;
-        this.jsonParserFactory = initJsonParserFactory();
         this.configProperties = new JsonbConfigProperties(jsonbConfig);
-        this.deserializationModelCreator = new DeserializationModelCreator(this);
-        this.serializationModelCreator = new SerializationModelCreator(this);
+        this.sharedModels = allowSharedModels && configProperties.isSharedModelCache()
+                ? SharedModelCache.acquire(this, SharedModelCache.fingerprint(jsonbConfig, jsonProvider), jsonbConfig, jsonProvider)
+                : null;
+        if (sharedModels == null) {
+            this.componentInstanceCreator = initComponentInstanceCreator();
+            this.componentMatcher = new ComponentMatcher(this);
+            this.annotationIntrospector = new AnnotationIntrospector(this);
+            this.mappingContext = new MappingContext(this);
+            this.deserializationModelCreator = new DeserializationModelCreator(this);
+            this.serializationModelCreator = new SerializationModelCreator(this);
+        } else {
+            JsonbContext modelOwner = sharedModels.owner();
+            this.componentInstanceCreator = modelOwner.componentInstanceCreator;
+            this.componentMatcher = modelOwner.componentMatcher;
+            this.annotationIntrospector = modelOwner.annotationIntrospector;
+            this.mappingContext = modelOwner.mappingContext;
+            this.deserializationModelCreator = modelOwner.deserializationModelCreator;
+            this.serializationModelCreator = modelOwner.serializationModelCreator;
+        }
+        this.jsonpProperties = Collections.unmodifiableMap(createJsonpProperties(jsonbConfig));
+        this.jsonParserFactory = jsonProvider.createParserFactory(jsonpProperties);
+        this.jsonGeneratorFactory = jsonProvider.createGeneratorFactory(jsonpProperties);
+        this.charset = Charset.forName((String) jsonbConfig.getProperty(JsonbConfig.ENCODING).orElse("UTF-8"));
+    }
+
+    /**
+     * Releases the models of this context. Shared models are released once they are not used by any other context.
+     *
+     * @throws Exception if the component instance creator cannot be closed
+     */
+    void close() throws Exception {
+        if (!closed.compareAndSet(false, true)) {
+            return;
+        }
+        JsonbContext modelOwner = sharedModels == null ? this : sharedModels.close();
+        if (modelOwner != null) {
+            modelOwner.getComponentInstanceCreator().close();
+        }
     }
 
     /**
@@ -164,12 +223,54 @@ public class JsonbContext {
         return jsonParserFactory;
     }
 
-    private JsonParserFactory initJsonParserFactory() {
-        return jsonProvider.createParserFactory(createJsonpProperties(jsonbConfig));
+    /**
+     * Generator factory created with the {@link #getJsonpProperties() JSON-P properties}.
+     *
+     * @return generator factory
+     */
+    public JsonGeneratorFactory getJsonGeneratorFactory() {
+        return jsonGeneratorFactory;
+    }
+
+    /**
+     * Properties the JSON-P factories have been created with.
+     *
+     * @return JSON-P properties
+     */
+    public Map<String, ?> getJsonpProperties() {
+        return jsonpProperties;
+    }
+
+    /**
+     * Configured encoding of the binary JSON data.
+     *
+     * @return configured charset
+     */
+    public Charset getCharset() {
+        return charset;
+    }
+
+    /**
+     * Pool of the output buffers.
+     *
+     * @return buffer pool
+     */
+    public JsonBufferPool getBufferPool() {
+        return configProperties.getBufferPool();
+    }
+
+    /**
+     * Running estimate of the output sizes.
+     *
+     * @return output size estimator
+     */
+    public OutputSizeEstimator getOutputSizeEstimator() {
+        return outputSizeEstimator;
     }
 
     /**
      * Propagates properties from JsonbConfig to JSONP generator / parser factories.
+     * Properties set by {@link org.eclipse.yasson.YassonConfig#withJsonpProperties(Map)} are passed as they are.
      *
      * @param jsonbConfig jsonb config
      * @return properties for JSONP generator / parser
@@ -177,7 +278,7 @@ public class JsonbContext {
     protected Map<String, ?> createJsonpProperties(JsonbConfig jsonbConfig) {
         //JSONP 1.0 actually ignores the value, just checks the key is present. Only set if JsonbConfig.FORMATTING is true.
         final Optional<Object> property = jsonbConfig.getProperty(JsonbConfig.FORMATTING);
-        final Map<String, Object> factoryProperties = new HashMap<>();
+        final Map<String, Object> factoryProperties = new HashMap<>(configProperties.getJsonpProperties());
         if (property.isPresent()) {
             final Object value = property.get();
             if (!(value instanceof Boolean)) {
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,15 +12,26 @@
 
 package org.eclipse.yasson.internal;
 
+import java.lang.ref.SoftReference;
+import java.security.AccessController;
+import java.security.PrivilegedAction;
 import java.util.ArrayDeque;
+import java.util.Collections;
 import java.util.Deque;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Objects;
+import java.util.ServiceLoader;
+import java.util.WeakHashMap;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Function;
 
 import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.GeneratedModelBinder;
 import org.eclipse.yasson.internal.model.JsonbAnnotatedElement;
+import org.eclipse.yasson.internal.model.PropertyAccessorGenerator;
 import org.eclipse.yasson.internal.model.customization.ClassCustomization;
+import org.eclipse.yasson.spi.GeneratedBindingModel;
 
 /**
  * JSONB mappingContext. Created once per {@link jakarta.json.bind.Jsonb} instance. Represents a global scope.
@@ -29,21 +40,62 @@ import org.eclipse.yasson.internal.model.customization.ClassCustomization;
  * Thread safe.
  */
 public class MappingContext {
+
+    private static final Map<ClassLoader, SoftReference<Map<Class<?>, GeneratedBindingModel>>> GENERATED_MODELS =
+            Collections.synchronizedMap(new WeakHashMap<>());
+
     private final JsonbContext jsonbContext;
 
     private final ConcurrentHashMap<Class<?>, ClassModel> classes = new ConcurrentHashMap<>();
 
     private final ClassParser classParser;
 
+    private final Map<Class<?>, GeneratedBindingModel> generatedModels;
+
     /**
      * Create mapping context which is scoped to jsonb runtime.
      *
      * @param jsonbContext Context. Required.
      */
     public MappingContext(JsonbContext jsonbContext) {
+        this(jsonbContext, loadGeneratedModels());
+    }
+
+    /**
+     * Create mapping context which uses the given binding models generated at build time.
+     *
+     * @param jsonbContext    Context. Required.
+     * @param generatedModels generated binding models by their modeled class
+     */
+    MappingContext(JsonbContext jsonbContext, Map<Class<?>, GeneratedBindingModel> generatedModels) {
         Objects.requireNonNull(jsonbContext);
         this.jsonbContext = jsonbContext;
         this.classParser = new ClassParser(jsonbContext);
+        this.generatedModels = generatedModels;
+    }
+
+    /**
+     * Returns the generated binding models visible to the context class loader. Service lookup is done once
+     * per class loader, the result is only softly referenced so it does not prevent the loader from being collected.
+     *
+     * @return generated binding models by their modeled class
+     */
+    static Map<Class<?>, GeneratedBindingModel> loadGeneratedModels() {
+        ClassLoader classLoader = AccessController
+                .doPrivileged((PrivilegedAction<ClassLoader>) () -> Thread.currentThread().getContextClassLoader());
+        SoftReference<Map<Class<?>, GeneratedBindingModel>> cached = GENERATED_MODELS.get(classLoader);
+        Map<Class<?>, GeneratedBindingModel> models = cached == null ? null : cached.get();
+        if (models == null) {
+            models = AccessController.doPrivileged((PrivilegedAction<Map<Class<?>, GeneratedBindingModel>>) () -> {
+                Map<Class<?>, GeneratedBindingModel> loaded = new HashMap<>();
+                for (GeneratedBindingModel model : ServiceLoader.load(GeneratedBindingModel.class, classLoader)) {
+                    loaded.put(model.getType(), model);
+                }
+                return Collections.unmodifiableMap(loaded);
+            });
+            GENERATED_MODELS.put(classLoader, new SoftReference<>(models));
+        }
+        return models;
     }
 
     /**
@@ -74,14 +126,16 @@ public class MappingContext {
         while (!newClassModels.isEmpty()) {
             Class<?> toParse = newClassModels.pop();
             parentClassModel = classes
-                    .computeIfAbsent(toParse, createParseClassModelFunction(parentClassModel, classParser, jsonbContext));
+                    .computeIfAbsent(toParse, createParseClassModelFunction(parentClassModel, classParser, jsonbContext,
+                                                                            generatedModels));
         }
         return classes.get(clazz);
     }
 
     private static Function<Class<?>, ClassModel> createParseClassModelFunction(ClassModel parentClassModel,
                                                                                 ClassParser classParser,
-                                                                                JsonbContext jsonbContext) {
+                                                                                JsonbContext jsonbContext,
+                                                                                Map<Class<?>, GeneratedBindingModel> models) {
         return aClass -> {
             JsonbAnnotatedElement<Class<?>> clsElement = jsonbContext.getAnnotationIntrospector().collectAnnotations(aClass);
             ClassCustomization customization = jsonbContext.getAnnotationIntrospector()
@@ -102,7 +156,13 @@ public class MappingContext {
                                                       parentClassModel,
                                                       jsonbContext.getConfigProperties().getPropertyNamingStrategy());
             if (!BuiltInTypes.isKnownType(aClass)) {
-                classParser.parseProperties(newClassModel, clsElement);
+                GeneratedBindingModel generatedModel = models.get(aClass);
+                classParser.parseProperties(newClassModel, clsElement, generatedModel);
+                if (generatedModel != null) {
+                    GeneratedModelBinder.bindAccessor(newClassModel, generatedModel);
+                } else if (jsonbContext.getConfigProperties().isGeneratedAccessors()) {
+                    PropertyAccessorGenerator.bindAccessor(newClassModel);
+                }
             }
             return newClassModel;
         };
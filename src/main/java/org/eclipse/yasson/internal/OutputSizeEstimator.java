@@ -0,0 +1,67 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Running estimate of the output size per root type, used to size the output buffers up front.
+ * <br>
+ * Estimate follows the larger sizes faster than the smaller ones, so that the buffers rarely have to grow.
+ */
+public final class OutputSizeEstimator {
+
+    /**
+     * Initial estimate of the output size.
+     */
+    static final int INITIAL_SIZE_ESTIMATE = 256;
+
+    /**
+     * Upper bound of the output size estimate.
+     */
+    static final int MAX_SIZE_ESTIMATE = 1 << 20;
+
+    private final ClassValue<AtomicInteger> sizeEstimates = new ClassValue<>() {
+        @Override
+        protected AtomicInteger computeValue(Class<?> type) {
+            return new AtomicInteger(INITIAL_SIZE_ESTIMATE);
+        }
+    };
+
+    /**
+     * Return the estimated output size of the given root type.
+     *
+     * @param rootType serialized root type
+     * @return estimated output size
+     */
+    public int estimateSize(Class<?> rootType) {
+        return sizeEstimates.get(rootType).get();
+    }
+
+    /**
+     * Update the output size estimate of the given root type by the actual output size.
+     *
+     * @param rootType serialized root type
+     * @param size     actual output size
+     */
+    public void recordSize(Class<?> rootType, int size) {
+        AtomicInteger estimate = sizeEstimates.get(rootType);
+        int current = estimate.get();
+        int updated = size > current
+                ? current + ((size - current + 1) >> 1)
+                : current - ((current - size) >> 3);
+        //lost concurrent update only delays the estimate
+        estimate.set(Math.max(INITIAL_SIZE_ESTIMATE, Math.min(MAX_SIZE_ESTIMATE, updated)));
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,9 +12,6 @@
 
 package org.eclipse.yasson.internal;
 
-import java.util.HashSet;
-import java.util.Set;
-
 /**
  * Jsonb processing (serializing/deserializing) context.
  * Instance is thread bound (in contrast to {@link JsonbContext}.
@@ -23,12 +20,6 @@ public abstract class ProcessingContext {
 
     private final JsonbContext jsonbContext;
 
-    /**
-     * Used to avoid StackOverflowError, when adapted / serialized object
-     * contains instance of its type inside it or when object has recursive reference.
-     */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
-
     /**
      * Parent for marshaller and unmarshaller.
      *
@@ -56,24 +47,4 @@ public abstract class ProcessingContext {
         return getJsonbContext().getMappingContext();
     }
 
-    /**
-     * Adds currently processed object to the {@link Set}.
-     *
-     * @param object processed object
-     * @return if object was added
-     */
-    public boolean addProcessedObject(Object object) {
-        return this.currentlyProcessedObjects.add(object);
-    }
-
-    /**
-     * Removes processed object from the {@link Set}.
-     *
-     * @param object processed object
-     * @return if object was removed
-     */
-    public boolean removeProcessedObject(Object object) {
-        return currentlyProcessedObjects.remove(object);
-    }
-
 }
@@ -0,0 +1,97 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Cache of the root serialization and deserialization models.
+ * <br>
+ * Root models are obtained for every {@code toJson} and {@code fromJson} call. This cache returns already created
+ * model with a single lookup and without any allocation. {@link Class} roots are cached in the {@link ClassValue},
+ * other {@link Type} roots are cached by their identity, since the same type instance is usually reused by the caller.
+ * <br>
+ * {@link ClassValue} only references the model weakly, so it does not prevent the owning context from being collected.
+ * Models are strongly referenced by this cache instead.
+ *
+ * @param <T> type of the cached model
+ */
+public final class RootModelCache<T> {
+
+    /**
+     * Maximum number of cached non-class root types. Types exceeding this limit are always resolved by the factory,
+     * so newly created type instances passed for each call cannot make this cache grow indefinitely.
+     */
+    static final int MAX_TYPE_ROOTS = 256;
+
+    private final Function<Type, T> factory;
+    private final Map<Type, T> models = new ConcurrentHashMap<>();
+    private final ClassValue<WeakReference<T>> classRoots = new ClassValue<>() {
+        @Override
+        protected WeakReference<T> computeValue(Class<?> type) {
+            return new WeakReference<>(store(type, factory.apply(type)));
+        }
+    };
+    private volatile Map<Type, T> typeRoots = new IdentityHashMap<>();
+
+    /**
+     * Create new instance.
+     *
+     * @param factory factory of the root model which is not present in the cache
+     */
+    public RootModelCache(Function<Type, T> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Return root model of the given type.
+     *
+     * @param type root type
+     * @return root model
+     */
+    public T get(Type type) {
+        if (type instanceof Class) {
+            //referent is never cleared while this cache exists, since it is strongly referenced by the models map
+            return classRoots.get((Class<?>) type).get();
+        }
+        T model = typeRoots.get(type);
+        if (model != null) {
+            return model;
+        }
+        model = factory.apply(type);
+        if (typeRoots.size() < MAX_TYPE_ROOTS) {
+            model = store(type, model);
+            addTypeRoot(type, model);
+        }
+        return model;
+    }
+
+    private T store(Type type, T model) {
+        T previous = models.putIfAbsent(type, model);
+        return previous == null ? model : previous;
+    }
+
+    private synchronized void addTypeRoot(Type type, T model) {
+        if (typeRoots.size() < MAX_TYPE_ROOTS && !typeRoots.containsKey(type)) {
+            Map<Type, T> copy = new IdentityHashMap<>(typeRoots);
+            copy.put(type, model);
+            typeRoots = copy;
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  * Copyright (c) 2019, 2020 Payara Foundation and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
@@ -14,9 +14,9 @@
 package org.eclipse.yasson.internal;
 
 import java.lang.reflect.Type;
-import java.util.HashSet;
+import java.util.Iterator;
 import java.util.Objects;
-import java.util.Set;
+import java.util.function.BooleanSupplier;
 import java.util.logging.Logger;
 
 import jakarta.json.bind.JsonbException;
@@ -26,6 +26,7 @@ import jakarta.json.stream.JsonGenerator;
 
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.internal.serializer.IncrementalSerializer;
 import org.eclipse.yasson.internal.serializer.ModelSerializer;
 
 /**
@@ -39,7 +40,7 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
      * Used to avoid StackOverflowError, when adapted / serialized object
      * contains instance of its type inside it or when object has recursive reference.
      */
-    private final Set<Object> currentlyProcessedObjects = new HashSet<>();
+    private final CycleDetector cycleDetector;
 
     private final Type runtimeType;
     private String key = null;
@@ -55,6 +56,8 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
     public SerializationContextImpl(JsonbContext jsonbContext, Type rootRuntimeType) {
         super(jsonbContext);
         this.runtimeType = rootRuntimeType;
+        JsonbConfigProperties configProperties = jsonbContext.getConfigProperties();
+        this.cycleDetector = new CycleDetector(configProperties.getCycleDetection(), configProperties.getMaxDepth());
     }
 
     /**
@@ -148,6 +151,75 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
         }
     }
 
+    /**
+     * Marshals all the given values, each of them as a separate top level value.
+     * Root serializer is resolved once for every run of the values of the same type. Closes the generator on completion.
+     *
+     * @param values        values to marshall
+     * @param jsonGenerator generator accepting multiple top level values
+     */
+    public void marshallAll(Iterator<?> values, JsonGenerator jsonGenerator) {
+        try {
+            Type lastType = null;
+            ModelSerializer rootSerializer = null;
+            while (values.hasNext()) {
+                Object value = values.next();
+                setRoot(true);
+                setKey(null);
+                Type type = determineSerializationType(value);
+                if (!type.equals(lastType)) {
+                    rootSerializer = getRootSerializer(type);
+                    lastType = type;
+                }
+                rootSerializer.serialize(value, jsonGenerator, this);
+            }
+        } catch (JsonbException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+        } finally {
+            try {
+                jsonGenerator.close();
+            } catch (JsonGenerationException jge) {
+                LOGGER.severe(jge.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Marshals given object in steps, see {@link IncrementalSerializer}. Every call of the returned step marshals
+     * the next part of the object. Generator is closed once the whole object has been marshalled.
+     *
+     * @param object        object to marshall
+     * @param jsonGenerator generator to use
+     * @return step returning whether there is any part of the object left to marshall
+     */
+    public BooleanSupplier marshallInSteps(Object object, JsonGenerator jsonGenerator) {
+        return new BooleanSupplier() {
+            private BooleanSupplier steps;
+
+            @Override
+            public boolean getAsBoolean() {
+                try {
+                    if (steps == null) {
+                        ModelSerializer rootSerializer = getRootSerializer(determineSerializationType(object));
+                        steps = IncrementalSerializer.steps(object, rootSerializer, jsonGenerator,
+                                                            SerializationContextImpl.this);
+                    }
+                    if (steps.getAsBoolean()) {
+                        return true;
+                    }
+                    jsonGenerator.close();
+                    return false;
+                } catch (JsonbException e) {
+                    throw e;
+                } catch (RuntimeException e) {
+                    throw new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e);
+                }
+            }
+        };
+    }
+
     /**
      * Marshals given object to provided Writer or OutputStream.
      * Closes the generator on completion.
@@ -209,24 +281,23 @@ public class SerializationContextImpl extends ProcessingContext implements Seria
     }
 
     /**
-     * Adds currently processed object to the {@link Set}.
+     * Marks object as currently processed. Objects are compared by their identity.
      *
      * @param object processed object
-     * @return if object was added
+     * @return false if the object is already being processed, true otherwise
      */
     public boolean addProcessedObject(Object object) {
-        return this.currentlyProcessedObjects.add(object);
+        return cycleDetector.push(object);
     }
 
     /**
-     * Removes processed object from the {@link Set}.
+     * Marks object as no longer processed.
      *
      * @param object processed object
      * @return if object was removed
      */
     public boolean removeProcessedObject(Object object) {
-        return currentlyProcessedObjects.remove(object);
+        return cycleDetector.pop(object);
     }
 
-
 }
@@ -0,0 +1,276 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.ref.Cleaner;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.spi.JsonProvider;
+
+import org.eclipse.yasson.YassonConfig;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Process wide cache of the contexts owning the models shared by the Jsonb instances with the equivalent configuration.
+ * <br>
+ * Contexts are keyed by the fingerprint of the configuration properties which affect the models, together with the
+ * class of the JSON-P provider. Values are compared by their value if they are strings, numbers, enums, classes
+ * or collections of them, and by their identity otherwise. Context is created by the first acquiring Jsonb instance
+ * and released, once the last Jsonb instance using it is closed or becomes unreachable. Cached contexts and fingerprints
+ * therefore never outlive the Jsonb instances using them, even if the instances are not closed.
+ */
+final class SharedModelCache {
+
+    /**
+     * Configuration properties which do not affect the models.
+     */
+    private static final Set<String> MODEL_INDEPENDENT = Set.of(JsonbConfig.FORMATTING,
+                                                                JsonbConfig.ENCODING,
+                                                                YassonConfig.JSONP_PROPERTIES,
+                                                                YassonConfig.BUFFER_POOL,
+                                                                YassonConfig.EAGER_PARSE_CLASSES,
+                                                                YassonConfig.EAGER_PARSE_PACKAGES,
+                                                                YassonConfig.EAGER_PARSE_EXECUTOR,
+                                                                YassonConfig.EAGER_PARSE_ASYNC,
+                                                                YassonConfig.EAGER_PARSE_LISTENER);
+
+    private static final Logger LOGGER = Logger.getLogger(SharedModelCache.class.getName());
+
+    private static final Map<List<Object>, SharedModels> MODELS = new ConcurrentHashMap<>();
+
+    private static final Cleaner CLEANER = Cleaner.create();
+
+    private SharedModelCache() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Create the fingerprint of the model relevant configuration.
+     *
+     * @param jsonbConfig  configuration
+     * @param jsonProvider JSON-P provider
+     * @return configuration fingerprint
+     */
+    static List<Object> fingerprint(JsonbConfig jsonbConfig, JsonProvider jsonProvider) {
+        List<Object> fingerprint = new ArrayList<>();
+        fingerprint.add(jsonProvider.getClass());
+        new TreeMap<>(jsonbConfig.getAsMap()).forEach((name, value) -> {
+            if (!MODEL_INDEPENDENT.contains(name)) {
+                fingerprint.add(name);
+                fingerprint.add(canonical(value));
+            }
+        });
+        return fingerprint;
+    }
+
+    /**
+     * Acquire the share of the models by the given fingerprint. Context owning the models is created if there is none.
+     * Share is released when it is closed or when the acquiring context becomes unreachable.
+     *
+     * @param acquiring    acquiring context
+     * @param fingerprint  configuration fingerprint
+     * @param jsonbConfig  configuration of the acquiring Jsonb instance
+     * @param jsonProvider JSON-P provider of the acquiring Jsonb instance
+     * @return share of the models
+     */
+    static Share acquire(JsonbContext acquiring, List<Object> fingerprint, JsonbConfig jsonbConfig, JsonProvider jsonProvider) {
+        JsonbContext owner = MODELS.compute(fingerprint, (key, models) -> {
+            if (models == null) {
+                return new SharedModels(new JsonbContext(jsonbConfig, jsonProvider, false));
+            }
+            models.references++;
+            return models;
+        }).owner;
+        Release release = new Release(fingerprint);
+        return new Share(owner, release, CLEANER.register(acquiring, release));
+    }
+
+    /**
+     * Whether the models shared by the given fingerprint are cached.
+     *
+     * @param fingerprint configuration fingerprint
+     * @return true if the models are cached
+     */
+    static boolean isCached(List<Object> fingerprint) {
+        return MODELS.containsKey(fingerprint);
+    }
+
+    private static JsonbContext release(List<Object> fingerprint) {
+        JsonbContext[] released = new JsonbContext[1];
+        MODELS.computeIfPresent(fingerprint, (key, models) -> {
+            if (--models.references > 0) {
+                return models;
+            }
+            released[0] = models.owner;
+            return null;
+        });
+        return released[0];
+    }
+
+    private static Object canonical(Object value) {
+        if (value == null
+                || value instanceof String
+                || value instanceof Number
+                || value instanceof Boolean
+                || value instanceof Character
+                || value instanceof Enum
+                || value instanceof Class
+                || value instanceof Locale
+                || value instanceof Path) {
+            return value;
+        }
+        if (value instanceof Object[]) {
+            return canonical(Arrays.asList((Object[]) value));
+        }
+        if (value instanceof Set) {
+            Set<Object> set = new HashSet<>();
+            for (Object element : (Set<?>) value) {
+                set.add(canonical(element));
+            }
+            return set;
+        }
+        if (value instanceof Collection) {
+            List<Object> list = new ArrayList<>();
+            for (Object element : (Collection<?>) value) {
+                list.add(canonical(element));
+            }
+            return list;
+        }
+        if (value instanceof Map) {
+            Map<Object, Object> map = new HashMap<>();
+            ((Map<?, ?>) value).forEach((key, element) -> map.put(canonical(key), canonical(element)));
+            return map;
+        }
+        return new Identity(value);
+    }
+
+    /**
+     * Share of the models acquired by one context.
+     */
+    static final class Share {
+
+        private final JsonbContext owner;
+        private final Release release;
+        private final Cleaner.Cleanable cleanable;
+
+        private Share(JsonbContext owner, Release release, Cleaner.Cleanable cleanable) {
+            this.owner = owner;
+            this.release = release;
+            this.cleanable = cleanable;
+        }
+
+        /**
+         * Context owning the shared models.
+         *
+         * @return context owning the shared models
+         */
+        JsonbContext owner() {
+            return owner;
+        }
+
+        /**
+         * Release this share.
+         *
+         * @return context owning the released models if they are not used any more, otherwise null
+         */
+        JsonbContext close() {
+            JsonbContext released = release.release();
+            //the release has been done already, the cleaning action is only deregistered
+            cleanable.clean();
+            return released;
+        }
+
+    }
+
+    /**
+     * Release of the share, performed once, either by closing the share or by the cleaner. It must not reference
+     * the acquiring context, otherwise the context never becomes unreachable.
+     */
+    private static final class Release implements Runnable {
+
+        private final List<Object> fingerprint;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private Release(List<Object> fingerprint) {
+            this.fingerprint = fingerprint;
+        }
+
+        private JsonbContext release() {
+            return released.compareAndSet(false, true) ? SharedModelCache.release(fingerprint) : null;
+        }
+
+        @Override
+        public void run() {
+            JsonbContext owner = release();
+            if (owner != null) {
+                try {
+                    owner.getComponentInstanceCreator().close();
+                } catch (Exception e) {
+                    LOGGER.log(Level.FINE, Messages.getMessage(MessageKeys.COMPONENT_CREATOR_NOT_CLOSED), e);
+                }
+            }
+        }
+
+    }
+
+    private static final class SharedModels {
+
+        private final JsonbContext owner;
+        private int references = 1;
+
+        private SharedModels(JsonbContext owner) {
+            this.owner = owner;
+        }
+
+    }
+
+    /**
+     * Configuration value compared by its identity.
+     */
+    private static final class Identity {
+
+        private final Object value;
+
+        private Identity(Object value) {
+            this.value = value;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Identity && ((Identity) obj).value == value;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(value);
+        }
+
+    }
+
+}
@@ -0,0 +1,602 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Map;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonException;
+import jakarta.json.JsonNumber;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonString;
+import jakarta.json.JsonValue;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.spi.JsonBufferPool;
+
+/**
+ * {@link JsonGenerator} writing the compact UTF-8 encoded JSON directly to the pooled byte buffer.
+ * <br>
+ * Buffer is written to the output stream whenever it is full and on {@link #flush()} or {@link #close()}.
+ * Property names can be passed already escaped and encoded by {@link #encodeName(String)}, so that they are not
+ * escaped and encoded again for every serialized object. Output is the same as the one of the JSON-P generator
+ * without pretty printing.
+ */
+public final class Utf8JsonGenerator implements JsonGenerator {
+
+    private static final byte[] HEX = "0123456789abcdef".getBytes();
+    private static final byte[] TRUE = "true".getBytes();
+    private static final byte[] FALSE = "false".getBytes();
+    private static final byte[] NULL = "null".getBytes();
+
+    /**
+     * Escape character of the ASCII characters. Zero means no escaping, 'u' means unicode escape sequence.
+     */
+    private static final byte[] ESCAPES = new byte[128];
+
+    private static final int SCOPE_OBJECT = 1;
+    private static final int SCOPE_ARRAY = 2;
+
+    /**
+     * Longest sequence written for a single character.
+     */
+    private static final int MAX_CHAR_BYTES = 6;
+
+    static {
+        for (int i = 0; i < 0x20; i++) {
+            ESCAPES[i] = 'u';
+        }
+        ESCAPES['\b'] = 'b';
+        ESCAPES['\t'] = 't';
+        ESCAPES['\n'] = 'n';
+        ESCAPES['\f'] = 'f';
+        ESCAPES['\r'] = 'r';
+        ESCAPES['"'] = '"';
+        ESCAPES['\\'] = '\\';
+    }
+
+    private final OutputStream out;
+    private final JsonBufferPool bufferPool;
+    private final boolean lineDelimited;
+    private byte[] buffer;
+    private int position;
+
+    private int[] scopes = new int[16];
+    private boolean[] nonEmpty = new boolean[16];
+    private int depth;
+    private boolean keyWritten;
+    private boolean rootWritten;
+
+    private String expectedName;
+    private byte[] expectedEncodedName;
+
+    /**
+     * Create new instance.
+     *
+     * @param out        output stream the encoded JSON is written to
+     * @param bufferPool pool of the output buffers
+     */
+    public Utf8JsonGenerator(OutputStream out, JsonBufferPool bufferPool) {
+        this(out, bufferPool, false);
+    }
+
+    /**
+     * Create new instance.
+     * <br>
+     * Line delimited generator ends every top level value by the new line and accepts any number of top level values,
+     * as required by the JSON Lines format.
+     *
+     * @param out           output stream the encoded JSON is written to
+     * @param bufferPool    pool of the output buffers
+     * @param lineDelimited whether the top level values are delimited by new lines
+     */
+    Utf8JsonGenerator(OutputStream out, JsonBufferPool bufferPool, boolean lineDelimited) {
+        this.out = out;
+        this.bufferPool = bufferPool;
+        this.lineDelimited = lineDelimited;
+        this.buffer = bufferPool.takeBytes();
+    }
+
+    /**
+     * Escape and encode property name together with its quotes and the name separator.
+     *
+     * @param name property name
+     * @return encoded name accepted by {@link #writeKey(byte[])}
+     */
+    public static byte[] encodeName(String name) {
+        byte[] encoded = new byte[name.length() * MAX_CHAR_BYTES + 3];
+        int length = encodeString(name, encoded, 0);
+        encoded[length++] = ':';
+        return Arrays.copyOf(encoded, length);
+    }
+
+    /**
+     * Write the property name encoded by {@link #encodeName(String)}.
+     *
+     * @param encodedName encoded property name
+     * @return this generator
+     */
+    public Utf8JsonGenerator writeKey(byte[] encodedName) {
+        beforeKey();
+        writeRaw(encodedName);
+        return this;
+    }
+
+    /**
+     * Set the encoded name to be written instead of escaping and encoding the given name, if the next written
+     * property name is the same instance.
+     *
+     * @param name        property name
+     * @param encodedName property name encoded by {@link #encodeName(String)}
+     */
+    public void expectName(String name, byte[] encodedName) {
+        this.expectedName = name;
+        this.expectedEncodedName = encodedName;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject() {
+        beforeValue();
+        push(SCOPE_OBJECT);
+        writeByte((byte) '{');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartObject(String name) {
+        writeKey(name);
+        return writeStartObject();
+    }
+
+    @Override
+    public JsonGenerator writeKey(String name) {
+        if (name == expectedName) {
+            return writeKey(expectedEncodedName);
+        }
+        beforeKey();
+        writeString(name);
+        writeByte((byte) ':');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray() {
+        beforeValue();
+        push(SCOPE_ARRAY);
+        writeByte((byte) '[');
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeStartArray(String name) {
+        writeKey(name);
+        return writeStartArray();
+    }
+
+    @Override
+    public JsonGenerator write(String name, JsonValue value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, String value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigInteger value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, BigDecimal value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, int value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, long value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, double value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator write(String name, boolean value) {
+        writeKey(name);
+        return write(value);
+    }
+
+    @Override
+    public JsonGenerator writeNull(String name) {
+        writeKey(name);
+        return writeNull();
+    }
+
+    @Override
+    public JsonGenerator writeEnd() {
+        if (depth == 0) {
+            throw new JsonGenerationException("writeEnd() cannot be called in no context");
+        }
+        if (keyWritten) {
+            throw illegalMethod();
+        }
+        writeByte(scopes[depth] == SCOPE_OBJECT ? (byte) '}' : (byte) ']');
+        depth--;
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(JsonValue value) {
+        switch (value.getValueType()) {
+        case OBJECT:
+            writeStartObject();
+            for (Map.Entry<String, JsonValue> entry : ((JsonObject) value).entrySet()) {
+                write(entry.getKey(), entry.getValue());
+            }
+            return writeEnd();
+        case ARRAY:
+            writeStartArray();
+            for (JsonValue item : (JsonArray) value) {
+                write(item);
+            }
+            return writeEnd();
+        case STRING:
+            return write(((JsonString) value).getString());
+        case NUMBER:
+            return writeNumber(((JsonNumber) value).toString());
+        case TRUE:
+            return write(true);
+        case FALSE:
+            return write(false);
+        default:
+            return writeNull();
+        }
+    }
+
+    @Override
+    public JsonGenerator write(String value) {
+        beforeValue();
+        writeString(value);
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(BigDecimal value) {
+        return writeNumber(value.toString());
+    }
+
+    @Override
+    public JsonGenerator write(BigInteger value) {
+        return writeNumber(value.toString());
+    }
+
+    @Override
+    public JsonGenerator write(int value) {
+        return write((long) value);
+    }
+
+    @Override
+    public JsonGenerator write(long value) {
+        if (value == Long.MIN_VALUE) {
+            return writeNumber(Long.toString(value));
+        }
+        beforeValue();
+        ensure(20);
+        long remaining = value;
+        if (remaining < 0) {
+            buffer[position++] = '-';
+            remaining = -remaining;
+        }
+        int digits = 1;
+        for (long bound = 10; digits < 19 && remaining >= bound; bound *= 10) {
+            digits++;
+        }
+        int end = position + digits;
+        for (int i = end - 1; i >= position; i--) {
+            buffer[i] = (byte) ('0' + remaining % 10);
+            remaining /= 10;
+        }
+        position = end;
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator write(double value) {
+        if (Double.isInfinite(value) || Double.isNaN(value)) {
+            throw new NumberFormatException("Value " + value + " cannot be written as JSON number");
+        }
+        return writeNumber(String.valueOf(value));
+    }
+
+    @Override
+    public JsonGenerator write(boolean value) {
+        beforeValue();
+        writeRaw(value ? TRUE : FALSE);
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public JsonGenerator writeNull() {
+        beforeValue();
+        writeRaw(NULL);
+        afterValue();
+        return this;
+    }
+
+    @Override
+    public void close() {
+        if (buffer == null) {
+            return;
+        }
+        if (depth != 0 || !(rootWritten || lineDelimited)) {
+            release();
+            throw new JsonGenerationException("Generating incomplete JSON");
+        }
+        try {
+            flushBuffer();
+            out.close();
+        } catch (IOException e) {
+            throw new JsonException("I/O error while closing JSON generator", e);
+        } finally {
+            release();
+        }
+    }
+
+    @Override
+    public void flush() {
+        try {
+            flushBuffer();
+            out.flush();
+        } catch (IOException e) {
+            throw new JsonException("I/O error while flushing JSON generator", e);
+        }
+    }
+
+    private JsonGenerator writeNumber(String number) {
+        beforeValue();
+        int length = number.length();
+        if (length > buffer.length - position) {
+            flushBufferUnchecked();
+        }
+        for (int i = 0; i < length; i++) {
+            writeByte((byte) number.charAt(i));
+        }
+        afterValue();
+        return this;
+    }
+
+    private void beforeKey() {
+        if (depth == 0 || scopes[depth] != SCOPE_OBJECT || keyWritten) {
+            throw illegalMethod();
+        }
+        if (nonEmpty[depth]) {
+            writeByte((byte) ',');
+        } else {
+            nonEmpty[depth] = true;
+        }
+        keyWritten = true;
+    }
+
+    private void beforeValue() {
+        if (depth == 0) {
+            if (rootWritten) {
+                throw illegalMethod();
+            }
+        } else if (scopes[depth] == SCOPE_OBJECT) {
+            if (!keyWritten) {
+                throw illegalMethod();
+            }
+            keyWritten = false;
+        } else if (nonEmpty[depth]) {
+            writeByte((byte) ',');
+        } else {
+            nonEmpty[depth] = true;
+        }
+    }
+
+    private void afterValue() {
+        if (depth == 0) {
+            if (lineDelimited) {
+                writeByte((byte) '\n');
+            } else {
+                rootWritten = true;
+            }
+        }
+    }
+
+    private void push(int scope) {
+        depth++;
+        if (depth == scopes.length) {
+            scopes = Arrays.copyOf(scopes, depth * 2);
+            nonEmpty = Arrays.copyOf(nonEmpty, depth * 2);
+        }
+        scopes[depth] = scope;
+        nonEmpty[depth] = false;
+    }
+
+    private JsonGenerationException illegalMethod() {
+        String context;
+        if (depth == 0) {
+            context = "IN_NONE";
+        } else if (scopes[depth] == SCOPE_ARRAY) {
+            context = "IN_ARRAY";
+        } else {
+            context = keyWritten ? "IN_FIELD" : "IN_OBJECT";
+        }
+        return new JsonGenerationException("Illegal method during JSON generation, not valid in current context " + context);
+    }
+
+    /**
+     * Encode quoted and escaped string to the target array, which has to have enough space for the longest encoding.
+     */
+    private static int encodeString(String value, byte[] target, int offset) {
+        target[offset] = '"';
+        int position = encodeChars(value, 0, value.length(), target, offset + 1);
+        target[position++] = '"';
+        return position;
+    }
+
+    private static int encodeChars(String value, int from, int to, byte[] target, int offset) {
+        int position = offset;
+        for (int i = from; i < to; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                byte escape = ESCAPES[c];
+                if (escape == 0) {
+                    target[position++] = (byte) c;
+                } else {
+                    position = escape(c, escape, target, position);
+                }
+            } else if (c < 0x800) {
+                target[position++] = (byte) (0xC0 | (c >> 6));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            } else if (Character.isSurrogate(c)) {
+                if (Character.isHighSurrogate(c) && i + 1 < to && Character.isLowSurrogate(value.charAt(i + 1))) {
+                    int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                    target[position++] = (byte) (0xF0 | (codePoint >> 18));
+                    target[position++] = (byte) (0x80 | ((codePoint >> 12) & 0x3F));
+                    target[position++] = (byte) (0x80 | ((codePoint >> 6) & 0x3F));
+                    target[position++] = (byte) (0x80 | (codePoint & 0x3F));
+                } else {
+                    //unpaired surrogate is replaced the same way as by the UTF-8 charset encoder
+                    target[position++] = '?';
+                }
+            } else {
+                target[position++] = (byte) (0xE0 | (c >> 12));
+                target[position++] = (byte) (0x80 | ((c >> 6) & 0x3F));
+                target[position++] = (byte) (0x80 | (c & 0x3F));
+            }
+        }
+        return position;
+    }
+
+    private static int escape(char c, byte escape, byte[] target, int offset) {
+        int position = offset;
+        target[position++] = '\\';
+        target[position++] = escape;
+        if (escape == 'u') {
+            target[position++] = '0';
+            target[position++] = '0';
+            target[position++] = HEX[c >> 4];
+            target[position++] = HEX[c & 0xF];
+        }
+        return position;
+    }
+
+    private void writeString(String value) {
+        int length = value.length();
+        if (length * MAX_CHAR_BYTES + 2 > buffer.length - position) {
+            flushBufferUnchecked();
+            if (length * MAX_CHAR_BYTES + 2 > buffer.length) {
+                writeLongString(value);
+                return;
+            }
+        }
+        position = encodeString(value, buffer, position);
+    }
+
+    /**
+     * Write string which encoding may not fit into the buffer, in the chunks which fit.
+     */
+    private void writeLongString(String value) {
+        int chunk = buffer.length / MAX_CHAR_BYTES - 1;
+        writeByte((byte) '"');
+        int start = 0;
+        while (start < value.length()) {
+            int end = Math.min(value.length(), start + chunk);
+            if (end < value.length() && Character.isHighSurrogate(value.charAt(end - 1))) {
+                //keep surrogate pair in the same chunk
+                end--;
+            }
+            ensure(chunk * MAX_CHAR_BYTES);
+            position = encodeChars(value, start, end, buffer, position);
+            start = end;
+        }
+        writeByte((byte) '"');
+    }
+
+    private void writeByte(byte b) {
+        if (position == buffer.length) {
+            flushBufferUnchecked();
+        }
+        buffer[position++] = b;
+    }
+
+    private void writeRaw(byte[] bytes) {
+        if (bytes.length > buffer.length - position) {
+            flushBufferUnchecked();
+            if (bytes.length > buffer.length) {
+                try {
+                    out.write(bytes);
+                } catch (IOException e) {
+                    throw new JsonException("I/O error while writing JSON", e);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, position, bytes.length);
+        position += bytes.length;
+    }
+
+    private void ensure(int length) {
+        if (length > buffer.length - position) {
+            flushBufferUnchecked();
+        }
+    }
+
+    private void flushBufferUnchecked() {
+        try {
+            flushBuffer();
+        } catch (IOException e) {
+            throw new JsonException("I/O error while writing JSON", e);
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            out.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void release() {
+        bufferPool.releaseBytes(buffer);
+        buffer = null;
+    }
+
+}
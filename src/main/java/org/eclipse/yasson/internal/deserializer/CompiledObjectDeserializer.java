@@ -0,0 +1,267 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Object container deserializer compiled from the resolved class model.
+ * <br>
+ * Property names are matched by the {@link PropertyMatcher}, expecting them in the order of the class model properties.
+ * Properties of the scalar types without any user deserializer,
+ * adapter or number format are parsed directly from the parser when the received value event is the natural one for the
+ * property type. Such values of the primitive {@code int}, {@code long}, {@code double} and {@code boolean} properties
+ * are set without boxing. In all the other cases the property deserializer chain is used.
+ */
+class CompiledObjectDeserializer implements ModelDeserializer<JsonParser> {
+
+    static final Consumer<JsonParser> NOOP = jsonParser -> {};
+    static final EnumMap<JsonParser.Event, Consumer<JsonParser>> VALUE_SKIPPERS = new EnumMap<>(JsonParser.Event.class);
+
+    private static final int KIND_CHAIN = 0;
+    private static final int KIND_STRING = 1;
+    private static final int KIND_BOOLEAN = 2;
+    private static final int KIND_INT = 3;
+    private static final int KIND_LONG = 4;
+    private static final int KIND_DOUBLE = 5;
+    private static final int KIND_PRIMITIVE_INT = 6;
+    private static final int KIND_PRIMITIVE_LONG = 7;
+    private static final int KIND_PRIMITIVE_DOUBLE = 8;
+    private static final int KIND_PRIMITIVE_BOOLEAN = 9;
+
+    private static final Map<Class<?>, Integer> SCALAR_KINDS = Map.of(String.class, KIND_STRING,
+                                                                      Boolean.class, KIND_BOOLEAN,
+                                                                      Boolean.TYPE, KIND_BOOLEAN,
+                                                                      Integer.class, KIND_INT,
+                                                                      Integer.TYPE, KIND_INT,
+                                                                      Long.class, KIND_LONG,
+                                                                      Long.TYPE, KIND_LONG,
+                                                                      Double.class, KIND_DOUBLE,
+                                                                      Double.TYPE, KIND_DOUBLE);
+
+    private static final Map<Class<?>, Integer> PRIMITIVE_KINDS = Map.of(Integer.TYPE, KIND_PRIMITIVE_INT,
+                                                                         Long.TYPE, KIND_PRIMITIVE_LONG,
+                                                                         Double.TYPE, KIND_PRIMITIVE_DOUBLE,
+                                                                         Boolean.TYPE, KIND_PRIMITIVE_BOOLEAN);
+
+    static {
+        VALUE_SKIPPERS.put(JsonParser.Event.START_OBJECT, JsonParser::skipObject);
+        VALUE_SKIPPERS.put(JsonParser.Event.START_ARRAY, JsonParser::skipArray);
+    }
+
+    private final PropertyMatcher<CompiledProperty> properties;
+    private final Function<String, String> renamer;
+    private final Class<?> rawClass;
+    private final boolean failOnUnknownProperty;
+    private final Set<String> ignoredProperties;
+
+    CompiledObjectDeserializer(Map<String, CompiledProperty> properties,
+                               Function<String, String> renamer,
+                               Class<?> rawClass,
+                               boolean failOnUnknownProperty,
+                               Set<String> ignoredProperties) {
+        this.properties = new PropertyMatcher<>(properties);
+        this.renamer = renamer;
+        this.rawClass = rawClass;
+        this.failOnUnknownProperty = failOnUnknownProperty;
+        this.ignoredProperties = Set.copyOf(ignoredProperties);
+    }
+
+    /**
+     * Whether values of the given type can be parsed directly from the parser.
+     *
+     * @param rawType     raw type of the property
+     * @param strictIJson whether strict I-JSON is enabled
+     * @return whether type is a directly parsed scalar
+     */
+    static boolean isScalar(Class<?> rawType, boolean strictIJson) {
+        //strings have to be validated for unpaired surrogates in I-JSON mode
+        return SCALAR_KINDS.containsKey(rawType) && !(strictIJson && String.class.equals(rawType));
+    }
+
+    /**
+     * Create property which value is parsed directly from the parser, if possible.
+     *
+     * @param rawType       raw type of the property, has to be {@link #isScalar(Class, boolean) scalar}
+     * @param deserializer  property deserializer chain used for the not directly parsed values
+     * @param setter        setter of the parsed value
+     * @param propertyModel model of the property
+     * @return compiled property
+     */
+    static CompiledProperty scalarProperty(Class<?> rawType,
+                                           ModelDeserializer<JsonParser> deserializer,
+                                           ModelDeserializer<Object> setter,
+                                           PropertyModel propertyModel) {
+        if (rawType.isPrimitive() && rawType == propertyModel.getWritePrimitiveType()) {
+            return new CompiledProperty(PRIMITIVE_KINDS.get(rawType), deserializer, setter, propertyModel);
+        }
+        return new CompiledProperty(SCALAR_KINDS.get(rawType), deserializer, setter, null);
+    }
+
+    /**
+     * Create property which value is always deserialized by the property deserializer chain.
+     *
+     * @param deserializer property deserializer chain
+     * @return compiled property
+     */
+    static CompiledProperty chainProperty(ModelDeserializer<JsonParser> deserializer) {
+        return new CompiledProperty(KIND_CHAIN, deserializer, null, null);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
+        String key = null;
+        int expected = 0;
+        while (parser.hasNext()) {
+            final JsonParser.Event next = parser.next();
+            context.setLastValueEvent(next);
+            switch (next) {
+            case KEY_NAME:
+                key = renamer.apply(parser.getString());
+                break;
+            case VALUE_NULL:
+            case START_OBJECT:
+            case START_ARRAY:
+            case VALUE_STRING:
+            case VALUE_NUMBER:
+            case VALUE_FALSE:
+            case VALUE_TRUE:
+                int index = properties.indexOf(key, expected);
+                if (index >= 0) {
+                    expected = index + 1;
+                    try {
+                        properties.valueAt(index).deserialize(next, parser, context);
+                    } catch (JsonbException e) {
+                        throw new JsonbException("Unable to deserialize property '" + key + "' because of: " + e.getMessage(), e);
+                    }
+                } else if (failOnUnknownProperty && !ignoredProperties.contains(key)) {
+                    throw new JsonbException(Messages.getMessage(MessageKeys.UNKNOWN_JSON_PROPERTY, key, rawClass));
+                } else {
+                    //We need to skip the corresponding structure if property key was not found
+                    VALUE_SKIPPERS.getOrDefault(next, NOOP).accept(parser);
+                }
+                break;
+            case END_ARRAY:
+                break;
+            case END_OBJECT:
+                return context.getInstance();
+            default:
+                throw new JsonbException("Unexpected state: " + next);
+            }
+        }
+        return context.getInstance();
+    }
+
+    /**
+     * Single property of the compiled object deserializer.
+     */
+    static final class CompiledProperty {
+
+        private final int kind;
+        private final ModelDeserializer<JsonParser> deserializer;
+        private final ModelDeserializer<Object> setter;
+        private final PropertyModel propertyModel;
+
+        private CompiledProperty(int kind,
+                                 ModelDeserializer<JsonParser> deserializer,
+                                 ModelDeserializer<Object> setter,
+                                 PropertyModel propertyModel) {
+            this.kind = kind;
+            this.deserializer = deserializer;
+            this.setter = setter;
+            this.propertyModel = propertyModel;
+        }
+
+        private void deserialize(JsonParser.Event event, JsonParser parser, DeserializationContextImpl context) {
+            switch (kind) {
+            case KIND_STRING:
+                if (event == JsonParser.Event.VALUE_STRING) {
+                    setter.deserialize(parser.getString(), context);
+                    return;
+                }
+                break;
+            case KIND_BOOLEAN:
+                if (event == JsonParser.Event.VALUE_TRUE) {
+                    setter.deserialize(Boolean.TRUE, context);
+                    return;
+                } else if (event == JsonParser.Event.VALUE_FALSE) {
+                    setter.deserialize(Boolean.FALSE, context);
+                    return;
+                }
+                break;
+            case KIND_INT:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    setter.deserialize(parser.getInt(), context);
+                    return;
+                }
+                break;
+            case KIND_LONG:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    setter.deserialize(parser.getLong(), context);
+                    return;
+                }
+                break;
+            case KIND_DOUBLE:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    setter.deserialize(Double.parseDouble(parser.getString()), context);
+                    return;
+                }
+                break;
+            case KIND_PRIMITIVE_INT:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    propertyModel.setIntValue(context.getInstance(), parser.getInt());
+                    return;
+                }
+                break;
+            case KIND_PRIMITIVE_LONG:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    propertyModel.setLongValue(context.getInstance(), parser.getLong());
+                    return;
+                }
+                break;
+            case KIND_PRIMITIVE_DOUBLE:
+                if (event == JsonParser.Event.VALUE_NUMBER) {
+                    propertyModel.setDoubleValue(context.getInstance(), Double.parseDouble(parser.getString()));
+                    return;
+                }
+                break;
+            case KIND_PRIMITIVE_BOOLEAN:
+                if (event == JsonParser.Event.VALUE_TRUE) {
+                    propertyModel.setBooleanValue(context.getInstance(), true);
+                    return;
+                } else if (event == JsonParser.Event.VALUE_FALSE) {
+                    propertyModel.setBooleanValue(context.getInstance(), false);
+                    return;
+                }
+                break;
+            default:
+                break;
+            }
+            deserializer.deserialize(parser, context);
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -17,7 +17,7 @@ import jakarta.json.stream.JsonParser;
 import org.eclipse.yasson.internal.DeserializationContextImpl;
 
 /**
- * Deserializer which creates new deserialization context and invokes delegate with it.
+ * Deserializer which switches to the child deserialization context and invokes delegate with it.
  */
 class ContextSwitcher implements ModelDeserializer<JsonParser> {
 
@@ -32,9 +32,12 @@ class ContextSwitcher implements ModelDeserializer<JsonParser> {
 
     @Override
     public Object deserialize(JsonParser value, DeserializationContextImpl context) {
-        DeserializationContextImpl ctx = new DeserializationContextImpl(context);
-        Object returnedValue = delegate.deserialize(modelDeserializer.deserialize(value, ctx), context);
-        context.setLastValueEvent(ctx.getLastValueEvent());
+        DeserializationContextImpl ctx = context.childContext();
+        Object deserialized = modelDeserializer.deserialize(value, ctx);
+        //child context may be reused by the delegate
+        JsonParser.Event lastValueEvent = ctx.getLastValueEvent();
+        Object returnedValue = delegate.deserialize(deserialized, context);
+        context.setLastValueEvent(lastValueEvent);
         return returnedValue;
     }
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -28,7 +28,7 @@ class DeferredDeserializer implements ModelDeserializer<Object> {
 
     @Override
     public Object deserialize(Object value, DeserializationContextImpl context) {
-        context.getDeferredDeserializers().add(() -> delegate.deserialize(value, context));
+        context.addDeferredDeserializer(() -> delegate.deserialize(value, context));
         return value;
     }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -39,12 +39,12 @@ import jakarta.json.bind.config.BinaryDataStrategy;
 import jakarta.json.bind.config.PropertyNamingStrategy;
 import jakarta.json.stream.JsonParser;
 
-import org.eclipse.yasson.internal.DeserializationContextImpl;
 import org.eclipse.yasson.internal.JsonbConfigProperties;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.JsonbDateFormatter;
 import org.eclipse.yasson.internal.JsonbNumberFormatter;
 import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.RootModelCache;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.DeserializerBinding;
 import org.eclipse.yasson.internal.deserializer.types.TypeDeserializers;
@@ -97,6 +97,8 @@ public class DeserializationModelCreator {
     }
 
     private final Map<CachedItem, ModelDeserializer<JsonParser>> models = new ConcurrentHashMap<>();
+    private final RootModelCache<ModelDeserializer<JsonParser>> rootModels =
+            new RootModelCache<>(this::createRootDeserializerChain);
 
     private final JsonbContext jsonbContext;
     private final Map<Class<?>, Class<?>> userTypeMapping;
@@ -118,6 +120,10 @@ public class DeserializationModelCreator {
      * @return created deserializer
      */
     public ModelDeserializer<JsonParser> deserializerChain(Type type) {
+        return rootModels.get(type);
+    }
+
+    private ModelDeserializer<JsonParser> createRootDeserializerChain(Type type) {
         LinkedList<Type> chain = new LinkedList<>();
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(ReflectionUtils.getRawType(type));
         return deserializerChain(chain, type, classModel.getClassCustomization(), classModel);
@@ -214,14 +220,10 @@ public class DeserializationModelCreator {
         List<String> params = hasCreator ? creatorParamsList(creator) : Collections.emptyList();
         Function<String, String> renamer = propertyRenamer();
         Map<String, ModelDeserializer<JsonParser>> processors = new LinkedHashMap<>();
+        Map<String, CompiledObjectDeserializer.CompiledProperty> compiledProperties = new LinkedHashMap<>();
+        Map<String, ModelDeserializer<JsonParser>> creatorProcessors = new LinkedHashMap<>();
         Map<String, ModelDeserializer<Object>> defaultCreatorValues = new HashMap<>();
-        for (PropertyModel propertyModel : classModel.getSortedProperties()) {
-            if (!propertyModel.isWritable() || params.contains(propertyModel.getReadName())) {
-                continue;
-            }
-            ModelDeserializer<JsonParser> modelDeserializer = memberTypeProcessor(chain, propertyModel, hasCreator);
-            processors.put(renamer.apply(propertyModel.getReadName()), modelDeserializer);
-        }
+        boolean strictIJson = jsonbContext.getConfigProperties().isStrictIJson();
         for (String s : params) {
             CreatorModel creatorModel = creator.findByName(s);
             ModelDeserializer<JsonParser> modelDeserializer = typeProcessor(chain,
@@ -229,7 +231,7 @@ public class DeserializationModelCreator {
                                                                             creatorModel.getCustomization(),
                                                                             JustReturn.instance());
             String parameterName = renamer.apply(creatorModel.getName());
-            processors.put(parameterName, modelDeserializer);
+            creatorProcessors.put(parameterName, modelDeserializer);
             if (creatorModel.getCustomization().isRequired()) {
                 defaultCreatorValues.put(parameterName, new RequiredCreatorParameter(parameterName));
             } else {
@@ -237,6 +239,23 @@ public class DeserializationModelCreator {
                 defaultCreatorValues.put(parameterName, DEFAULT_CREATOR_VALUES.getOrDefault(rawParamType, NULL_PROVIDER));
             }
         }
+        //processors are kept in the property order, since the property matcher expects properties in this order
+        for (PropertyModel propertyModel : classModel.getSortedProperties()) {
+            String propertyName = renamer.apply(propertyModel.getReadName());
+            if (params.contains(propertyModel.getReadName())) {
+                ModelDeserializer<JsonParser> parameterProcessor = creatorProcessors.remove(propertyName);
+                if (parameterProcessor != null) {
+                    processors.put(propertyName, parameterProcessor);
+                }
+            } else if (propertyModel.isWritable()) {
+                ModelDeserializer<JsonParser> modelDeserializer = memberTypeProcessor(chain, propertyModel, hasCreator);
+                processors.put(propertyName, modelDeserializer);
+                if (!hasCreator) {
+                    compiledProperties.put(propertyName, compiledProperty(chain, propertyModel, modelDeserializer, strictIJson));
+                }
+            }
+        }
+        processors.putAll(creatorProcessors);
         ModelDeserializer<JsonParser> instanceCreator;
         TypeInheritanceConfiguration typeInheritanceConfiguration = classCustomization.getPolymorphismConfig();
         Set<String> ignoredProperties = collectIgnoredProperties(typeInheritanceConfiguration);
@@ -245,8 +264,9 @@ public class DeserializationModelCreator {
             instanceCreator = new JsonbCreatorDeserializer(processors, defaultCreatorValues, creator, rawType, renamer,
                                                            failOnUnknownProperties, ignoredProperties);
         } else {
-            ModelDeserializer<JsonParser> typeWrapper = new ObjectDeserializer(processors, renamer, rawType,
-                                                                               failOnUnknownProperties, ignoredProperties);
+            ModelDeserializer<JsonParser> typeWrapper = new CompiledObjectDeserializer(compiledProperties, renamer, rawType,
+                                                                                       failOnUnknownProperties,
+                                                                                       ignoredProperties);
             instanceCreator = new DefaultObjectInstanceCreator(typeWrapper, rawType,
                                                                classModel.getDefaultConstructor());
         }
@@ -335,6 +355,13 @@ public class DeserializationModelCreator {
                                                                     arrayType,
                                                                     propertyCustomization,
                                                                     JustReturn.instance());
+        if (PrimitiveArrayDeserializer.isSupported(rawType) && isDirectlyParsed(arrayType, propertyCustomization)) {
+            PrimitiveArrayDeserializer arrayDeserializer = PrimitiveArrayDeserializer.create(rawType, typeProcessor);
+            PositionChecker positionChecker = new PositionChecker(arrayDeserializer, rawType, Event.START_ARRAY);
+            NullCheckDeserializer nullChecker = new NullCheckDeserializer(positionChecker, JustReturn.instance());
+            models.put(cachedItem, nullChecker);
+            return nullChecker;
+        }
         return createArrayCommonDeserializer(cachedItem, rawType, arrayType, typeProcessor);
     }
 
@@ -414,15 +441,40 @@ public class DeserializationModelCreator {
     private ModelDeserializer<JsonParser> memberTypeProcessor(LinkedList<Type> chain,
                                                               PropertyModel propertyModel,
                                                               boolean hasCreator) {
-        ModelDeserializer<Object> memberDeserializer;
+        ModelDeserializer<Object> memberDeserializer = valueSetter(propertyModel);
         Type type = propertyModel.getPropertyDeserializationType();
-        memberDeserializer = new ValueSetterDeserializer(propertyModel.getSetValueHandle());
         if (hasCreator) {
             memberDeserializer = new DeferredDeserializer(memberDeserializer);
         }
         return typeProcessor(chain, type, propertyModel.getCustomization(), memberDeserializer);
     }
 
+    private static ModelDeserializer<Object> valueSetter(PropertyModel propertyModel) {
+        if (propertyModel.getWriteAccessor() != null) {
+            return new GeneratedValueSetterDeserializer(propertyModel.getWriteAccessor(), propertyModel.getWriteAccessorIndex());
+        }
+        return new ValueSetterDeserializer(propertyModel.getSetValueHandle());
+    }
+
+    private CompiledObjectDeserializer.CompiledProperty compiledProperty(LinkedList<Type> chain,
+                                                                         PropertyModel propertyModel,
+                                                                         ModelDeserializer<JsonParser> modelDeserializer,
+                                                                         boolean strictIJson) {
+        Type resolved = ReflectionUtils.resolveType(chain, propertyModel.getPropertyDeserializationType());
+        Class<?> rawType = ReflectionUtils.getRawType(resolved);
+        if (CompiledObjectDeserializer.isScalar(rawType, strictIJson) && isDirectlyParsed(rawType, propertyModel.getCustomization())) {
+            return CompiledObjectDeserializer.scalarProperty(rawType, modelDeserializer, valueSetter(propertyModel), propertyModel);
+        }
+        return CompiledObjectDeserializer.chainProperty(modelDeserializer);
+    }
+
+    private boolean isDirectlyParsed(Class<?> rawType, Customization customization) {
+        ComponentBoundCustomization componentCustomization = (ComponentBoundCustomization) customization;
+        return customization.getDeserializeNumberFormatter() == null
+                && userDeserializer(rawType, componentCustomization).isEmpty()
+                && adapterBinding(rawType, componentCustomization).isEmpty();
+    }
+
     private ModelDeserializer<JsonParser> typeProcessor(LinkedList<Type> chain,
                                                         Type type,
                                                         Customization customization,
@@ -466,8 +518,7 @@ public class DeserializationModelCreator {
 
             AdapterDeserializer adapterDeserializer = new AdapterDeserializer(adapter, memberDeserializer);
             return (parser, context) -> {
-                DeserializationContextImpl newContext = new DeserializationContextImpl(context);
-                Object fromJson = targetAdapterModel.deserialize(parser, newContext);
+                Object fromJson = targetAdapterModel.deserialize(parser, context.childContext());
                 return adapterDeserializer.deserialize(fromJson, context);
             };
         }
@@ -0,0 +1,44 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
+
+/**
+ * Value setter. Sets deserialized value to the instance with the use of the generated {@link ClassPropertyAccessor}.
+ */
+class GeneratedValueSetterDeserializer implements ModelDeserializer<Object> {
+
+    private final ClassPropertyAccessor accessor;
+    private final int index;
+
+    GeneratedValueSetterDeserializer(ClassPropertyAccessor accessor, int index) {
+        this.accessor = accessor;
+        this.index = index;
+    }
+
+    @Override
+    public Object deserialize(Object value, DeserializationContextImpl context) {
+        Object object = context.getInstance();
+        try {
+            accessor.setValue(object, index, value);
+            return value;
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+}
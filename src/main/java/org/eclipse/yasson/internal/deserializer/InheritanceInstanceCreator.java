@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -15,18 +15,20 @@ package org.eclipse.yasson.internal.deserializer;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
-import jakarta.json.JsonObject;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.internal.DeserializationContextImpl;
-import org.eclipse.yasson.internal.jsonstructure.JsonStructureToParserAdapter;
 import org.eclipse.yasson.internal.model.customization.TypeInheritanceConfiguration;
 
 import static jakarta.json.stream.JsonParser.Event;
 
 /**
  * Instance creator following the inheritance structure defined by {@link jakarta.json.bind.annotation.JsonbTypeInfo}.
+ * <br>
+ * Object is not materialized to find the polymorphism key. Events preceding the key are buffered and replayed
+ * to the selected deserializer, followed by the remaining events of the original parser. When the key is the first
+ * property, as written by Yasson, nothing but the object start is replayed.
  */
 class InheritanceInstanceCreator implements ModelDeserializer<JsonParser> {
 
@@ -48,28 +50,55 @@ class InheritanceInstanceCreator implements ModelDeserializer<JsonParser> {
 
     @Override
     public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
-        String alias;
-        JsonParser jsonParser;
         String polymorphismKeyName = typeInheritanceConfiguration.getFieldName();
-        JsonObject object = parser.getObject();
-        alias = object.getString(polymorphismKeyName, null);
-        JsonObject newJsonObject = context.getJsonbContext().getJsonProvider().createObjectBuilder(object)
-                .remove(polymorphismKeyName)
-                .build();
-        jsonParser = new JsonStructureToParserAdapter(newJsonObject);
-        //To get to the first event
-        Event event = jsonParser.next();
-        context.setLastValueEvent(event);
-        Class<?> polymorphicTypeClass;
+        ReplayingParser replayingParser = new ReplayingParser(parser,
+                                                              context.getJsonbContext().getJsonProvider(),
+                                                              Event.START_OBJECT);
+        String alias = null;
+        int depth = 0;
+        //only the events preceding the polymorphism key are buffered, the rest is read directly from the parser
+        while (parser.hasNext()) {
+            Event event = parser.next();
+            if (depth == 0 && event == Event.KEY_NAME && polymorphismKeyName.equals(parser.getString())) {
+                alias = readAlias(parser);
+                break;
+            }
+            replayingParser.buffer(event, parser);
+            if (event == Event.START_OBJECT || event == Event.START_ARRAY) {
+                depth++;
+            } else if (event == Event.END_OBJECT || event == Event.END_ARRAY) {
+                if (depth == 0) {
+                    break;
+                }
+                depth--;
+            }
+        }
+        context.setLastValueEvent(Event.START_OBJECT);
         if (alias == null) {
-            return defaultProcessor.deserialize(jsonParser, context);
+            return defaultProcessor.deserialize(replayingParser, context);
         }
-        polymorphicTypeClass = getPolymorphicTypeClass(alias);
+        Class<?> polymorphicTypeClass = getPolymorphicTypeClass(alias);
         if (polymorphicTypeClass.equals(processedType)) {
-            return defaultProcessor.deserialize(jsonParser, context);
+            return defaultProcessor.deserialize(replayingParser, context);
         }
         ModelDeserializer<JsonParser> deserializer = deserializationModelCreator.deserializerChain(polymorphicTypeClass);
-        return deserializer.deserialize(jsonParser, context);
+        return deserializer.deserialize(replayingParser, context);
+    }
+
+    private static String readAlias(JsonParser parser) {
+        Event event = parser.next();
+        switch (event) {
+        case VALUE_STRING:
+            return parser.getString();
+        case START_OBJECT:
+            parser.skipObject();
+            return null;
+        case START_ARRAY:
+            parser.skipArray();
+            return null;
+        default:
+            return null;
+        }
     }
 
     @Override
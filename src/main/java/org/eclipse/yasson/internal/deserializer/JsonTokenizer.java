@@ -0,0 +1,391 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.regex.Pattern;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+/**
+ * Resumable tokenizer of the UTF-8 encoded JSON, fed by the chunks of bytes as they arrive.
+ * <br>
+ * Tokenizer never waits for the input. All its state, including the partially read strings, escape sequences,
+ * multibyte characters, numbers and literals, is kept between the chunks. Recognized events are added to the compact
+ * token buffer of the {@link ReplayingParser}, which replays them once the root value is complete. Texts of the tokens
+ * are copied to the buffer from the reused builder, so no string is created per token.
+ */
+final class JsonTokenizer {
+
+    private static final Pattern NUMBER = Pattern.compile("-?(?:0|[1-9][0-9]*)(?:\\.[0-9]+)?(?:[eE][+-]?[0-9]+)?");
+    private static final byte[] TRUE = {'t', 'r', 'u', 'e'};
+    private static final byte[] FALSE = {'f', 'a', 'l', 's', 'e'};
+    private static final byte[] NULL = {'n', 'u', 'l', 'l'};
+
+    private static final int EXPECT_VALUE = 0;
+    private static final int EXPECT_VALUE_OR_END = 1;
+    private static final int EXPECT_KEY = 2;
+    private static final int EXPECT_KEY_OR_END = 3;
+    private static final int EXPECT_COLON = 4;
+    private static final int EXPECT_COMMA_OR_END = 5;
+    private static final int DONE = 6;
+
+    private static final int TOKEN_NONE = 0;
+    private static final int TOKEN_STRING = 1;
+    private static final int TOKEN_KEY = 2;
+    private static final int TOKEN_NUMBER = 3;
+    private static final int TOKEN_LITERAL = 4;
+
+    private static final int STRING_CHARS = 0;
+    private static final int STRING_ESCAPE = 1;
+    private static final int STRING_UNICODE = 2;
+
+    private final ReplayingParser events;
+    private final StringBuilder text = new StringBuilder();
+    private boolean[] objectScopes = new boolean[16];
+    private int depth;
+    private int state = EXPECT_VALUE;
+    private int token = TOKEN_NONE;
+    private int stringState;
+    private int unicode;
+    private int unicodeDigits;
+    private int codePoint;
+    private int continuationBytes;
+    private byte[] literal;
+    private int literalPosition;
+    private JsonParser.Event literalEvent;
+    private long offset;
+
+    /**
+     * Create new instance.
+     *
+     * @param jsonProvider provider used to create values of the buffered structures
+     */
+    JsonTokenizer(JsonProvider jsonProvider) {
+        this.events = new ReplayingParser(null, jsonProvider);
+    }
+
+    /**
+     * Tokenize all the remaining bytes of the buffer.
+     *
+     * @param buffer next chunk of the input
+     * @return whether the root value is complete
+     * @throws JsonParsingException if the input is not a valid JSON
+     */
+    boolean feed(ByteBuffer buffer) {
+        while (buffer.hasRemaining()) {
+            int position = buffer.position();
+            if (process(buffer.get(position) & 0xFF)) {
+                buffer.position(position + 1);
+                offset++;
+            }
+        }
+        return state == DONE;
+    }
+
+    /**
+     * Finish the tokenization at the end of the input.
+     *
+     * @throws JsonParsingException if the root value is not complete
+     */
+    void finish() {
+        if (token == TOKEN_NUMBER) {
+            endNumber();
+        }
+        if (state != DONE) {
+            throw error("Unexpected end of JSON input");
+        }
+    }
+
+    /**
+     * Parser replaying the events of the complete root value, positioned at its first event.
+     *
+     * @return replaying parser
+     */
+    ReplayingParser parser() {
+        return events;
+    }
+
+    private boolean process(int b) {
+        switch (token) {
+        case TOKEN_STRING:
+        case TOKEN_KEY:
+            stringByte(b);
+            return true;
+        case TOKEN_NUMBER:
+            if (isNumberByte(b)) {
+                text.append((char) b);
+                return true;
+            }
+            endNumber();
+            return false;
+        case TOKEN_LITERAL:
+            if (b != literal[literalPosition]) {
+                throw unexpected(b);
+            }
+            if (++literalPosition == literal.length) {
+                token = TOKEN_NONE;
+                events.add(literalEvent, null, false);
+                afterValue();
+            }
+            return true;
+        default:
+            structural(b);
+            return true;
+        }
+    }
+
+    private void structural(int b) {
+        if (b == ' ' || b == '\t' || b == '\n' || b == '\r') {
+            return;
+        }
+        switch (state) {
+        case EXPECT_VALUE:
+            startValue(b);
+            break;
+        case EXPECT_VALUE_OR_END:
+            if (b == ']') {
+                endStructure(JsonParser.Event.END_ARRAY);
+            } else {
+                startValue(b);
+            }
+            break;
+        case EXPECT_KEY_OR_END:
+            if (b == '}') {
+                endStructure(JsonParser.Event.END_OBJECT);
+            } else {
+                startKey(b);
+            }
+            break;
+        case EXPECT_KEY:
+            startKey(b);
+            break;
+        case EXPECT_COLON:
+            if (b != ':') {
+                throw unexpected(b);
+            }
+            state = EXPECT_VALUE;
+            break;
+        case EXPECT_COMMA_OR_END:
+            if (b == ',') {
+                state = objectScopes[depth] ? EXPECT_KEY : EXPECT_VALUE;
+            } else if (b == '}' && objectScopes[depth]) {
+                endStructure(JsonParser.Event.END_OBJECT);
+            } else if (b == ']' && !objectScopes[depth]) {
+                endStructure(JsonParser.Event.END_ARRAY);
+            } else {
+                throw unexpected(b);
+            }
+            break;
+        default:
+            throw unexpected(b);
+        }
+    }
+
+    private void startValue(int b) {
+        switch (b) {
+        case '{':
+            startStructure(JsonParser.Event.START_OBJECT, true);
+            state = EXPECT_KEY_OR_END;
+            break;
+        case '[':
+            startStructure(JsonParser.Event.START_ARRAY, false);
+            state = EXPECT_VALUE_OR_END;
+            break;
+        case '"':
+            startString(TOKEN_STRING);
+            break;
+        case 't':
+            startLiteral(TRUE, JsonParser.Event.VALUE_TRUE);
+            break;
+        case 'f':
+            startLiteral(FALSE, JsonParser.Event.VALUE_FALSE);
+            break;
+        case 'n':
+            startLiteral(NULL, JsonParser.Event.VALUE_NULL);
+            break;
+        default:
+            if (b != '-' && (b < '0' || b > '9')) {
+                throw unexpected(b);
+            }
+            token = TOKEN_NUMBER;
+            text.setLength(0);
+            text.append((char) b);
+        }
+    }
+
+    private void startKey(int b) {
+        if (b != '"') {
+            throw unexpected(b);
+        }
+        startString(TOKEN_KEY);
+    }
+
+    private void startStructure(JsonParser.Event event, boolean object) {
+        events.add(event, null, false);
+        depth++;
+        if (depth == objectScopes.length) {
+            objectScopes = Arrays.copyOf(objectScopes, depth * 2);
+        }
+        objectScopes[depth] = object;
+    }
+
+    private void endStructure(JsonParser.Event event) {
+        events.add(event, null, false);
+        depth--;
+        afterValue();
+    }
+
+    private void startString(int stringToken) {
+        token = stringToken;
+        stringState = STRING_CHARS;
+        text.setLength(0);
+    }
+
+    private void startLiteral(byte[] literal, JsonParser.Event event) {
+        token = TOKEN_LITERAL;
+        this.literal = literal;
+        this.literalPosition = 1;
+        this.literalEvent = event;
+    }
+
+    private void afterValue() {
+        state = depth == 0 ? DONE : EXPECT_COMMA_OR_END;
+    }
+
+    private void stringByte(int b) {
+        switch (stringState) {
+        case STRING_ESCAPE:
+            escapedByte(b);
+            break;
+        case STRING_UNICODE:
+            int digit = Character.digit(b, 16);
+            if (digit < 0) {
+                throw unexpected(b);
+            }
+            unicode = unicode << 4 | digit;
+            if (++unicodeDigits == 4) {
+                text.append((char) unicode);
+                stringState = STRING_CHARS;
+            }
+            break;
+        default:
+            stringCharByte(b);
+        }
+    }
+
+    private void escapedByte(int b) {
+        switch (b) {
+        case '"':
+        case '\\':
+        case '/':
+            text.append((char) b);
+            break;
+        case 'b':
+            text.append('\b');
+            break;
+        case 'f':
+            text.append('\f');
+            break;
+        case 'n':
+            text.append('\n');
+            break;
+        case 'r':
+            text.append('\r');
+            break;
+        case 't':
+            text.append('\t');
+            break;
+        case 'u':
+            unicode = 0;
+            unicodeDigits = 0;
+            stringState = STRING_UNICODE;
+            return;
+        default:
+            throw unexpected(b);
+        }
+        stringState = STRING_CHARS;
+    }
+
+    private void stringCharByte(int b) {
+        if (continuationBytes > 0) {
+            if ((b & 0xC0) != 0x80) {
+                throw error("Invalid UTF-8 sequence");
+            }
+            codePoint = codePoint << 6 | (b & 0x3F);
+            if (--continuationBytes == 0) {
+                if (!Character.isValidCodePoint(codePoint)) {
+                    throw error("Invalid UTF-8 sequence");
+                }
+                text.appendCodePoint(codePoint);
+            }
+        } else if (b == '"') {
+            endString();
+        } else if (b == '\\') {
+            stringState = STRING_ESCAPE;
+        } else if (b < 0x20) {
+            throw unexpected(b);
+        } else if (b < 0x80) {
+            text.append((char) b);
+        } else if ((b & 0xE0) == 0xC0) {
+            codePoint = b & 0x1F;
+            continuationBytes = 1;
+        } else if ((b & 0xF0) == 0xE0) {
+            codePoint = b & 0x0F;
+            continuationBytes = 2;
+        } else if ((b & 0xF8) == 0xF0) {
+            codePoint = b & 0x07;
+            continuationBytes = 3;
+        } else {
+            throw error("Invalid UTF-8 sequence");
+        }
+    }
+
+    private void endString() {
+        if (token == TOKEN_KEY) {
+            events.add(JsonParser.Event.KEY_NAME, text, false);
+            state = EXPECT_COLON;
+        } else {
+            events.add(JsonParser.Event.VALUE_STRING, text, false);
+            afterValue();
+        }
+        token = TOKEN_NONE;
+    }
+
+    private static boolean isNumberByte(int b) {
+        return (b >= '0' && b <= '9') || b == '-' || b == '+' || b == '.' || b == 'e' || b == 'E';
+    }
+
+    private void endNumber() {
+        if (!NUMBER.matcher(text).matches()) {
+            throw error("Invalid number " + text);
+        }
+        boolean integral = text.indexOf(".") < 0 && text.indexOf("e") < 0 && text.indexOf("E") < 0;
+        events.add(JsonParser.Event.VALUE_NUMBER, text, integral);
+        token = TOKEN_NONE;
+        afterValue();
+    }
+
+    private JsonParsingException unexpected(int b) {
+        return error("Unexpected char " + b + (b >= 0x20 && b < 0x7F ? " '" + (char) b + "'" : ""));
+    }
+
+    private JsonParsingException error(String message) {
+        StreamLocation location = new StreamLocation(offset);
+        return new JsonParsingException(message + " at " + location, location);
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,7 +13,6 @@
 package org.eclipse.yasson.internal.deserializer;
 
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,16 +28,21 @@ import org.eclipse.yasson.internal.model.JsonbCreator;
 import org.eclipse.yasson.internal.properties.MessageKeys;
 import org.eclipse.yasson.internal.properties.Messages;
 
-import static org.eclipse.yasson.internal.deserializer.ObjectDeserializer.NOOP;
-import static org.eclipse.yasson.internal.deserializer.ObjectDeserializer.VALUE_SKIPPERS;
+import static org.eclipse.yasson.internal.deserializer.CompiledObjectDeserializer.NOOP;
+import static org.eclipse.yasson.internal.deserializer.CompiledObjectDeserializer.VALUE_SKIPPERS;
 
 /**
  * Creator of the Object instance with the usage of the {@link JsonbCreator}.
+ * <br>
+ * Position of each creator parameter is resolved when this deserializer is created. Deserialized parameter values
+ * are stored directly to the slot array passed to the creator, and the presence bitmask tracks the slots whose
+ * default value has to be provided.
  */
 class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
 
-    private final Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains;
-    private final Map<String, ModelDeserializer<Object>> defaultCreatorValues;
+    private final PropertyMatcher<ModelDeserializer<JsonParser>> propertyDeserializerChains;
+    private final int[] parameterSlots;
+    private final ModelDeserializer<Object>[] defaultCreatorValues;
     private final List<String> creatorParams;
     private final Set<String> ignoredProperties;
     private final JsonbCreator creator;
@@ -46,6 +50,7 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
     private final Function<String, String> renamer;
     private final boolean failOnUnknownProperties;
 
+    @SuppressWarnings("unchecked")
     JsonbCreatorDeserializer(Map<String, ModelDeserializer<JsonParser>> propertyDeserializerChains,
                              Map<String, ModelDeserializer<Object>> defaultCreatorValues,
                              JsonbCreator creator,
@@ -53,9 +58,13 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
                              Function<String, String> renamer,
                              boolean failOnUnknownProperties,
                              Set<String> ignoredProperties) {
-        this.propertyDeserializerChains = propertyDeserializerChains;
-        this.defaultCreatorValues = defaultCreatorValues;
-        this.creatorParams = Arrays.stream(creator.getParams()).map(CreatorModel::getName).collect(Collectors.toList());
+        this.propertyDeserializerChains = new PropertyMatcher<>(propertyDeserializerChains);
+        this.creatorParams = Arrays.stream(creator.getParams())
+                .map(CreatorModel::getName)
+                .map(renamer)
+                .collect(Collectors.toList());
+        this.parameterSlots = propertyDeserializerChains.keySet().stream().mapToInt(creatorParams::indexOf).toArray();
+        this.defaultCreatorValues = creatorParams.stream().map(defaultCreatorValues::get).toArray(ModelDeserializer[]::new);
         this.ignoredProperties = Set.copyOf(ignoredProperties);
         this.creator = creator;
         this.clazz = clazz;
@@ -66,7 +75,9 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
     @Override
     public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
         String key = null;
-        Map<String, Object> paramValues = new HashMap<>();
+        int expected = 0;
+        Object[] params = new Object[defaultCreatorValues.length];
+        long[] present = new long[(params.length + 63) >>> 6];
         while (parser.hasNext()) {
             final JsonParser.Event next = parser.next();
             context.setLastValueEvent(next);
@@ -81,11 +92,15 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
             case VALUE_NUMBER:
             case VALUE_FALSE:
             case VALUE_TRUE:
-                if (propertyDeserializerChains.containsKey(key)) {
+                int index = propertyDeserializerChains.indexOf(key, expected);
+                if (index >= 0) {
+                    expected = index + 1;
                     try {
-                        Object o = propertyDeserializerChains.get(key).deserialize(parser, context);
-                        if (creatorParams.contains(key)) {
-                            paramValues.put(key, o);
+                        Object o = propertyDeserializerChains.valueAt(index).deserialize(parser, context);
+                        int slot = parameterSlots[index];
+                        if (slot >= 0) {
+                            params[slot] = o;
+                            present[slot >>> 6] |= 1L << slot;
                         }
                     } catch (JsonbException e) {
                         throw new JsonbException("Unable to deserialize property '" + key + "' because of: " + e.getMessage(), e);
@@ -98,18 +113,13 @@ class JsonbCreatorDeserializer implements ModelDeserializer<JsonParser> {
                 }
                 break;
             case END_OBJECT:
-                Object[] params = new Object[creatorParams.size()];
-                for (int i = 0; i < creatorParams.size(); i++) {
-                    String param = creatorParams.get(i);
-                    if (paramValues.containsKey(param)) {
-                        params[i] = paramValues.get(param);
-                    } else {
-                        params[i] = defaultCreatorValues.get(param).deserialize(null, context);
+                for (int slot = 0; slot < params.length; slot++) {
+                    if ((present[slot >>> 6] & (1L << slot)) == 0) {
+                        params[slot] = defaultCreatorValues[slot].deserialize(null, context);
                     }
                 }
                 context.setInstance(creator.call(params, clazz));
-                context.getDeferredDeserializers().forEach(Runnable::run);
-                context.getDeferredDeserializers().clear();
+                context.runDeferredDeserializers();
                 return context.getInstance();
             default:
                 throw new JsonbException("Unexpected state: " + next);
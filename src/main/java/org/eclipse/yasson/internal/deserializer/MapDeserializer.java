@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -106,8 +106,7 @@ class MapDeserializer implements ModelDeserializer<JsonParser> {
     private Object deserializeValue(JsonParser parser,
                                     DeserializationContextImpl context,
                                     ModelDeserializer<JsonParser> deserializer) {
-        DeserializationContextImpl keyContext = new DeserializationContextImpl(context);
-        return deserializer.deserialize(parser, keyContext);
+        return deserializer.deserialize(parser, context.childContext());
     }
 
     private enum Mode {
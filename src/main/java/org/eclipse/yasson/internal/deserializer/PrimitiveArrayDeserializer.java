@@ -0,0 +1,257 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+
+/**
+ * Deserializer of the primitive arrays, which components have no number format, adapter or user deserializer bound.
+ * <br>
+ * Components are parsed directly from the parser into the growable primitive buffer, when the received value event
+ * is the natural one for the component type. Buffer is trimmed to the resulting array once the array end is reached.
+ * Any other component value is deserialized by the component deserializer.
+ */
+final class PrimitiveArrayDeserializer implements ModelDeserializer<JsonParser> {
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    private static final Map<Class<?>, Supplier<PrimitiveBuffer>> BUFFERS = Map.of(boolean[].class, BooleanArrayBuffer::new,
+                                                                                   double[].class, DoubleArrayBuffer::new,
+                                                                                   int[].class, IntegerArrayBuffer::new,
+                                                                                   long[].class, LongArrayBuffer::new);
+
+    private final Supplier<PrimitiveBuffer> bufferFactory;
+    private final ModelDeserializer<JsonParser> componentDeserializer;
+
+    private PrimitiveArrayDeserializer(Supplier<PrimitiveBuffer> bufferFactory,
+                                       ModelDeserializer<JsonParser> componentDeserializer) {
+        this.bufferFactory = bufferFactory;
+        this.componentDeserializer = componentDeserializer;
+    }
+
+    /**
+     * Whether the given array type is supported by this deserializer.
+     *
+     * @param arrayType array type
+     * @return whether array type is supported
+     */
+    static boolean isSupported(Class<?> arrayType) {
+        return BUFFERS.containsKey(arrayType);
+    }
+
+    /**
+     * Create deserializer of the given array type.
+     *
+     * @param arrayType             {@link #isSupported(Class) supported} array type
+     * @param componentDeserializer deserializer of the component values which are not parsed directly
+     * @return array deserializer
+     */
+    static PrimitiveArrayDeserializer create(Class<?> arrayType, ModelDeserializer<JsonParser> componentDeserializer) {
+        return new PrimitiveArrayDeserializer(BUFFERS.get(arrayType), componentDeserializer);
+    }
+
+    @Override
+    public Object deserialize(JsonParser parser, DeserializationContextImpl context) {
+        PrimitiveBuffer buffer = bufferFactory.get();
+        while (parser.hasNext()) {
+            final JsonParser.Event next = parser.next();
+            context.setLastValueEvent(next);
+            switch (next) {
+            case START_OBJECT:
+            case START_ARRAY:
+            case VALUE_STRING:
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+            case VALUE_NUMBER:
+            case VALUE_NULL:
+                if (!buffer.addDirectly(next, parser)) {
+                    buffer.addValue(componentDeserializer.deserialize(parser, context.childContext()));
+                }
+                break;
+            case END_ARRAY:
+                return buffer.toArray();
+            default:
+                throw new JsonbException("Unexpected state: " + next);
+            }
+        }
+        return buffer.toArray();
+    }
+
+    /**
+     * Growable buffer of the array components.
+     */
+    private abstract static class PrimitiveBuffer {
+
+        int size;
+
+        /**
+         * Add value of the current event directly to the buffer.
+         *
+         * @param event  current event
+         * @param parser parser positioned at the value
+         * @return whether the value has been added, false if event is not natural for the component type
+         */
+        abstract boolean addDirectly(JsonParser.Event event, JsonParser parser);
+
+        /**
+         * Add value deserialized by the component deserializer to the buffer.
+         *
+         * @param value deserialized value
+         */
+        abstract void addValue(Object value);
+
+        /**
+         * Return the resulting array trimmed to the number of added components.
+         *
+         * @return resulting array
+         */
+        abstract Object toArray();
+
+    }
+
+    private static final class IntegerArrayBuffer extends PrimitiveBuffer {
+
+        private int[] buffer = new int[INITIAL_CAPACITY];
+
+        @Override
+        boolean addDirectly(JsonParser.Event event, JsonParser parser) {
+            if (event == JsonParser.Event.VALUE_NUMBER) {
+                add(parser.getInt());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void addValue(Object value) {
+            add((int) value);
+        }
+
+        private void add(int value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+    }
+
+    private static final class LongArrayBuffer extends PrimitiveBuffer {
+
+        private long[] buffer = new long[INITIAL_CAPACITY];
+
+        @Override
+        boolean addDirectly(JsonParser.Event event, JsonParser parser) {
+            if (event == JsonParser.Event.VALUE_NUMBER) {
+                add(parser.getLong());
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void addValue(Object value) {
+            add((long) value);
+        }
+
+        private void add(long value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+    }
+
+    private static final class DoubleArrayBuffer extends PrimitiveBuffer {
+
+        private double[] buffer = new double[INITIAL_CAPACITY];
+
+        @Override
+        boolean addDirectly(JsonParser.Event event, JsonParser parser) {
+            if (event == JsonParser.Event.VALUE_NUMBER) {
+                add(Double.parseDouble(parser.getString()));
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void addValue(Object value) {
+            add((double) value);
+        }
+
+        private void add(double value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+    }
+
+    private static final class BooleanArrayBuffer extends PrimitiveBuffer {
+
+        private boolean[] buffer = new boolean[INITIAL_CAPACITY];
+
+        @Override
+        boolean addDirectly(JsonParser.Event event, JsonParser parser) {
+            if (event == JsonParser.Event.VALUE_TRUE || event == JsonParser.Event.VALUE_FALSE) {
+                add(event == JsonParser.Event.VALUE_TRUE);
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        void addValue(Object value) {
+            add((boolean) value);
+        }
+
+        private void add(boolean value) {
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = value;
+        }
+
+        @Override
+        Object toArray() {
+            return Arrays.copyOf(buffer, size);
+        }
+
+    }
+
+}
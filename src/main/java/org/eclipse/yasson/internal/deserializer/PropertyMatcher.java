@@ -0,0 +1,154 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Immutable lookup table of the deserialized properties.
+ * <br>
+ * Property names are stored together with their precomputed length and hash in the open addressing table.
+ * Candidate names are compared by the length and hash first, so the full string comparison is done only once
+ * for the matching property.
+ * <br>
+ * Properties keep the order of the map they were created from. Since the JSON is usually produced with the same property
+ * order, {@link #indexOf(String, int)} compares the name with the expected next property first and does the table lookup
+ * only if the prediction is wrong. Right and wrong predictions of all the matchers are counted if the system property
+ * {@value #COUNTING_PROPERTY} is set to true, which is meant for the tests and the benchmarks only.
+ *
+ * @param <T> type of the matched value
+ */
+final class PropertyMatcher<T> {
+
+    /**
+     * System property enabling the counting of the predictions.
+     */
+    static final String COUNTING_PROPERTY = "org.eclipse.yasson.propertyMatcherCounting";
+
+    private static final boolean COUNTING = Boolean.getBoolean(COUNTING_PROPERTY);
+    private static final LongAdder HITS = new LongAdder();
+    private static final LongAdder MISSES = new LongAdder();
+
+    private final String[] names;
+    private final int[] hashes;
+    private final Object[] values;
+    private final int[] slots;
+    private final int mask;
+
+    PropertyMatcher(Map<String, T> properties) {
+        int size = properties.size();
+        this.names = new String[size];
+        this.hashes = new int[size];
+        this.values = new Object[size];
+        int capacity = Integer.highestOneBit(Math.max(size, 1) * 2 + 1);
+        this.slots = new int[capacity];
+        this.mask = capacity - 1;
+        int index = 0;
+        for (Map.Entry<String, T> entry : properties.entrySet()) {
+            String name = entry.getKey();
+            int hash = name.hashCode();
+            names[index] = name;
+            hashes[index] = hash;
+            values[index] = entry.getValue();
+            int slot = hash & mask;
+            while (slots[slot] != 0) {
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = ++index;
+        }
+    }
+
+    /**
+     * Return index of the property with the given name.
+     * <br>
+     * Property at the expected index is checked first. The caller is supposed to expect the property following the last
+     * matched one, starting at 0.
+     *
+     * @param name     property name
+     * @param expected index of the expected property, may be greater than the last index
+     * @return index of the property or -1 if there is no property with given name
+     */
+    int indexOf(String name, int expected) {
+        if (expected < names.length) {
+            String candidate = names[expected];
+            if (candidate == name || (candidate.length() == name.length() && candidate.equals(name))) {
+                if (COUNTING) {
+                    HITS.increment();
+                }
+                return expected;
+            }
+        }
+        if (COUNTING) {
+            MISSES.increment();
+        }
+        return lookup(name);
+    }
+
+    /**
+     * Return the number of the properties matched by the prediction, if the counting is enabled.
+     *
+     * @return number of the right predictions
+     */
+    static long hits() {
+        return HITS.sum();
+    }
+
+    /**
+     * Return the number of the properties looked up in the table, if the counting is enabled.
+     *
+     * @return number of the wrong predictions, including the unknown properties
+     */
+    static long misses() {
+        return MISSES.sum();
+    }
+
+    /**
+     * Return value of the property at the given index.
+     *
+     * @param index property index obtained by {@link #indexOf(String, int)}
+     * @return bound value
+     */
+    @SuppressWarnings("unchecked")
+    T valueAt(int index) {
+        return (T) values[index];
+    }
+
+    /**
+     * Return value bound to the property name.
+     *
+     * @param name property name
+     * @return bound value or null if there is no property with given name
+     */
+    @SuppressWarnings("unchecked")
+    T get(String name) {
+        int index = lookup(name);
+        return index < 0 ? null : (T) values[index];
+    }
+
+    private int lookup(String name) {
+        int length = name.length();
+        int hash = name.hashCode();
+        int slot = hash & mask;
+        int index;
+        while ((index = slots[slot]) != 0) {
+            int candidate = index - 1;
+            if (hashes[candidate] == hash && names[candidate].length() == length && names[candidate].equals(name)) {
+                return candidate;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.lang.reflect.Type;
+import java.nio.ByteBuffer;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+
+import jakarta.json.bind.JsonbException;
+
+import org.eclipse.yasson.internal.DeserializationContextImpl;
+import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+
+/**
+ * Subscriber deserializing the UTF-8 encoded JSON published as the chunks of bytes.
+ * <br>
+ * Chunks are requested one by one and passed to the resumable {@link JsonTokenizer} as they arrive, so no thread
+ * is blocked waiting for the input. Once the root value is complete, the subscription is cancelled and the buffered
+ * events are deserialized by the model deserializer chain on the thread which delivered the last chunk. The events are
+ * buffered in the compact form, see {@link ReplayingParser}. Errors thrown by the deserialization complete the result
+ * exceptionally before they are propagated, so the result is always completed.
+ *
+ * @param <T> type of the deserialized value
+ */
+public final class PublisherDeserializer<T> implements Flow.Subscriber<ByteBuffer> {
+
+    private final JsonbContext jsonbContext;
+    private final Type type;
+    private final JsonTokenizer tokenizer;
+    private final CompletableFuture<T> result = new CompletableFuture<>();
+    private Flow.Subscription subscription;
+
+    /**
+     * Create new instance.
+     *
+     * @param jsonbContext jsonb context
+     * @param type         type of the deserialized value
+     */
+    public PublisherDeserializer(JsonbContext jsonbContext, Type type) {
+        this.jsonbContext = jsonbContext;
+        this.type = type;
+        this.tokenizer = new JsonTokenizer(jsonbContext.getJsonProvider());
+    }
+
+    /**
+     * Result of the deserialization, completed once the root value is deserialized or the deserialization fails.
+     *
+     * @return deserialization result
+     */
+    public CompletionStage<T> result() {
+        return result;
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        if (this.subscription != null) {
+            subscription.cancel();
+            return;
+        }
+        this.subscription = subscription;
+        subscription.request(1);
+    }
+
+    @Override
+    public void onNext(ByteBuffer item) {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            if (tokenizer.feed(item)) {
+                subscription.cancel();
+                deserialize();
+            } else {
+                subscription.request(1);
+            }
+        } catch (RuntimeException e) {
+            subscription.cancel();
+            fail(e);
+        } catch (Error e) {
+            subscription.cancel();
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        result.completeExceptionally(throwable);
+    }
+
+    @Override
+    public void onComplete() {
+        if (result.isDone()) {
+            return;
+        }
+        try {
+            tokenizer.finish();
+            deserialize();
+        } catch (RuntimeException e) {
+            fail(e);
+        } catch (Error e) {
+            result.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private void deserialize() {
+        ReplayingParser parser = tokenizer.parser();
+        DeserializationContextImpl context = new DeserializationContextImpl(jsonbContext);
+        context.setLastValueEvent(parser.currentEvent());
+        result.complete(context.deserialize(type, parser));
+    }
+
+    private void fail(RuntimeException e) {
+        if (e instanceof JsonbException) {
+            result.completeExceptionally(e);
+        } else {
+            result.completeExceptionally(new JsonbException(Messages.getMessage(MessageKeys.INTERNAL_ERROR, e.getMessage()), e));
+        }
+    }
+
+}
@@ -0,0 +1,346 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
+
+import jakarta.json.JsonArray;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonValue;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonLocation;
+import jakarta.json.stream.JsonParser;
+
+/**
+ * Parser which replays the buffered events first and then continues with the events of the delegate parser.
+ * <br>
+ * Buffered events are stored in the compact token buffer. Each event takes one byte, which also tells whether it has
+ * a text and whether the number is integral, and the length of its text. Texts of the keys, strings and numbers are
+ * stored one after another in the single array, one byte per char as long as all the chars are Latin-1, so no object
+ * is created per buffered event. Since the events are replayed in order, offset of the current text is advanced
+ * together with the position. Strings are created only when they are requested. Parser starts positioned at the first buffered event, as if it has already been returned by
+ * {@link #next()}. Once the buffer is exhausted, all the calls are passed to the delegate. Parser without the delegate
+ * ends with the last buffered event.
+ */
+final class ReplayingParser implements JsonParser {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int INITIAL_TEXT_CAPACITY = 64;
+    private static final Event[] EVENTS = Event.values();
+    private static final int INTEGRAL = 0x40;
+    private static final int TEXT = 0x20;
+    private static final int EVENT_MASK = TEXT - 1;
+
+    private final JsonParser delegate;
+    private final JsonProvider jsonProvider;
+    private byte[] events = new byte[INITIAL_CAPACITY];
+    private int[] textLengths = new int[INITIAL_CAPACITY];
+    private byte[] latin1Text = new byte[INITIAL_TEXT_CAPACITY];
+    private char[] text;
+    private int textSize;
+    private int textOffset;
+    private int size;
+    private int position;
+
+    /**
+     * Create new instance.
+     *
+     * @param delegate     parser providing the events following the buffered ones
+     * @param jsonProvider provider used to create values of the buffered structures
+     * @param firstEvent   event the parser is positioned at
+     */
+    ReplayingParser(JsonParser delegate, JsonProvider jsonProvider, Event firstEvent) {
+        this(delegate, jsonProvider);
+        add(firstEvent, null, false);
+    }
+
+    /**
+     * Create new instance with the empty buffer. Parser is positioned at the first event added.
+     *
+     * @param delegate     parser providing the events following the buffered ones, null if there are none
+     * @param jsonProvider provider used to create values of the buffered structures
+     */
+    ReplayingParser(JsonParser delegate, JsonProvider jsonProvider) {
+        this.delegate = delegate;
+        this.jsonProvider = jsonProvider;
+    }
+
+    /**
+     * Buffer the current event of the given parser.
+     *
+     * @param event  current event
+     * @param parser parser positioned at the event
+     */
+    void buffer(Event event, JsonParser parser) {
+        switch (event) {
+        case VALUE_NUMBER:
+            add(event, parser.getString(), parser.isIntegralNumber());
+            break;
+        case KEY_NAME:
+        case VALUE_STRING:
+            add(event, parser.getString(), false);
+            break;
+        default:
+            add(event, null, false);
+            break;
+        }
+    }
+
+    /**
+     * Buffer the event.
+     *
+     * @param event          buffered event
+     * @param value          text of the key, string or number event, null otherwise; it is copied, so it can be reused
+     * @param integralNumber whether the number is integral
+     */
+    void add(Event event, CharSequence value, boolean integralNumber) {
+        if (size == events.length) {
+            events = Arrays.copyOf(events, size * 2);
+            textLengths = Arrays.copyOf(textLengths, size * 2);
+        }
+        int flags = integralNumber ? INTEGRAL : 0;
+        if (value != null) {
+            flags |= TEXT;
+            textLengths[size] = value.length();
+            addText(value);
+        }
+        events[size++] = (byte) (event.ordinal() | flags);
+    }
+
+    private void addText(CharSequence value) {
+        int length = value.length();
+        int index = 0;
+        if (text == null) {
+            if (textSize + length > latin1Text.length) {
+                latin1Text = Arrays.copyOf(latin1Text, Math.max(latin1Text.length * 2, textSize + length));
+            }
+            for (; index < length; index++) {
+                char c = value.charAt(index);
+                if (c > 0xFF) {
+                    //all the texts are widened once the first non Latin-1 char is added
+                    text = new char[latin1Text.length];
+                    for (int i = 0; i < textSize + index; i++) {
+                        text[i] = (char) (latin1Text[i] & 0xFF);
+                    }
+                    latin1Text = null;
+                    break;
+                }
+                latin1Text[textSize + index] = (byte) c;
+            }
+        }
+        if (text != null) {
+            if (textSize + length > text.length) {
+                text = Arrays.copyOf(text, Math.max(text.length * 2, textSize + length));
+            }
+            for (; index < length; index++) {
+                text[textSize + index] = value.charAt(index);
+            }
+        }
+        textSize += length;
+    }
+
+    private Event event() {
+        return EVENTS[events[position] & EVENT_MASK];
+    }
+
+    private String text() {
+        int length = textLengths[position];
+        return text == null
+                ? new String(latin1Text, textOffset, length, StandardCharsets.ISO_8859_1)
+                : new String(text, textOffset, length);
+    }
+
+    private boolean replaying() {
+        return position < size;
+    }
+
+    @Override
+    public boolean hasNext() {
+        return position + 1 < size || (delegate != null && delegate.hasNext());
+    }
+
+    @Override
+    public Event next() {
+        if (delegate == null && position + 1 >= size) {
+            throw new NoSuchElementException("No more events");
+        }
+        if (position < size) {
+            if ((events[position] & TEXT) != 0) {
+                textOffset += textLengths[position];
+            }
+            position++;
+        }
+        return replaying() ? event() : delegate.next();
+    }
+
+    @Override
+    public Event currentEvent() {
+        return replaying() ? event() : delegate.currentEvent();
+    }
+
+    @Override
+    public String getString() {
+        if (!replaying()) {
+            return delegate.getString();
+        }
+        if ((events[position] & TEXT) == 0) {
+            throw new IllegalStateException("Current event does not have a string value: " + event());
+        }
+        return text();
+    }
+
+    @Override
+    public boolean isIntegralNumber() {
+        return replaying() ? (events[position] & INTEGRAL) != 0 : delegate.isIntegralNumber();
+    }
+
+    @Override
+    public int getInt() {
+        return replaying() ? getBigDecimal().intValue() : delegate.getInt();
+    }
+
+    @Override
+    public long getLong() {
+        return replaying() ? getBigDecimal().longValue() : delegate.getLong();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal() {
+        if (!replaying()) {
+            return delegate.getBigDecimal();
+        }
+        if (event() != Event.VALUE_NUMBER) {
+            throw new IllegalStateException("Current event is not a number: " + event());
+        }
+        return new BigDecimal(text());
+    }
+
+    @Override
+    public JsonLocation getLocation() {
+        return delegate == null ? StreamLocation.UNKNOWN : delegate.getLocation();
+    }
+
+    @Override
+    public JsonObject getObject() {
+        if (!replaying()) {
+            return delegate.getObject();
+        }
+        if (event() != Event.START_OBJECT) {
+            throw new IllegalStateException("Current event is not an object start: " + event());
+        }
+        JsonObjectBuilder builder = jsonProvider.createObjectBuilder();
+        while (next() != Event.END_OBJECT) {
+            String key = getString();
+            next();
+            builder.add(key, getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public JsonArray getArray() {
+        if (!replaying()) {
+            return delegate.getArray();
+        }
+        if (event() != Event.START_ARRAY) {
+            throw new IllegalStateException("Current event is not an array start: " + event());
+        }
+        JsonArrayBuilder builder = jsonProvider.createArrayBuilder();
+        while (next() != Event.END_ARRAY) {
+            builder.add(getValue());
+        }
+        return builder.build();
+    }
+
+    @Override
+    public JsonValue getValue() {
+        if (!replaying()) {
+            return delegate.getValue();
+        }
+        switch (event()) {
+        case START_OBJECT:
+            return getObject();
+        case START_ARRAY:
+            return getArray();
+        case KEY_NAME:
+        case VALUE_STRING:
+            return jsonProvider.createValue(getString());
+        case VALUE_NUMBER:
+            return jsonProvider.createValue(new BigDecimal(text()));
+        case VALUE_TRUE:
+            return JsonValue.TRUE;
+        case VALUE_FALSE:
+            return JsonValue.FALSE;
+        case VALUE_NULL:
+            return JsonValue.NULL;
+        default:
+            throw new IllegalStateException("Current event does not have a value: " + event());
+        }
+    }
+
+    @Override
+    public Stream<JsonValue> getArrayStream() {
+        return replaying() ? getArray().stream() : delegate.getArrayStream();
+    }
+
+    @Override
+    public Stream<Map.Entry<String, JsonValue>> getObjectStream() {
+        return replaying() ? getObject().entrySet().stream() : delegate.getObjectStream();
+    }
+
+    @Override
+    public void skipArray() {
+        if (replaying()) {
+            skip(Event.START_ARRAY, Event.END_ARRAY);
+        } else {
+            delegate.skipArray();
+        }
+    }
+
+    @Override
+    public void skipObject() {
+        if (replaying()) {
+            skip(Event.START_OBJECT, Event.END_OBJECT);
+        } else {
+            delegate.skipObject();
+        }
+    }
+
+    private void skip(Event start, Event end) {
+        if (event() != start) {
+            return;
+        }
+        int depth = 1;
+        while (depth > 0) {
+            Event next = next();
+            if (next == start) {
+                depth++;
+            } else if (next == end) {
+                depth--;
+            }
+        }
+    }
+
+    @Override
+    public void close() {
+        //noop, delegate parser is closed by its owner
+    }
+
+}
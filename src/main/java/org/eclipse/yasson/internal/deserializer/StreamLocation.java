@@ -0,0 +1,58 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import jakarta.json.stream.JsonLocation;
+
+/**
+ * Location known only by the offset in the input stream.
+ */
+final class StreamLocation implements JsonLocation {
+
+    /**
+     * Unknown location.
+     */
+    static final StreamLocation UNKNOWN = new StreamLocation(-1);
+
+    private final long streamOffset;
+
+    /**
+     * Create new instance.
+     *
+     * @param streamOffset offset in the input stream
+     */
+    StreamLocation(long streamOffset) {
+        this.streamOffset = streamOffset;
+    }
+
+    @Override
+    public long getLineNumber() {
+        return -1;
+    }
+
+    @Override
+    public long getColumnNumber() {
+        return -1;
+    }
+
+    @Override
+    public long getStreamOffset() {
+        return streamOffset;
+    }
+
+    @Override
+    public String toString() {
+        return "(line no=-1, column no=-1, offset=" + streamOffset + ")";
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -55,12 +55,10 @@ class ObjectTypeDeserializer implements ModelDeserializer<JsonParser> {
             toSet = value.getString();
             break;
         case START_OBJECT:
-            DeserializationContextImpl newContext = new DeserializationContextImpl(context);
-            toSet = newContext.deserialize(mapClass, value);
+            toSet = context.childContext().deserialize(mapClass, value);
             break;
         case START_ARRAY:
-            DeserializationContextImpl newContext1 = new DeserializationContextImpl(context);
-            toSet = newContext1.deserialize(LIST, value);
+            toSet = context.childContext().deserialize(LIST, value);
             break;
         default:
             throw new JsonbException("Unexpected event: " + context.getLastValueEvent());
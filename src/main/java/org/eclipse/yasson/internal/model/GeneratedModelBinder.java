@@ -0,0 +1,137 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
+import org.eclipse.yasson.spi.GeneratedBindingModel;
+
+/**
+ * Binds the {@link GeneratedBindingModel} generated at build time to the properties of the parsed {@link ClassModel}.
+ * <br>
+ * Property is bound to the generated member matching its read or write member. Properties without the matching
+ * generated member keep using their reflection handles.
+ */
+public final class GeneratedModelBinder {
+
+    private GeneratedModelBinder() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Binds the generated model to the properties declared by the given class model.
+     *
+     * @param classModel     class model of the class modeled by the generated model
+     * @param generatedModel generated model
+     */
+    public static void bindAccessor(ClassModel classModel, GeneratedBindingModel generatedModel) {
+        Map<String, Integer> readIndexes = indexes(generatedModel.getReadMembers());
+        Map<String, Integer> writeIndexes = indexes(generatedModel.getWriteMembers());
+        ClassPropertyAccessor accessor = new GeneratedAccessor(generatedModel);
+        for (PropertyModel propertyModel : classModel.getSortedProperties()) {
+            if (propertyModel.getClassModel() != classModel) {
+                continue;
+            }
+            Integer readIndex = propertyModel.isReadable() ? readIndexes.get(memberName(propertyModel.getReadMember())) : null;
+            if (readIndex != null) {
+                propertyModel.setReadAccessor(accessor, readIndex);
+            }
+            Integer writeIndex = propertyModel.isWritable()
+                    ? writeIndexes.get(memberName(propertyModel.getWriteMember()))
+                    : null;
+            if (writeIndex != null) {
+                propertyModel.setWriteAccessor(accessor, writeIndex);
+            }
+        }
+    }
+
+    private static Map<String, Integer> indexes(String[] members) {
+        Map<String, Integer> indexes = new HashMap<>();
+        for (int i = 0; i < members.length; i++) {
+            indexes.put(members[i], i);
+        }
+        return indexes;
+    }
+
+    private static String memberName(Member member) {
+        if (member == null) {
+            return null;
+        }
+        return member instanceof Field ? member.getName() : member.getName() + "()";
+    }
+
+    private static final class GeneratedAccessor implements ClassPropertyAccessor {
+
+        private final GeneratedBindingModel model;
+
+        private GeneratedAccessor(GeneratedBindingModel model) {
+            this.model = model;
+        }
+
+        @Override
+        public Object getValue(Object instance, int index) {
+            return model.getValue(instance, index);
+        }
+
+        @Override
+        public void setValue(Object instance, int index, Object value) {
+            model.setValue(instance, index, value);
+        }
+
+        @Override
+        public int getInt(Object instance, int index) {
+            return model.getInt(instance, index);
+        }
+
+        @Override
+        public long getLong(Object instance, int index) {
+            return model.getLong(instance, index);
+        }
+
+        @Override
+        public double getDouble(Object instance, int index) {
+            return model.getDouble(instance, index);
+        }
+
+        @Override
+        public boolean getBoolean(Object instance, int index) {
+            return model.getBoolean(instance, index);
+        }
+
+        @Override
+        public void setInt(Object instance, int index, int value) {
+            model.setInt(instance, index, value);
+        }
+
+        @Override
+        public void setLong(Object instance, int index, long value) {
+            model.setLong(instance, index, value);
+        }
+
+        @Override
+        public void setDouble(Object instance, int index, double value) {
+            model.setDouble(instance, index, value);
+        }
+
+        @Override
+        public void setBoolean(Object instance, int index, boolean value) {
+            model.setBoolean(instance, index, value);
+        }
+
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,9 @@
 
 package org.eclipse.yasson.internal.model;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Executable;
 import java.lang.reflect.InvocationTargetException;
@@ -24,13 +27,22 @@ import org.eclipse.yasson.internal.properties.Messages;
 
 /**
  * Object holding reference to Constructor / Method for custom object creation.
+ * <br>
+ * Creator is invoked through the spread {@link MethodHandle} taking the parameter array, if the executable is accessible
+ * by the public lookup. Reflection is used otherwise.
  */
 public class JsonbCreator {
 
+    private static final MethodHandles.Lookup LOOKUP = ModulesUtil.lookup();
+
+    private static final MethodType INVOKER_TYPE = MethodType.methodType(Object.class, Object[].class);
+
     private final Executable executable;
 
     private final CreatorModel[] params;
 
+    private final MethodHandle invoker;
+
     /**
      * Creates a new instance.
      *
@@ -38,12 +50,38 @@ public class JsonbCreator {
      * @param creatorModels Parameters.
      */
     public JsonbCreator(Executable executable, CreatorModel[] creatorModels) {
+        this(executable, creatorModels, createInvoker(executable));
+    }
+
+    /**
+     * Creates a new instance.
+     *
+     * @param executable    Executable.
+     * @param creatorModels Parameters.
+     * @param invoker       Spread invoker of the executable, null if reflection has to be used.
+     */
+    JsonbCreator(Executable executable, CreatorModel[] creatorModels, MethodHandle invoker) {
         this.executable = executable;
         this.params = creatorModels;
+        this.invoker = invoker;
+    }
+
+    private static MethodHandle createInvoker(Executable executable) {
+        try {
+            MethodHandle handle = executable instanceof Constructor
+                    ? LOOKUP.unreflectConstructor((Constructor<?>) executable)
+                    : LOOKUP.unreflect((Method) executable);
+            return handle.asSpreader(Object[].class, executable.getParameterCount()).asType(INVOKER_TYPE);
+        } catch (IllegalAccessException e) {
+            return null;
+        }
     }
 
     /**
      * Create instance by either constructor or factory method, with provided parameter values and a Class to call on.
+     * Exceptions thrown by the creator are wrapped in {@link InvocationTargetException} and {@link JsonbException},
+     * errors are propagated as they are, regardless of whether the creator is invoked through the method handle
+     * or the reflection.
      *
      * @param params parameters to be passed into constructor / factory method
      * @param on     class to call onto
@@ -52,13 +90,28 @@ public class JsonbCreator {
      */
     @SuppressWarnings("unchecked")
     public <T> T call(Object[] params, Class<T> on) {
+        if (invoker != null) {
+            try {
+                return (T) invoker.invokeExact(params);
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.ERROR_CALLING_JSONB_CREATOR, on),
+                                         new InvocationTargetException(e));
+            }
+        }
         try {
             if (executable instanceof Constructor) {
                 return ((Constructor<T>) executable).newInstance(params);
             } else {
                 return (T) ((Method) executable).invoke(on, params);
             }
-        } catch (IllegalAccessException | InvocationTargetException | InstantiationException e) {
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw new JsonbException(Messages.getMessage(MessageKeys.ERROR_CALLING_JSONB_CREATOR, on), e);
+        } catch (IllegalAccessException | InstantiationException e) {
             throw new JsonbException(Messages.getMessage(MessageKeys.ERROR_CALLING_JSONB_CREATOR, on), e);
         }
     }
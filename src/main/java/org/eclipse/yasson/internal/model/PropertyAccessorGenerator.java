@@ -0,0 +1,687 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.eclipse.yasson.internal.ClassMultiReleaseExtension;
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
+
+/**
+ * Generator of the {@link ClassPropertyAccessor} implementations.
+ * <br>
+ * For every {@link ClassModel} one hidden class is defined in the package of the modeled class. It contains direct
+ * field access and method invocation bytecode for each property declared by that class, so the JIT is able to inline
+ * the access instead of invoking non-constant {@link java.lang.invoke.MethodHandle} instances.
+ * Properties which cannot be accessed directly from the modeled class, or classes for which the hidden class cannot be
+ * defined, keep using their reflection handles.
+ */
+public final class PropertyAccessorGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(PropertyAccessorGenerator.class.getName());
+
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    private static final String ACCESSOR_SUFFIX = "$$YassonAccessor";
+
+    private static final String OBJECT = "java/lang/Object";
+
+    private static final String EXCEPTION = "java/lang/IndexOutOfBoundsException";
+
+    /**
+     * Java 5 class file version. Generated classes do not need StackMapTable attributes with this version.
+     */
+    private static final int CLASS_VERSION = 49;
+
+    private static final int ACC_PUBLIC = 0x0001;
+    private static final int ACC_FINAL = 0x0010;
+    private static final int ACC_SUPER = 0x0020;
+    private static final int ACC_SYNTHETIC = 0x1000;
+
+    private static final Map<Class<?>, String[]> BOXING = new HashMap<>();
+
+    static {
+        BOXING.put(boolean.class, new String[] {"java/lang/Boolean", "booleanValue"});
+        BOXING.put(byte.class, new String[] {"java/lang/Byte", "byteValue"});
+        BOXING.put(char.class, new String[] {"java/lang/Character", "charValue"});
+        BOXING.put(short.class, new String[] {"java/lang/Short", "shortValue"});
+        BOXING.put(int.class, new String[] {"java/lang/Integer", "intValue"});
+        BOXING.put(long.class, new String[] {"java/lang/Long", "longValue"});
+        BOXING.put(float.class, new String[] {"java/lang/Float", "floatValue"});
+        BOXING.put(double.class, new String[] {"java/lang/Double", "doubleValue"});
+    }
+
+    /**
+     * Primitive types accessible without boxing by the {@link ClassPropertyAccessor} methods.
+     */
+    private static final Primitive[] PRIMITIVES = {
+            new Primitive(int.class, "Int", Opcodes.ILOAD_3, Opcodes.IRETURN),
+            new Primitive(long.class, "Long", Opcodes.LLOAD_3, Opcodes.LRETURN),
+            new Primitive(double.class, "Double", Opcodes.DLOAD_3, Opcodes.DRETURN),
+            new Primitive(boolean.class, "Boolean", Opcodes.ILOAD_3, Opcodes.IRETURN)
+    };
+
+    private PropertyAccessorGenerator() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Generates accessor for the properties declared by the given class model and binds it to them.
+     * Properties inherited from the parent class models are bound by the accessor of their own class model.
+     *
+     * @param classModel class model to generate accessor for
+     */
+    public static void bindAccessor(ClassModel classModel) {
+        Class<?> clazz = classModel.getType();
+        if (!isSupportedHost(clazz)) {
+            return;
+        }
+        List<PropertyModel> readProperties = new ArrayList<>();
+        List<PropertyModel> writeProperties = new ArrayList<>();
+        List<Member> readers = new ArrayList<>();
+        List<Member> writers = new ArrayList<>();
+        for (PropertyModel propertyModel : classModel.getSortedProperties()) {
+            if (propertyModel.getClassModel() != classModel) {
+                continue;
+            }
+            Member readMember = propertyModel.getReadMember();
+            if (propertyModel.isReadable() && isAccessible(readMember, null, clazz)) {
+                readProperties.add(propertyModel);
+                readers.add(readMember);
+            }
+            Member writeMember = propertyModel.getWriteMember();
+            if (propertyModel.isWritable() && isAccessible(writeMember, writtenType(writeMember), clazz)) {
+                writeProperties.add(propertyModel);
+                writers.add(writeMember);
+            }
+        }
+        if (readers.isEmpty() && writers.isEmpty()) {
+            return;
+        }
+        ClassPropertyAccessor accessor = defineAccessor(clazz, readers, writers);
+        if (accessor == null) {
+            return;
+        }
+        for (int i = 0; i < readProperties.size(); i++) {
+            readProperties.get(i).setReadAccessor(accessor, i);
+        }
+        for (int i = 0; i < writeProperties.size(); i++) {
+            writeProperties.get(i).setWriteAccessor(accessor, i);
+        }
+    }
+
+    private static ClassPropertyAccessor defineAccessor(Class<?> clazz, List<Member> readers, List<Member> writers) {
+        try {
+            MethodHandles.Lookup hostLookup = hostLookup(clazz);
+            if (hostLookup == null) {
+                return null;
+            }
+            byte[] classBytes = generateClassBytes(internalName(clazz) + ACCESSOR_SUFFIX, clazz, readers, writers);
+            MethodHandles.Lookup accessorLookup = ClassMultiReleaseExtension.defineHiddenClass(hostLookup, classBytes);
+            if (accessorLookup == null) {
+                return null;
+            }
+            Object accessor = accessorLookup.findConstructor(accessorLookup.lookupClass(), MethodType.methodType(void.class))
+                    .invoke();
+            if (accessor instanceof ClassPropertyAccessor) {
+                return (ClassPropertyAccessor) accessor;
+            }
+            LOGGER.fine("Generated accessor of " + clazz + " is not visible to Yasson, reflection will be used instead");
+        } catch (Throwable e) {
+            LOGGER.log(Level.FINE, "Unable to generate property accessor for " + clazz + ", reflection will be used instead", e);
+        }
+        return null;
+    }
+
+    private static MethodHandles.Lookup hostLookup(Class<?> clazz) throws IllegalAccessException {
+        Module yassonModule = PropertyAccessorGenerator.class.getModule();
+        Module hostModule = clazz.getModule();
+        if (!hostModule.isOpen(clazz.getPackageName(), yassonModule)) {
+            return null;
+        }
+        yassonModule.addReads(hostModule);
+        return MethodHandles.privateLookupIn(clazz, LOOKUP);
+    }
+
+    private static boolean isSupportedHost(Class<?> clazz) {
+        return !clazz.isInterface()
+                && !clazz.isArray()
+                && !clazz.isPrimitive()
+                && !clazz.isSynthetic()
+                && clazz.getClassLoader() != null;
+    }
+
+    private static boolean isAccessible(Member member, Class<?> writtenType, Class<?> host) {
+        if (member == null || Modifier.isStatic(member.getModifiers())) {
+            return false;
+        }
+        Class<?> declaringClass = member.getDeclaringClass();
+        boolean memberAccessible = declaringClass == host
+                || (Modifier.isPublic(member.getModifiers()) && isTypeAccessible(declaringClass, host));
+        return memberAccessible && (writtenType == null || isTypeAccessible(writtenType, host));
+    }
+
+    /**
+     * Whether the given type can be resolved from the class defined in the package of the host class.
+     */
+    private static boolean isTypeAccessible(Class<?> type, Class<?> host) {
+        Class<?> checked = type;
+        while (checked.isArray()) {
+            checked = checked.getComponentType();
+        }
+        if (checked.isPrimitive() || checked == host) {
+            return true;
+        }
+        //Nested public and protected classes are public in the class file
+        if (Modifier.isPublic(checked.getModifiers()) || Modifier.isProtected(checked.getModifiers())) {
+            Module module = checked.getModule();
+            return module.isExported(checked.getPackageName(), host.getModule()) && host.getModule().canRead(module);
+        }
+        return checked.getPackageName().equals(host.getPackageName()) && checked.getClassLoader() == host.getClassLoader();
+    }
+
+    private static Class<?> readType(Member member) {
+        return member instanceof Field ? ((Field) member).getType() : ((Method) member).getReturnType();
+    }
+
+    private static Class<?> writtenType(Member member) {
+        if (member instanceof Field) {
+            return ((Field) member).getType();
+        }
+        if (member instanceof Method && ((Method) member).getParameterCount() == 1) {
+            return ((Method) member).getParameterTypes()[0];
+        }
+        return null;
+    }
+
+    /**
+     * Generates bytes of the accessor class.
+     *
+     * @param className internal name of the generated class
+     * @param host      class whose properties are accessed
+     * @param readers   fields and getters, the position in the list is the read index
+     * @param writers   fields and setters, the position in the list is the write index
+     * @return class file bytes
+     */
+    static byte[] generateClassBytes(String className, Class<?> host, List<Member> readers, List<Member> writers) {
+        ConstantPool pool = new ConstantPool();
+        int thisClass = pool.classRef(className);
+        int superClass = pool.classRef(OBJECT);
+        int accessorInterface = pool.classRef(internalName(ClassPropertyAccessor.class));
+        int hostClass = pool.classRef(internalName(host));
+
+        ByteVector constructor = new ByteVector();
+        constructor.putByte(Opcodes.ALOAD_0);
+        constructor.putByte(Opcodes.INVOKESPECIAL).putShort(pool.methodRef(OBJECT, "<init>", "()V"));
+        constructor.putByte(Opcodes.RETURN);
+
+        ByteVector getter = new ByteVector();
+        getter.putByte(Opcodes.ILOAD_2);
+        writeSwitch(getter, pool, readers.size(), index -> {
+            Class<?> valueType = writeRead(getter, pool, host, hostClass, readers.get(index));
+            if (valueType.isPrimitive()) {
+                String box = BOXING.get(valueType)[0];
+                getter.putByte(Opcodes.INVOKESTATIC)
+                        .putShort(pool.methodRef(box, "valueOf", "(" + descriptor(valueType) + ")L" + box + ";"));
+            }
+            getter.putByte(Opcodes.ARETURN);
+        });
+
+        ByteVector setter = new ByteVector();
+        setter.putByte(Opcodes.ILOAD_2);
+        writeSwitch(setter, pool, writers.size(), index -> {
+            Member member = writers.get(index);
+            Class<?> valueType = writtenType(member);
+            setter.putByte(Opcodes.ALOAD_1);
+            setter.putByte(Opcodes.CHECKCAST).putShort(hostClass);
+            setter.putByte(Opcodes.ALOAD_3);
+            if (valueType.isPrimitive()) {
+                String[] box = BOXING.get(valueType);
+                setter.putByte(Opcodes.CHECKCAST).putShort(pool.classRef(box[0]));
+                setter.putByte(Opcodes.INVOKEVIRTUAL)
+                        .putShort(pool.methodRef(box[0], box[1], "()" + descriptor(valueType)));
+            } else if (valueType != Object.class) {
+                setter.putByte(Opcodes.CHECKCAST).putShort(pool.classRef(internalName(valueType)));
+            }
+            writeWrite(setter, pool, host, member, valueType);
+        });
+
+        ByteVector[] primitiveGetters = new ByteVector[PRIMITIVES.length];
+        ByteVector[] primitiveSetters = new ByteVector[PRIMITIVES.length];
+        for (int i = 0; i < PRIMITIVES.length; i++) {
+            Primitive primitive = PRIMITIVES[i];
+            ByteVector primitiveGetter = new ByteVector();
+            primitiveGetter.putByte(Opcodes.ILOAD_2);
+            writeSwitch(primitiveGetter, pool, readers.size(), index -> {
+                Member member = readers.get(index);
+                if (readType(member) == primitive.type) {
+                    writeRead(primitiveGetter, pool, host, hostClass, member);
+                    primitiveGetter.putByte(primitive.returnOpcode);
+                } else {
+                    writeThrow(primitiveGetter, pool);
+                }
+            });
+            primitiveGetters[i] = primitiveGetter;
+
+            ByteVector primitiveSetter = new ByteVector();
+            primitiveSetter.putByte(Opcodes.ILOAD_2);
+            writeSwitch(primitiveSetter, pool, writers.size(), index -> {
+                Member member = writers.get(index);
+                if (writtenType(member) == primitive.type) {
+                    primitiveSetter.putByte(Opcodes.ALOAD_1);
+                    primitiveSetter.putByte(Opcodes.CHECKCAST).putShort(hostClass);
+                    primitiveSetter.putByte(primitive.loadOpcode);
+                    writeWrite(primitiveSetter, pool, host, member, primitive.type);
+                } else {
+                    writeThrow(primitiveSetter, pool);
+                }
+            });
+            primitiveSetters[i] = primitiveSetter;
+        }
+
+        ByteVector classFile = new ByteVector();
+        classFile.putInt(0xCAFEBABE).putShort(0).putShort(CLASS_VERSION);
+        int codeAttribute = pool.utf8("Code");
+        int constructorName = pool.utf8("<init>");
+        int constructorDescriptor = pool.utf8("()V");
+        int getterName = pool.utf8("getValue");
+        int getterDescriptor = pool.utf8("(Ljava/lang/Object;I)Ljava/lang/Object;");
+        int setterName = pool.utf8("setValue");
+        int setterDescriptor = pool.utf8("(Ljava/lang/Object;ILjava/lang/Object;)V");
+        int[] primitiveGetterNames = new int[PRIMITIVES.length];
+        int[] primitiveGetterDescriptors = new int[PRIMITIVES.length];
+        int[] primitiveSetterNames = new int[PRIMITIVES.length];
+        int[] primitiveSetterDescriptors = new int[PRIMITIVES.length];
+        for (int i = 0; i < PRIMITIVES.length; i++) {
+            String typeDescriptor = descriptor(PRIMITIVES[i].type);
+            primitiveGetterNames[i] = pool.utf8("get" + PRIMITIVES[i].name);
+            primitiveGetterDescriptors[i] = pool.utf8("(Ljava/lang/Object;I)" + typeDescriptor);
+            primitiveSetterNames[i] = pool.utf8("set" + PRIMITIVES[i].name);
+            primitiveSetterDescriptors[i] = pool.utf8("(Ljava/lang/Object;I" + typeDescriptor + ")V");
+        }
+        pool.writeTo(classFile);
+        classFile.putShort(ACC_PUBLIC | ACC_FINAL | ACC_SUPER | ACC_SYNTHETIC)
+                .putShort(thisClass)
+                .putShort(superClass)
+                .putShort(1)
+                .putShort(accessorInterface)
+                .putShort(0) //fields
+                .putShort(3 + 2 * PRIMITIVES.length); //methods
+        writeMethod(classFile, constructorName, constructorDescriptor, codeAttribute, constructor, 1, 1);
+        writeMethod(classFile, getterName, getterDescriptor, codeAttribute, getter, 3, 3);
+        writeMethod(classFile, setterName, setterDescriptor, codeAttribute, setter, 4, 4);
+        for (int i = 0; i < PRIMITIVES.length; i++) {
+            int valueSlots = PRIMITIVES[i].wide ? 2 : 1;
+            writeMethod(classFile, primitiveGetterNames[i], primitiveGetterDescriptors[i], codeAttribute,
+                        primitiveGetters[i], 2, 3);
+            writeMethod(classFile, primitiveSetterNames[i], primitiveSetterDescriptors[i], codeAttribute,
+                        primitiveSetters[i], 1 + valueSlots, 3 + valueSlots);
+        }
+        classFile.putShort(0); //attributes
+        return classFile.toByteArray();
+    }
+
+    /**
+     * Writes tableswitch over the index in the second local variable. Index not covered by any case throws
+     * {@link IndexOutOfBoundsException}.
+     */
+    private static void writeSwitch(ByteVector code, ConstantPool pool, int cases, CaseWriter caseWriter) {
+        int defaultOffsetPosition = -1;
+        int switchPosition = code.length();
+        int[] caseOffsetPositions = new int[cases];
+        if (cases > 0) {
+            code.putByte(Opcodes.TABLESWITCH);
+            while (code.length() % 4 != 0) {
+                code.putByte(0);
+            }
+            defaultOffsetPosition = code.length();
+            code.putInt(0).putInt(0).putInt(cases - 1);
+            for (int i = 0; i < cases; i++) {
+                caseOffsetPositions[i] = code.length();
+                code.putInt(0);
+            }
+            for (int i = 0; i < cases; i++) {
+                code.putIntAt(caseOffsetPositions[i], code.length() - switchPosition);
+                caseWriter.write(i);
+            }
+            code.putIntAt(defaultOffsetPosition, code.length() - switchPosition);
+        } else {
+            code.putByte(Opcodes.POP);
+        }
+        writeThrow(code, pool);
+    }
+
+    private static void writeThrow(ByteVector code, ConstantPool pool) {
+        int exception = pool.classRef(EXCEPTION);
+        code.putByte(Opcodes.NEW).putShort(exception);
+        code.putByte(Opcodes.DUP);
+        code.putByte(Opcodes.INVOKESPECIAL).putShort(pool.methodRef(EXCEPTION, "<init>", "()V"));
+        code.putByte(Opcodes.ATHROW);
+    }
+
+    /**
+     * Writes read of the member value from the instance in the first local variable.
+     *
+     * @return type of the read value
+     */
+    private static Class<?> writeRead(ByteVector code, ConstantPool pool, Class<?> host, int hostClass, Member member) {
+        code.putByte(Opcodes.ALOAD_1);
+        code.putByte(Opcodes.CHECKCAST).putShort(hostClass);
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            code.putByte(Opcodes.GETFIELD).putShort(pool.fieldRef(internalName(host), field.getName(), descriptor(field.getType())));
+            return field.getType();
+        }
+        Method method = (Method) member;
+        code.putByte(Opcodes.INVOKEVIRTUAL)
+                .putShort(pool.methodRef(internalName(host), method.getName(), methodDescriptor(method)));
+        return method.getReturnType();
+    }
+
+    /**
+     * Writes write of the value on the operand stack to the member and returns.
+     */
+    private static void writeWrite(ByteVector code, ConstantPool pool, Class<?> host, Member member, Class<?> valueType) {
+        if (member instanceof Field) {
+            Field field = (Field) member;
+            code.putByte(Opcodes.PUTFIELD).putShort(pool.fieldRef(internalName(host), field.getName(), descriptor(valueType)));
+        } else {
+            Method method = (Method) member;
+            code.putByte(Opcodes.INVOKEVIRTUAL)
+                    .putShort(pool.methodRef(internalName(host), method.getName(), methodDescriptor(method)));
+            Class<?> returnType = method.getReturnType();
+            if (returnType == long.class || returnType == double.class) {
+                code.putByte(Opcodes.POP2);
+            } else if (returnType != void.class) {
+                code.putByte(Opcodes.POP);
+            }
+        }
+        code.putByte(Opcodes.RETURN);
+    }
+
+    private static void writeMethod(ByteVector classFile,
+                                    int name,
+                                    int descriptor,
+                                    int codeAttribute,
+                                    ByteVector code,
+                                    int maxStack,
+                                    int maxLocals) {
+        classFile.putShort(ACC_PUBLIC).putShort(name).putShort(descriptor).putShort(1);
+        classFile.putShort(codeAttribute)
+                .putInt(12 + code.length())
+                .putShort(maxStack)
+                .putShort(maxLocals)
+                .putInt(code.length())
+                .putBytes(code)
+                .putShort(0) //exception table
+                .putShort(0); //attributes
+    }
+
+    private static String internalName(Class<?> clazz) {
+        return clazz.isArray() ? descriptor(clazz) : clazz.getName().replace('.', '/');
+    }
+
+    private static String methodDescriptor(Method method) {
+        StringBuilder builder = new StringBuilder("(");
+        Arrays.stream(method.getParameterTypes()).map(PropertyAccessorGenerator::descriptor).forEach(builder::append);
+        return builder.append(')').append(descriptor(method.getReturnType())).toString();
+    }
+
+    private static String descriptor(Class<?> clazz) {
+        if (clazz.isArray()) {
+            return "[" + descriptor(clazz.getComponentType());
+        } else if (clazz == void.class) {
+            return "V";
+        } else if (clazz == boolean.class) {
+            return "Z";
+        } else if (clazz == byte.class) {
+            return "B";
+        } else if (clazz == char.class) {
+            return "C";
+        } else if (clazz == short.class) {
+            return "S";
+        } else if (clazz == int.class) {
+            return "I";
+        } else if (clazz == long.class) {
+            return "J";
+        } else if (clazz == float.class) {
+            return "F";
+        } else if (clazz == double.class) {
+            return "D";
+        }
+        return "L" + internalName(clazz) + ";";
+    }
+
+    /**
+     * Primitive type with its own accessor methods.
+     */
+    private static final class Primitive {
+
+        private final Class<?> type;
+        private final String name;
+        private final int loadOpcode;
+        private final int returnOpcode;
+        private final boolean wide;
+
+        private Primitive(Class<?> type, String name, int loadOpcode, int returnOpcode) {
+            this.type = type;
+            this.name = name;
+            this.loadOpcode = loadOpcode;
+            this.returnOpcode = returnOpcode;
+            this.wide = type == long.class || type == double.class;
+        }
+
+    }
+
+    @FunctionalInterface
+    private interface CaseWriter {
+
+        void write(int index);
+
+    }
+
+    private static final class Opcodes {
+
+        private static final int ILOAD_2 = 0x1c;
+        private static final int ILOAD_3 = 0x1d;
+        private static final int LLOAD_3 = 0x21;
+        private static final int DLOAD_3 = 0x29;
+        private static final int ALOAD_0 = 0x2a;
+        private static final int ALOAD_1 = 0x2b;
+        private static final int ALOAD_3 = 0x2d;
+        private static final int POP = 0x57;
+        private static final int POP2 = 0x58;
+        private static final int DUP = 0x59;
+        private static final int TABLESWITCH = 0xaa;
+        private static final int IRETURN = 0xac;
+        private static final int LRETURN = 0xad;
+        private static final int DRETURN = 0xaf;
+        private static final int ARETURN = 0xb0;
+        private static final int RETURN = 0xb1;
+        private static final int GETFIELD = 0xb4;
+        private static final int PUTFIELD = 0xb5;
+        private static final int INVOKEVIRTUAL = 0xb6;
+        private static final int INVOKESPECIAL = 0xb7;
+        private static final int INVOKESTATIC = 0xb8;
+        private static final int NEW = 0xbb;
+        private static final int ATHROW = 0xbf;
+        private static final int CHECKCAST = 0xc0;
+
+        private Opcodes() {
+        }
+
+    }
+
+    /**
+     * Class file constant pool with deduplicated entries.
+     */
+    private static final class ConstantPool {
+
+        private static final int UTF8 = 1;
+        private static final int CLASS = 7;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int NAME_AND_TYPE = 12;
+
+        private final Map<String, Integer> entries = new HashMap<>();
+        private final ByteVector content = new ByteVector();
+        private int count = 1;
+
+        int utf8(String value) {
+            Integer index = entries.get("U" + value);
+            if (index != null) {
+                return index;
+            }
+            content.putByte(UTF8).putUtf8(value);
+            return register("U" + value);
+        }
+
+        int classRef(String internalName) {
+            Integer index = entries.get("C" + internalName);
+            if (index != null) {
+                return index;
+            }
+            int name = utf8(internalName);
+            content.putByte(CLASS).putShort(name);
+            return register("C" + internalName);
+        }
+
+        int fieldRef(String owner, String name, String descriptor) {
+            return memberRef(FIELD_REF, owner, name, descriptor);
+        }
+
+        int methodRef(String owner, String name, String descriptor) {
+            return memberRef(METHOD_REF, owner, name, descriptor);
+        }
+
+        private int memberRef(int tag, String owner, String name, String descriptor) {
+            String key = tag + owner + "." + name + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            int ownerIndex = classRef(owner);
+            int nameAndType = nameAndType(name, descriptor);
+            content.putByte(tag).putShort(ownerIndex).putShort(nameAndType);
+            return register(key);
+        }
+
+        private int nameAndType(String name, String descriptor) {
+            String key = "N" + name + ":" + descriptor;
+            Integer index = entries.get(key);
+            if (index != null) {
+                return index;
+            }
+            int nameIndex = utf8(name);
+            int descriptorIndex = utf8(descriptor);
+            content.putByte(NAME_AND_TYPE).putShort(nameIndex).putShort(descriptorIndex);
+            return register(key);
+        }
+
+        private int register(String key) {
+            entries.put(key, count);
+            return count++;
+        }
+
+        void writeTo(ByteVector classFile) {
+            classFile.putShort(count).putBytes(content);
+        }
+
+    }
+
+    /**
+     * Growable byte array with big endian writes.
+     */
+    private static final class ByteVector {
+
+        private byte[] data = new byte[64];
+        private int length;
+
+        ByteVector putByte(int value) {
+            ensureCapacity(1);
+            data[length++] = (byte) value;
+            return this;
+        }
+
+        ByteVector putShort(int value) {
+            ensureCapacity(2);
+            data[length++] = (byte) (value >>> 8);
+            data[length++] = (byte) value;
+            return this;
+        }
+
+        ByteVector putInt(int value) {
+            ensureCapacity(4);
+            putIntAt(length, value);
+            length += 4;
+            return this;
+        }
+
+        void putIntAt(int position, int value) {
+            data[position] = (byte) (value >>> 24);
+            data[position + 1] = (byte) (value >>> 16);
+            data[position + 2] = (byte) (value >>> 8);
+            data[position + 3] = (byte) value;
+        }
+
+        ByteVector putUtf8(String value) {
+            ByteVector encoded = new ByteVector();
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                if (c >= 0x0001 && c <= 0x007F) {
+                    encoded.putByte(c);
+                } else if (c <= 0x07FF) {
+                    encoded.putByte(0xC0 | (c >> 6)).putByte(0x80 | (c & 0x3F));
+                } else {
+                    encoded.putByte(0xE0 | (c >> 12)).putByte(0x80 | ((c >> 6) & 0x3F)).putByte(0x80 | (c & 0x3F));
+                }
+            }
+            return putShort(encoded.length()).putBytes(encoded);
+        }
+
+        ByteVector putBytes(ByteVector other) {
+            ensureCapacity(other.length);
+            System.arraycopy(other.data, 0, data, length, other.length);
+            length += other.length;
+            return this;
+        }
+
+        int length() {
+            return length;
+        }
+
+        byte[] toByteArray() {
+            return Arrays.copyOf(data, length);
+        }
+
+        private void ensureCapacity(int size) {
+            if (length + size > data.length) {
+                data = Arrays.copyOf(data, Math.max(data.length * 2, length + size));
+            }
+        }
+
+    }
+
+}
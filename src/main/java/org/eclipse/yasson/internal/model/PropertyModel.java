@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -14,8 +14,10 @@ package org.eclipse.yasson.internal.model;
 
 import java.lang.invoke.MethodHandle;
 import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Field;
+import java.lang.reflect.Member;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.lang.reflect.Type;
@@ -24,6 +26,7 @@ import java.security.PrivilegedAction;
 import java.util.EnumSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import jakarta.json.bind.JsonbException;
@@ -34,9 +37,11 @@ import org.eclipse.yasson.internal.AnnotationIntrospector;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.JsonbDateFormatter;
 import org.eclipse.yasson.internal.JsonbNumberFormatter;
+import org.eclipse.yasson.internal.Utf8JsonGenerator;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.SerializerBinding;
 import org.eclipse.yasson.internal.model.customization.PropertyCustomization;
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
 
 /**
  * A model for class property.
@@ -46,6 +51,11 @@ public final class PropertyModel implements Comparable<PropertyModel> {
 
     private static final MethodHandles.Lookup LOOKUP = ModulesUtil.lookup();
 
+    /**
+     * Primitive types which values can be read and written without boxing.
+     */
+    private static final Set<Class<?>> UNBOXED_TYPES = Set.of(int.class, long.class, double.class, boolean.class);
+
     /**
      * Field propertyName as in class by java bean convention.
      */
@@ -61,6 +71,11 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      */
     private final String writeName;
 
+    /**
+     * Write name escaped and encoded to UTF-8 together with its quotes and the name separator.
+     */
+    private final byte[] encodedWriteName;
+
     /**
      * Field propertyType.
      */
@@ -78,9 +93,44 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      */
     private final PropertyCustomization customization;
 
-    private final MethodHandle getValueHandle;
+    /**
+     * Value handles are created on the first use, so they are never created for the properties
+     * accessed by the generated accessor.
+     */
+    private volatile MethodHandle getValueHandle;
+
+    private volatile MethodHandle setValueHandle;
 
-    private final MethodHandle setValueHandle;
+    /**
+     * Read handle of the {@link #UNBOXED_TYPES unboxed} property adapted to the {@code (Object)primitive} type.
+     */
+    private volatile MethodHandle primitiveGetValueHandle;
+
+    /**
+     * Write handle of the {@link #UNBOXED_TYPES unboxed} property adapted to the {@code (Object, primitive)void} type.
+     */
+    private volatile MethodHandle primitiveSetValueHandle;
+
+    /**
+     * Field or getter used to read the value, null if the property is not readable.
+     */
+    private final Member readMember;
+
+    /**
+     * Field or setter used to write the value, null if the property is not writable.
+     */
+    private final Member writeMember;
+
+    /**
+     * Generated accessor used instead of the value handles, if bound.
+     */
+    private ClassPropertyAccessor readAccessor;
+
+    private int readAccessorIndex = -1;
+
+    private ClassPropertyAccessor writeAccessor;
+
+    private int writeAccessorIndex = -1;
 
     private final Field field;
 
@@ -109,6 +159,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         this.propertyName = a.propertyName;
         this.readName = a.readName;
         this.writeName = a.writeName;
+        this.encodedWriteName = a.encodedWriteName;
         this.propertyType = a.propertyType;
         this.customization = a.customization;
 
@@ -130,8 +181,10 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         this.setter = property.getSetter();
 
         PropertyVisibilityStrategy strategy = classModel.getClassCustomization().getPropertyVisibilityStrategy();
-        this.getValueHandle = createReadHandle(field, getter, isMethodVisible(getter, strategy), strategy);
-        this.setValueHandle = createWriteHandle(field, setter, isMethodVisible(setter, strategy), strategy);
+        boolean getterVisible = isMethodVisible(getter, strategy);
+        boolean setterVisible = isMethodVisible(setter, strategy);
+        this.readMember = readMember(field, getter, getterVisible, strategy);
+        this.writeMember = writeMember(field, setter, setterVisible, strategy);
     }
 
     /**
@@ -154,8 +207,8 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         boolean getterVisible = isMethodVisible(getter, strategy);
         boolean setterVisible = isMethodVisible(setter, strategy);
 
-        this.getValueHandle = createReadHandle(field, getter, getterVisible, strategy);
-        this.setValueHandle = createWriteHandle(field, setter, setterVisible, strategy);
+        this.readMember = readMember(field, getter, getterVisible, strategy);
+        this.writeMember = writeMember(field, setter, setterVisible, strategy);
         this.getterMethodType = getterVisible ? property.getGetterType() : null;
         this.setterMethodType = setterVisible ? property.getSetterType() : null;
         this.customization = introspectCustomization(property, jsonbContext, classModel);
@@ -163,6 +216,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
                                                jsonbContext.getConfigProperties().getPropertyNamingStrategy());
         this.writeName = calculateReadWriteName(customization.getJsonWriteName(), propertyName,
                                                 jsonbContext.getConfigProperties().getPropertyNamingStrategy());
+        this.encodedWriteName = Utf8JsonGenerator.encodeName(writeName);
     }
 
     /**
@@ -347,8 +401,11 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      * @return property's value
      */
     public Object getValue(Object object) {
+        if (readAccessor != null) {
+            return readAccessor.getValue(object, readAccessorIndex);
+        }
         try {
-            return getValueHandle.invoke(object);
+            return getGetValueHandle().invoke(object);
         } catch (Throwable e) {
             throw new JsonbException("Error getting value on: " + object, e);
         }
@@ -366,8 +423,182 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         if (!isWritable()) {
             return;
         }
+        if (writeAccessor != null) {
+            writeAccessor.setValue(object, writeAccessorIndex, value);
+            return;
+        }
+        try {
+            getSetValueHandle().invoke(object, value);
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Primitive type of the value which can be read by the primitive getters of this property.
+     *
+     * @return {@code int}, {@code long}, {@code double} or {@code boolean} type, null if value cannot be read without boxing
+     */
+    public Class<?> getReadPrimitiveType() {
+        return unboxedType(readMember instanceof Method
+                                   ? ((Method) readMember).getReturnType()
+                                   : readMember instanceof Field ? ((Field) readMember).getType() : null);
+    }
+
+    /**
+     * Primitive type of the value which can be written by the primitive setters of this property.
+     *
+     * @return {@code int}, {@code long}, {@code double} or {@code boolean} type, null if value cannot be written without boxing
+     */
+    public Class<?> getWritePrimitiveType() {
+        return unboxedType(writeMember instanceof Method
+                                   ? ((Method) writeMember).getParameterTypes()[0]
+                                   : writeMember instanceof Field ? ((Field) writeMember).getType() : null);
+    }
+
+    /**
+     * Gets value of the {@code int} property without boxing.
+     *
+     * @param object object to read property from
+     * @return property's value
+     * @see #getReadPrimitiveType()
+     */
+    public int getIntValue(Object object) {
+        try {
+            if (readAccessor != null) {
+                return readAccessor.getInt(object, readAccessorIndex);
+            }
+            return (int) primitiveGetValueHandle().invokeExact(object);
+        } catch (Throwable e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Gets value of the {@code long} property without boxing.
+     *
+     * @param object object to read property from
+     * @return property's value
+     * @see #getReadPrimitiveType()
+     */
+    public long getLongValue(Object object) {
+        try {
+            if (readAccessor != null) {
+                return readAccessor.getLong(object, readAccessorIndex);
+            }
+            return (long) primitiveGetValueHandle().invokeExact(object);
+        } catch (Throwable e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Gets value of the {@code double} property without boxing.
+     *
+     * @param object object to read property from
+     * @return property's value
+     * @see #getReadPrimitiveType()
+     */
+    public double getDoubleValue(Object object) {
+        try {
+            if (readAccessor != null) {
+                return readAccessor.getDouble(object, readAccessorIndex);
+            }
+            return (double) primitiveGetValueHandle().invokeExact(object);
+        } catch (Throwable e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Gets value of the {@code boolean} property without boxing.
+     *
+     * @param object object to read property from
+     * @return property's value
+     * @see #getReadPrimitiveType()
+     */
+    public boolean getBooleanValue(Object object) {
+        try {
+            if (readAccessor != null) {
+                return readAccessor.getBoolean(object, readAccessorIndex);
+            }
+            return (boolean) primitiveGetValueHandle().invokeExact(object);
+        } catch (Throwable e) {
+            throw new JsonbException("Error getting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Sets value of the {@code int} property without boxing.
+     *
+     * @param object object to set value in
+     * @param value  value to set
+     * @see #getWritePrimitiveType()
+     */
+    public void setIntValue(Object object, int value) {
+        try {
+            if (writeAccessor != null) {
+                writeAccessor.setInt(object, writeAccessorIndex, value);
+                return;
+            }
+            primitiveSetValueHandle().invokeExact(object, value);
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Sets value of the {@code long} property without boxing.
+     *
+     * @param object object to set value in
+     * @param value  value to set
+     * @see #getWritePrimitiveType()
+     */
+    public void setLongValue(Object object, long value) {
+        try {
+            if (writeAccessor != null) {
+                writeAccessor.setLong(object, writeAccessorIndex, value);
+                return;
+            }
+            primitiveSetValueHandle().invokeExact(object, value);
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Sets value of the {@code double} property without boxing.
+     *
+     * @param object object to set value in
+     * @param value  value to set
+     * @see #getWritePrimitiveType()
+     */
+    public void setDoubleValue(Object object, double value) {
         try {
-            setValueHandle.invoke(object, value);
+            if (writeAccessor != null) {
+                writeAccessor.setDouble(object, writeAccessorIndex, value);
+                return;
+            }
+            primitiveSetValueHandle().invokeExact(object, value);
+        } catch (Throwable e) {
+            throw new JsonbException("Error setting value on: " + object, e);
+        }
+    }
+
+    /**
+     * Sets value of the {@code boolean} property without boxing.
+     *
+     * @param object object to set value in
+     * @param value  value to set
+     * @see #getWritePrimitiveType()
+     */
+    public void setBooleanValue(Object object, boolean value) {
+        try {
+            if (writeAccessor != null) {
+                writeAccessor.setBoolean(object, writeAccessorIndex, value);
+                return;
+            }
+            primitiveSetValueHandle().invokeExact(object, value);
         } catch (Throwable e) {
             throw new JsonbException("Error setting value on: " + object, e);
         }
@@ -379,7 +610,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      * @return true if can be serialized to JSON
      */
     public boolean isReadable() {
-        return !customization.isReadTransient() && this.getValueHandle != null;
+        return !customization.isReadTransient() && this.readMember != null;
     }
 
     /**
@@ -388,7 +619,7 @@ public final class PropertyModel implements Comparable<PropertyModel> {
      * @return true if can be deserialized from JSON
      */
     public boolean isWritable() {
-        return !customization.isWriteTransient() && this.setValueHandle != null;
+        return !customization.isWriteTransient() && this.writeMember != null;
     }
 
     /**
@@ -457,6 +688,15 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         return writeName;
     }
 
+    /**
+     * Write name escaped and encoded by {@link Utf8JsonGenerator#encodeName(String)}.
+     *
+     * @return encoded write name
+     */
+    public byte[] getEncodedWriteName() {
+        return encodedWriteName;
+    }
+
     /**
      * If customized by JsonbPropertyAnnotation, than is used, otherwise use strategy to translate.
      * Since this is cached for performance reasons strategy has to be consistent
@@ -495,66 +735,114 @@ public final class PropertyModel implements Comparable<PropertyModel> {
 
     // Used in ClassParser
     public static boolean isPropertyReadable(Field field, Method getter, PropertyVisibilityStrategy strategy) {
-        return createReadHandle(field, getter, isMethodVisible(getter, strategy), strategy) != null;
+        return readMember(field, getter, isMethodVisible(getter, strategy), strategy) != null;
     }
 
-    private static MethodHandle createReadHandle(Field field,
-                                                 Method getter,
-                                                 boolean getterVisible,
-                                                 PropertyVisibilityStrategy strategy) {
+    private static Member readMember(Field field, Method getter, boolean getterVisible, PropertyVisibilityStrategy strategy) {
         boolean fieldReadable = field == null || (field.getModifiers() & (Modifier.TRANSIENT | Modifier.STATIC)) == 0;
 
         if (fieldReadable) {
             if (getter != null && getterVisible) {
-                try {
-                    return LOOKUP.unreflect(getter);
-                } catch (Throwable e) {
-                    throw new JsonbException("Error accessing getter '" + getter.getName() + "' declared in '" + getter
-                            .getDeclaringClass() + "'", e);
-                }
+                return getter;
             }
             if (isFieldVisible(field, getter, strategy)) {
-                try {
-                    return LOOKUP.unreflectGetter(field);
-                } catch (IllegalAccessException e) {
-                    throw new JsonbException("Error accessing field '" + field.getName() + "' declared in '" + field
-                            .getDeclaringClass() + "'", e);
-                }
+                return field;
             }
         }
 
         return null;
     }
 
-    private static MethodHandle createWriteHandle(Field field,
-                                                  Method setter,
-                                                  boolean setterVisible,
-                                                  PropertyVisibilityStrategy strategy) {
+    private static Member writeMember(Field field, Method setter, boolean setterVisible, PropertyVisibilityStrategy strategy) {
         boolean fieldWritable =
                 field == null || (field.getModifiers() & (Modifier.TRANSIENT | Modifier.STATIC | Modifier.FINAL)) == 0;
 
         if (fieldWritable) {
-            if (setter != null && setterVisible && !setter.getDeclaringClass().isAnonymousClass()) {
-                try {
-                    return LOOKUP.unreflect(setter);
-                } catch (IllegalAccessException e) {
-                    throw new JsonbException("Error accessing setter '" + setter.getName() + "' declared in '" + setter
-                            .getDeclaringClass() + "'", e);
-                }
+            if (isSetterUsable(setter, setterVisible)) {
+                return setter;
             }
             if (isFieldVisible(field, setter, strategy) && !field.getDeclaringClass().isAnonymousClass()) {
-                try {
-                    return LOOKUP.unreflectSetter(field);
-                } catch (IllegalAccessException e) {
-                    throw new JsonbException("Error accessing field '" + field.getName() + "' declared in '" + field
-                            .getDeclaringClass() + "'", e);
-                }
+                return field;
             }
         }
 
         return null;
     }
 
+    private static MethodHandle createReadHandle(Member readMember) {
+        if (readMember instanceof Method) {
+            try {
+                return LOOKUP.unreflect((Method) readMember);
+            } catch (Throwable e) {
+                throw new JsonbException("Error accessing getter '" + readMember.getName() + "' declared in '" + readMember
+                        .getDeclaringClass() + "'", e);
+            }
+        }
+        try {
+            return LOOKUP.unreflectGetter((Field) readMember);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error accessing field '" + readMember.getName() + "' declared in '" + readMember
+                    .getDeclaringClass() + "'", e);
+        }
+    }
+
+    private static MethodHandle createWriteHandle(Member writeMember) {
+        if (writeMember instanceof Method) {
+            try {
+                return LOOKUP.unreflect((Method) writeMember);
+            } catch (IllegalAccessException e) {
+                throw new JsonbException("Error accessing setter '" + writeMember.getName() + "' declared in '" + writeMember
+                        .getDeclaringClass() + "'", e);
+            }
+        }
+        try {
+            return LOOKUP.unreflectSetter((Field) writeMember);
+        } catch (IllegalAccessException e) {
+            throw new JsonbException("Error accessing field '" + writeMember.getName() + "' declared in '" + writeMember
+                    .getDeclaringClass() + "'", e);
+        }
+    }
+
+    private MethodHandle primitiveGetValueHandle() {
+        MethodHandle handle = primitiveGetValueHandle;
+        if (handle == null) {
+            handle = primitiveReadHandle(getGetValueHandle());
+            primitiveGetValueHandle = handle;
+        }
+        return handle;
+    }
+
+    private MethodHandle primitiveSetValueHandle() {
+        MethodHandle handle = primitiveSetValueHandle;
+        if (handle == null) {
+            handle = primitiveWriteHandle(getSetValueHandle());
+            primitiveSetValueHandle = handle;
+        }
+        return handle;
+    }
+
+    private static Class<?> unboxedType(Class<?> type) {
+        return type != null && UNBOXED_TYPES.contains(type) ? type : null;
+    }
+
+    private static MethodHandle primitiveReadHandle(MethodHandle readHandle) {
+        if (readHandle == null || !UNBOXED_TYPES.contains(readHandle.type().returnType())) {
+            return null;
+        }
+        return readHandle.asType(MethodType.methodType(readHandle.type().returnType(), Object.class));
+    }
+
+    private static MethodHandle primitiveWriteHandle(MethodHandle writeHandle) {
+        if (writeHandle == null || !UNBOXED_TYPES.contains(writeHandle.type().parameterType(1))) {
+            return null;
+        }
+        return writeHandle.asType(MethodType.methodType(void.class, Object.class, writeHandle.type().parameterType(1)));
+    }
+
+    private static boolean isSetterUsable(Method setter, boolean setterVisible) {
+        return setter != null && setterVisible && !setter.getDeclaringClass().isAnonymousClass();
+    }
+
     private static boolean isFieldVisible(Field field, Method method, PropertyVisibilityStrategy strategy) {
         if (field == null) {
             return false;
@@ -631,12 +919,96 @@ public final class PropertyModel implements Comparable<PropertyModel> {
         }
     }
 
+    /**
+     * Handle reading the value of this property, created on the first call.
+     *
+     * @return read handle, null if the property is not readable
+     */
     public MethodHandle getGetValueHandle() {
-        return getValueHandle;
+        MethodHandle handle = getValueHandle;
+        if (handle == null && readMember != null) {
+            handle = createReadHandle(readMember);
+            getValueHandle = handle;
+        }
+        return handle;
     }
 
+    /**
+     * Handle writing the value of this property, created on the first call.
+     *
+     * @return write handle, null if the property is not writable
+     */
     public MethodHandle getSetValueHandle() {
-        return setValueHandle;
+        MethodHandle handle = setValueHandle;
+        if (handle == null && writeMember != null) {
+            handle = createWriteHandle(writeMember);
+            setValueHandle = handle;
+        }
+        return handle;
+    }
+
+    /**
+     * Field or getter used to read the value of this property.
+     *
+     * @return read member, null if there is none
+     */
+    Member getReadMember() {
+        return readMember;
+    }
+
+    /**
+     * Field or setter used to write the value of this property.
+     *
+     * @return write member, null if there is none
+     */
+    Member getWriteMember() {
+        return writeMember;
+    }
+
+    void setReadAccessor(ClassPropertyAccessor accessor, int index) {
+        this.readAccessor = accessor;
+        this.readAccessorIndex = index;
+    }
+
+    void setWriteAccessor(ClassPropertyAccessor accessor, int index) {
+        this.writeAccessor = accessor;
+        this.writeAccessorIndex = index;
+    }
+
+    /**
+     * Generated accessor bound to this property for reading.
+     *
+     * @return read accessor, null if the value handle has to be used
+     */
+    public ClassPropertyAccessor getReadAccessor() {
+        return readAccessor;
+    }
+
+    /**
+     * Index of this property in the {@link #getReadAccessor() read accessor}.
+     *
+     * @return read accessor index
+     */
+    public int getReadAccessorIndex() {
+        return readAccessorIndex;
+    }
+
+    /**
+     * Generated accessor bound to this property for writing.
+     *
+     * @return write accessor, null if the value handle has to be used
+     */
+    public ClassPropertyAccessor getWriteAccessor() {
+        return writeAccessor;
+    }
+
+    /**
+     * Index of this property in the {@link #getWriteAccessor() write accessor}.
+     *
+     * @return write accessor index
+     */
+    public int getWriteAccessorIndex() {
+        return writeAccessorIndex;
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -284,6 +284,10 @@ public enum MessageKeys {
      * Recursive reference detected.
      */
     RECURSIVE_REFERENCE("recursiveReference"),
+    /**
+     * Maximum depth of the serialized object graph exceeded.
+     */
+    MAX_DEPTH_EXCEEDED("maxDepthExceeded"),
     /**
      * An error occurred while DatatypeFactory creation.
      */
@@ -315,7 +319,56 @@ public enum MessageKeys {
     /**
      * Unknown visibility strategy.
      */
-    UNKNOWN_VISIBILITY_STRATEGY("unknownVisibilityStrategy");
+    UNKNOWN_VISIBILITY_STRATEGY("unknownVisibilityStrategy"),
+    /**
+     * Serialized JSON does not fit into the target buffer.
+     */
+    BUFFER_OVERFLOW("bufferOverflow"),
+    /**
+     * Channel has not accepted any bytes, it is probably in the non-blocking mode.
+     */
+    CHANNEL_WRITE_NO_PROGRESS("channelWriteNoProgress"),
+    /**
+     * JSON document is not an array.
+     */
+    ARRAY_EXPECTED("arrayExpected"),
+    /**
+     * JSON file cannot be read.
+     */
+    FILE_READ_FAILED("fileReadFailed"),
+    /**
+     * JSON Lines input line cannot be deserialized.
+     */
+    JSON_LINES_INVALID_LINE("jsonLinesInvalidLine"),
+    /**
+     * Asynchronous deserialization does not support the configured encoding.
+     */
+    UNSUPPORTED_ASYNC_ENCODING("unsupportedAsyncEncoding"),
+
+    /**
+     * Eager parsing of a class has failed.
+     */
+    EAGER_PARSING_FAILED("eagerParsingFailed"),
+
+    /**
+     * Class listed in the class index cannot be loaded.
+     */
+    INDEXED_CLASS_NOT_LOADED("indexedClassNotLoaded"),
+
+    /**
+     * Class index cannot be read.
+     */
+    CLASS_INDEX_READ_FAILED("classIndexReadFailed"),
+
+    /**
+     * Component instance creator of the unreachable Jsonb instance cannot be closed.
+     */
+    COMPONENT_CREATOR_NOT_CLOSED("componentCreatorNotClosed"),
+
+    /**
+     * Member listed by the generated binding model is not declared by the modeled class.
+     */
+    GENERATED_MEMBER_NOT_FOUND("generatedMemberNotFound");
 
     /**
      * Message bundle key.
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,8 +12,10 @@
 
 package org.eclipse.yasson.internal.serializer;
 
+import java.util.Arrays;
 import java.util.Base64;
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
 
 import jakarta.json.bind.JsonbException;
@@ -32,6 +34,12 @@ abstract class ArraySerializer implements ModelSerializer {
 
     private static final Map<Class<?>, Function<ModelSerializer, ArraySerializer>> ARRAY_SERIALIZERS;
 
+    private static final Map<Class<?>, ModelSerializer> DIRECT_ARRAY_SERIALIZERS = Map.of(
+            boolean[].class, new DirectBooleanArraySerializer(),
+            double[].class, new DirectDoubleArraySerializer(),
+            int[].class, new DirectIntegerArraySerializer(),
+            long[].class, new DirectLongArraySerializer());
+
     static {
         ARRAY_SERIALIZERS = Map.of(boolean[].class, BooleanArraySerializer::new,
                                    byte[].class, ByteArraySerializer::new,
@@ -49,9 +57,23 @@ abstract class ArraySerializer implements ModelSerializer {
         this.valueSerializer = valueSerializer;
     }
 
+    /**
+     * Create serializer of the given array type.
+     *
+     * @param arrayType        array type
+     * @param jsonbContext     jsonb context
+     * @param modelSerializer  serializer of the array component
+     * @param directComponents whether array components have no number format, adapter or user serializer bound,
+     *                         so the primitive components can be written directly to the generator
+     * @return array serializer
+     */
     public static ModelSerializer create(Class<?> arrayType,
                                          JsonbContext jsonbContext,
-                                         ModelSerializer modelSerializer) {
+                                         ModelSerializer modelSerializer,
+                                         boolean directComponents) {
+        if (directComponents && DIRECT_ARRAY_SERIALIZERS.containsKey(arrayType)) {
+            return DIRECT_ARRAY_SERIALIZERS.get(arrayType);
+        }
         String binaryDataStrategy = jsonbContext.getConfigProperties().getBinaryDataStrategy();
         if (byte[].class.equals(arrayType) && !binaryDataStrategy.equals(BinaryDataStrategy.BYTE)) {
             return new Base64ByteArraySerializer(binaryDataStrategy);
@@ -229,7 +251,59 @@ abstract class ArraySerializer implements ModelSerializer {
 
     }
 
-    private static final class ObjectArraySerializer extends ArraySerializer {
+    private static final class DirectIntegerArraySerializer implements ModelSerializer {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            for (int i : (int[]) value) {
+                generator.write(i);
+            }
+            generator.writeEnd();
+        }
+
+    }
+
+    private static final class DirectLongArraySerializer implements ModelSerializer {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            for (long l : (long[]) value) {
+                generator.write(l);
+            }
+            generator.writeEnd();
+        }
+
+    }
+
+    private static final class DirectDoubleArraySerializer implements ModelSerializer {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            for (double d : (double[]) value) {
+                generator.write(d);
+            }
+            generator.writeEnd();
+        }
+
+    }
+
+    private static final class DirectBooleanArraySerializer implements ModelSerializer {
+
+        @Override
+        public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            for (boolean b : (boolean[]) value) {
+                generator.write(b);
+            }
+            generator.writeEnd();
+        }
+
+    }
+
+    private static final class ObjectArraySerializer extends ArraySerializer implements ContainerSerializer {
 
         ObjectArraySerializer(ModelSerializer valueSerializer) {
             super(valueSerializer);
@@ -243,6 +317,14 @@ abstract class ArraySerializer implements ModelSerializer {
             }
         }
 
+        @Override
+        public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            return ContainerSerializer.steps(Arrays.asList((Object[]) value).iterator(),
+                                             o -> getValueSerializer().serialize(o, generator, context),
+                                             generator);
+        }
+
     }
 
 }
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.yasson.internal.serializer;
 
 import java.util.Collection;
+import java.util.function.BooleanSupplier;
 
 import jakarta.json.stream.JsonGenerator;
 
@@ -21,7 +22,7 @@ import org.eclipse.yasson.internal.SerializationContextImpl;
 /**
  * Collection container serializer.
  */
-class CollectionSerializer implements ModelSerializer {
+class CollectionSerializer implements ContainerSerializer {
 
     private final ModelSerializer delegate;
 
@@ -38,4 +39,12 @@ class CollectionSerializer implements ModelSerializer {
         generator.writeEnd();
     }
 
+    @Override
+    public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        generator.writeStartArray();
+        return ContainerSerializer.steps(((Collection<?>) value).iterator(),
+                                         object -> delegate.serialize(object, generator, context),
+                                         generator);
+    }
+
 }
@@ -0,0 +1,286 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.invoke.MethodHandle;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.bind.JsonbException;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.SerializationContextImpl;
+import org.eclipse.yasson.internal.Utf8JsonGenerator;
+import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.internal.properties.MessageKeys;
+import org.eclipse.yasson.internal.properties.Messages;
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
+
+/**
+ * Object serializer compiled from the resolved class model.
+ * <br>
+ * Fuses the common object serializer chain ({@link NullSerializer}, {@link NullVisibilitySwitcher}, {@link KeyWriter},
+ * {@link RecursionChecker}) and the property serializers into one serializer. Properties of the scalar types
+ * without any user serializer, adapter or number format are written directly to the generator, all other
+ * properties are delegated to their own serializer chain. Values of the primitive {@code int}, {@code long},
+ * {@code double} and {@code boolean} properties are read and written without boxing. Property names are written
+ * already encoded, when the generator is the {@link Utf8JsonGenerator}.
+ */
+class CompiledObjectSerializer implements ModelSerializer {
+
+    private static final int KIND_DELEGATE = 0;
+    private static final int KIND_VALUE = 1;
+    private static final int KIND_STRING = 2;
+    private static final int KIND_BOOLEAN = 3;
+    private static final int KIND_INT = 4;
+    private static final int KIND_LONG = 5;
+    private static final int KIND_DOUBLE = 6;
+    private static final int KIND_BIG_DECIMAL = 7;
+    private static final int KIND_BIG_INTEGER = 8;
+    private static final int KIND_PRIMITIVE_INT = 9;
+    private static final int KIND_PRIMITIVE_LONG = 10;
+    private static final int KIND_PRIMITIVE_DOUBLE = 11;
+    private static final int KIND_PRIMITIVE_BOOLEAN = 12;
+
+    private static final Map<Class<?>, Integer> SCALAR_KINDS = Map.ofEntries(
+            Map.entry(String.class, KIND_STRING),
+            Map.entry(Boolean.class, KIND_BOOLEAN),
+            Map.entry(Boolean.TYPE, KIND_BOOLEAN),
+            Map.entry(Byte.class, KIND_INT),
+            Map.entry(Byte.TYPE, KIND_INT),
+            Map.entry(Short.class, KIND_INT),
+            Map.entry(Short.TYPE, KIND_INT),
+            Map.entry(Integer.class, KIND_INT),
+            Map.entry(Integer.TYPE, KIND_INT),
+            Map.entry(Long.class, KIND_LONG),
+            Map.entry(Long.TYPE, KIND_LONG),
+            Map.entry(Double.class, KIND_DOUBLE),
+            Map.entry(Double.TYPE, KIND_DOUBLE),
+            Map.entry(BigDecimal.class, KIND_BIG_DECIMAL),
+            Map.entry(BigInteger.class, KIND_BIG_INTEGER));
+
+    private static final Map<Class<?>, Integer> PRIMITIVE_KINDS = Map.of(Integer.TYPE, KIND_PRIMITIVE_INT,
+                                                                         Long.TYPE, KIND_PRIMITIVE_LONG,
+                                                                         Double.TYPE, KIND_PRIMITIVE_DOUBLE,
+                                                                         Boolean.TYPE, KIND_PRIMITIVE_BOOLEAN);
+
+    private final CompiledProperty[] properties;
+    private final NullSerializer nullSerializer;
+
+    CompiledObjectSerializer(List<CompiledProperty> properties, NullSerializer nullSerializer) {
+        this.properties = properties.toArray(new CompiledProperty[0]);
+        this.nullSerializer = nullSerializer;
+    }
+
+    /**
+     * Whether values of the given type can be written directly to the generator.
+     *
+     * @param rawType     raw type of the property
+     * @param strictIJson whether strict I-JSON is enabled
+     * @return whether type is a directly written scalar
+     */
+    static boolean isScalar(Class<?> rawType, boolean strictIJson) {
+        //strings have to be validated for unpaired surrogates in I-JSON mode
+        return SCALAR_KINDS.containsKey(rawType) && !(strictIJson && String.class.equals(rawType));
+    }
+
+    /**
+     * Create property which value is written directly to the generator.
+     *
+     * @param propertyModel property model
+     * @param rawType       raw type of the property, has to be {@link #isScalar(Class, boolean) scalar}
+     * @return compiled property
+     */
+    static CompiledProperty scalarProperty(PropertyModel propertyModel, Class<?> rawType) {
+        if (rawType.isPrimitive() && rawType == propertyModel.getReadPrimitiveType()) {
+            return new CompiledProperty(propertyModel, PRIMITIVE_KINDS.get(rawType), null);
+        }
+        return new CompiledProperty(propertyModel, SCALAR_KINDS.get(rawType), null);
+    }
+
+    /**
+     * Create property which value is serialized by the provided serializer.
+     *
+     * @param propertyModel property model
+     * @param serializer    serializer of the property value
+     * @return compiled property
+     */
+    static CompiledProperty valueProperty(PropertyModel propertyModel, ModelSerializer serializer) {
+        return new CompiledProperty(propertyModel, KIND_VALUE, serializer);
+    }
+
+    /**
+     * Create property serialized by the provided serializer. Serializer receives the whole object instance
+     * and is responsible for writing of the property name.
+     *
+     * @param name       name of the property
+     * @param serializer serializer of the property
+     * @return compiled property
+     */
+    static CompiledProperty delegateProperty(String name, ModelSerializer serializer) {
+        return new CompiledProperty(name, serializer);
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        if (value == null) {
+            nullSerializer.serialize(null, generator, context);
+            return;
+        }
+        context.setRoot(false);
+        boolean previousContainerWithNulls = context.isContainerWithNulls();
+        context.setContainerWithNulls(false);
+        String key = context.getKey();
+        if (key != null) {
+            generator.writeKey(key);
+            context.setKey(null);
+        }
+        if (!context.addProcessedObject(value)) {
+            throw new JsonbException(Messages.getMessage(MessageKeys.RECURSIVE_REFERENCE, value.getClass()));
+        }
+        generator.writeStartObject();
+        Utf8JsonGenerator utf8Generator = generator instanceof Utf8JsonGenerator ? (Utf8JsonGenerator) generator : null;
+        for (CompiledProperty property : properties) {
+            try {
+                property.serialize(value, generator, utf8Generator, context);
+            } catch (Exception e) {
+                throw new JsonbException(Messages.getMessage(MessageKeys.SERIALIZE_PROPERTY_ERROR, property.name,
+                                                             value.getClass().getCanonicalName()), e);
+            }
+        }
+        generator.writeEnd();
+        context.removeProcessedObject(value);
+        context.setContainerWithNulls(previousContainerWithNulls);
+    }
+
+    /**
+     * Single property of the compiled object serializer.
+     */
+    static final class CompiledProperty {
+
+        private final String name;
+        private final byte[] encodedName;
+        private final int kind;
+        private final PropertyModel propertyModel;
+        private final boolean nillable;
+        private final MethodHandle getter;
+        private final ClassPropertyAccessor accessor;
+        private final int accessorIndex;
+        private final ModelSerializer serializer;
+
+        private CompiledProperty(PropertyModel propertyModel, int kind, ModelSerializer serializer) {
+            this.name = propertyModel.getWriteName();
+            this.encodedName = propertyModel.getEncodedWriteName();
+            this.kind = kind;
+            this.propertyModel = propertyModel;
+            this.nillable = propertyModel.getCustomization().isNillable();
+            this.accessor = propertyModel.getReadAccessor();
+            this.getter = accessor == null ? propertyModel.getGetValueHandle() : null;
+            this.accessorIndex = propertyModel.getReadAccessorIndex();
+            this.serializer = serializer;
+        }
+
+        private CompiledProperty(String name, ModelSerializer serializer) {
+            this.name = name;
+            this.encodedName = null;
+            this.kind = KIND_DELEGATE;
+            this.propertyModel = null;
+            this.nillable = false;
+            this.getter = null;
+            this.accessor = null;
+            this.accessorIndex = -1;
+            this.serializer = serializer;
+        }
+
+        private void serialize(Object object,
+                               JsonGenerator generator,
+                               Utf8JsonGenerator utf8Generator,
+                               SerializationContextImpl context) {
+            if (kind == KIND_DELEGATE) {
+                serializer.serialize(object, generator, context);
+                return;
+            }
+            if (utf8Generator != null) {
+                utf8Generator.expectName(name, encodedName);
+            }
+            switch (kind) {
+            case KIND_PRIMITIVE_INT:
+                generator.write(name, propertyModel.getIntValue(object));
+                return;
+            case KIND_PRIMITIVE_LONG:
+                generator.write(name, propertyModel.getLongValue(object));
+                return;
+            case KIND_PRIMITIVE_DOUBLE:
+                generator.write(name, propertyModel.getDoubleValue(object));
+                return;
+            case KIND_PRIMITIVE_BOOLEAN:
+                generator.write(name, propertyModel.getBooleanValue(object));
+                return;
+            default:
+                break;
+            }
+            Object value = read(object);
+            if (kind == KIND_VALUE) {
+                context.setKey(name);
+                serializer.serialize(value, generator, context);
+                return;
+            }
+            if (value == null) {
+                if (nillable) {
+                    generator.writeNull(name);
+                }
+                return;
+            }
+            switch (kind) {
+            case KIND_STRING:
+                generator.write(name, (String) value);
+                break;
+            case KIND_BOOLEAN:
+                generator.write(name, (Boolean) value);
+                break;
+            case KIND_INT:
+                generator.write(name, ((Number) value).intValue());
+                break;
+            case KIND_LONG:
+                generator.write(name, (Long) value);
+                break;
+            case KIND_DOUBLE:
+                generator.write(name, (Double) value);
+                break;
+            case KIND_BIG_DECIMAL:
+                generator.write(name, (BigDecimal) value);
+                break;
+            case KIND_BIG_INTEGER:
+                generator.write(name, (BigInteger) value);
+                break;
+            default:
+                throw new IllegalStateException("Unknown property kind: " + kind);
+            }
+        }
+
+        private Object read(Object object) {
+            try {
+                if (accessor != null) {
+                    return accessor.getValue(object, accessorIndex);
+                }
+                return getter.invoke(object);
+            } catch (Throwable e) {
+                throw new JsonbException("Error getting value on: " + object.getClass().getName(), e);
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,59 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.util.Iterator;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
+/**
+ * Container serializer which is able to write its components one at a time.
+ */
+interface ContainerSerializer extends ModelSerializer {
+
+    /**
+     * Write the container start and return the step writing the next container component on every call.
+     * Once all the components have been written, step writes the container end and returns false.
+     *
+     * @param value     container value
+     * @param generator json generator
+     * @param context   serialization context
+     * @return step writing the next component
+     */
+    BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context);
+
+    /**
+     * Create the step writing the given components one at a time.
+     *
+     * @param components container components
+     * @param writer     writer of the single component
+     * @param generator  json generator
+     * @param <T>        component type
+     * @return step writing the next component
+     */
+    static <T> BooleanSupplier steps(Iterator<T> components, Consumer<T> writer, JsonGenerator generator) {
+        return () -> {
+            if (components.hasNext()) {
+                writer.accept(components.next());
+                return true;
+            }
+            generator.writeEnd();
+            return false;
+        };
+    }
+
+}
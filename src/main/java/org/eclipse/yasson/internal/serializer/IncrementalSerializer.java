@@ -0,0 +1,85 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.util.function.BooleanSupplier;
+
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
+/**
+ * Serialization of the root value in steps, so that the output can be produced gradually on demand.
+ * <br>
+ * Root collection, sequence, object array or map written by the default container serializer is serialized
+ * one component per step. Any other root value, including the containers with the adapter or user serializer bound,
+ * is serialized in a single step.
+ */
+public final class IncrementalSerializer {
+
+    private IncrementalSerializer() {
+        throw new IllegalStateException("This class cannot be instantiated");
+    }
+
+    /**
+     * Create the step serializing the next part of the root value on every call.
+     *
+     * @param value          root value
+     * @param rootSerializer root value serializer
+     * @param generator      json generator
+     * @param context        serialization context
+     * @return step returning whether there is any part of the value left to serialize
+     */
+    public static BooleanSupplier steps(Object value,
+                                        ModelSerializer rootSerializer,
+                                        JsonGenerator generator,
+                                        SerializationContextImpl context) {
+        ContainerSerializer container = value == null ? null : container(rootSerializer);
+        if (container == null) {
+            return () -> {
+                rootSerializer.serialize(value, generator, context);
+                return false;
+            };
+        }
+        //mirrors the null serializer, null visibility switcher and key writer wrapping the container
+        NullVisibilitySwitcher switcher = (NullVisibilitySwitcher) ((NullSerializer) rootSerializer).getDelegate();
+        boolean previous = context.isContainerWithNulls();
+        context.setRoot(false);
+        context.setKey(null);
+        context.setContainerWithNulls(switcher.isNullsEnabled());
+        BooleanSupplier components = container.open(value, generator, context);
+        return () -> {
+            if (components.getAsBoolean()) {
+                return true;
+            }
+            context.setContainerWithNulls(previous);
+            return false;
+        };
+    }
+
+    private static ContainerSerializer container(ModelSerializer rootSerializer) {
+        if (!(rootSerializer instanceof NullSerializer)) {
+            return null;
+        }
+        ModelSerializer current = ((NullSerializer) rootSerializer).getDelegate();
+        if (!(current instanceof NullVisibilitySwitcher)) {
+            return null;
+        }
+        current = ((NullVisibilitySwitcher) current).getDelegate();
+        if (current instanceof KeyWriter) {
+            current = ((KeyWriter) current).getDelegate();
+        }
+        return current instanceof ContainerSerializer ? (ContainerSerializer) current : null;
+    }
+
+}
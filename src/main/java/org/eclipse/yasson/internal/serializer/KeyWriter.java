@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -32,6 +32,10 @@ public class KeyWriter implements ModelSerializer {
         this.delegate = delegate;
     }
 
+    ModelSerializer getDelegate() {
+        return delegate;
+    }
+
     @Override
     public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
         if (context.getKey() != null) {
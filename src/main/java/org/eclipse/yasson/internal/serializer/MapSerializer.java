@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.yasson.internal.serializer;
 
 import java.util.Map;
+import java.util.function.BooleanSupplier;
 
 import jakarta.json.stream.JsonGenerator;
 
@@ -22,7 +23,7 @@ import org.eclipse.yasson.internal.serializer.types.TypeSerializers;
 /**
  * Map container serializer.
  */
-abstract class MapSerializer implements ModelSerializer {
+abstract class MapSerializer implements ContainerSerializer {
 
     private final ModelSerializer keySerializer;
     private final ModelSerializer valueSerializer;
@@ -53,7 +54,6 @@ abstract class MapSerializer implements ModelSerializer {
 
         private final StringKeyMapSerializer stringMap;
         private final ObjectKeyMapSerializer objectMap;
-        private MapSerializer serializer;
 
         DynamicMapSerializer(ModelSerializer keySerializer,
                                     ModelSerializer valueSerializer) {
@@ -62,32 +62,39 @@ abstract class MapSerializer implements ModelSerializer {
             objectMap = new ObjectKeyMapSerializer(keySerializer, valueSerializer);
         }
 
-        @SuppressWarnings("unchecked")
         @Override
         public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
-            if (serializer == null) {
-                //We have to be sure that Map with Object as a key contains only supported values for key:value format map.
-                Map<Object, Object> map = (Map<Object, Object>) value;
-                boolean suitable = true;
-                for (Object key : map.keySet()) {
-                    if (key == null) {
-                        if (context.getJsonbContext().getConfigProperties().isForceMapArraySerializerForNullKeys()) {
-                            suitable = false;
-                            break;
-                        }
-                        continue;
-                    }
-                    Class<?> keyClass = key.getClass();
-                    if (TypeSerializers.isSupportedMapKey(keyClass)) {
-                        continue;
+            select(value, context).serialize(value, generator, context);
+        }
+
+        @Override
+        public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            return select(value, context).open(value, generator, context);
+        }
+
+        @SuppressWarnings("unchecked")
+        private MapSerializer select(Object value, SerializationContextImpl context) {
+            //Suitability has to be checked for each map instance, since this serializer is shared among all of them.
+            //We have to be sure that Map with Object as a key contains only supported values for key:value format map.
+            Map<Object, Object> map = (Map<Object, Object>) value;
+            boolean suitable = true;
+            for (Object key : map.keySet()) {
+                if (key == null) {
+                    if (context.getJsonbContext().getConfigProperties().isForceMapArraySerializerForNullKeys()) {
+                        suitable = false;
+                        break;
                     }
-                    //No other checks needed. Map is not suitable for normal key:value map. Wrapping object needs to be used.
-                    suitable = false;
-                    break;
+                    continue;
                 }
-                serializer = suitable ? stringMap : objectMap;
+                Class<?> keyClass = key.getClass();
+                if (TypeSerializers.isSupportedMapKey(keyClass)) {
+                    continue;
+                }
+                //No other checks needed. Map is not suitable for normal key:value map. Wrapping object needs to be used.
+                suitable = false;
+                break;
             }
-            serializer.serialize(value, generator, context);
+            return suitable ? stringMap : objectMap;
         }
 
     }
@@ -111,6 +118,15 @@ abstract class MapSerializer implements ModelSerializer {
             generator.writeEnd();
         }
 
+        @Override
+        public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartObject();
+            return ContainerSerializer.steps(((Map<?, ?>) value).entrySet().iterator(), entry -> {
+                getKeySerializer().serialize(entry.getKey(), generator, context);
+                getValueSerializer().serialize(entry.getValue(), generator, context);
+            }, generator);
+        }
+
     }
 
     private static final class ObjectKeyMapSerializer extends MapSerializer {
@@ -125,18 +141,28 @@ abstract class MapSerializer implements ModelSerializer {
         public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
             Map<Object, Object> map = (Map<Object, Object>) value;
             generator.writeStartArray();
-            map.forEach((key, val) -> {
-                generator.writeStartObject();
-                generator.writeKey("key");
-                if (key == null) {
-                    generator.writeNull();
-                } else {
-                    getKeySerializer().serialize(key, generator, context);
-                }
-                generator.writeKey("value");
-                getValueSerializer().serialize(val, generator, context);
-                generator.writeEnd();
-            });
+            map.forEach((key, val) -> serializeEntry(key, val, generator, context));
+            generator.writeEnd();
+        }
+
+        @Override
+        public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartArray();
+            return ContainerSerializer.steps(((Map<?, ?>) value).entrySet().iterator(),
+                                             entry -> serializeEntry(entry.getKey(), entry.getValue(), generator, context),
+                                             generator);
+        }
+
+        private void serializeEntry(Object key, Object val, JsonGenerator generator, SerializationContextImpl context) {
+            generator.writeStartObject();
+            generator.writeKey("key");
+            if (key == null) {
+                generator.writeNull();
+            } else {
+                getKeySerializer().serialize(key, generator, context);
+            }
+            generator.writeKey("value");
+            getValueSerializer().serialize(val, generator, context);
             generator.writeEnd();
         }
 
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -33,6 +33,14 @@ class NullVisibilitySwitcher implements ModelSerializer {
         this.delegate = delegate;
     }
 
+    boolean isNullsEnabled() {
+        return nullsEnabled;
+    }
+
+    ModelSerializer getDelegate() {
+        return delegate;
+    }
+
     @Override
     public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
         boolean previous = context.isContainerWithNulls();
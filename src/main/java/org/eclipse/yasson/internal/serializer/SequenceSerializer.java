@@ -0,0 +1,163 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.serializer;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.BooleanSupplier;
+import java.util.stream.BaseStream;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.SerializationContextImpl;
+
+/**
+ * Serializer of the lazily produced sequences of elements, {@link BaseStream}, {@link Iterator}, {@link Spliterator}
+ * and values declared as {@link Iterable}.
+ * <br>
+ * Classes which merely implement {@link Iterable} are still serialized as JSON objects, since they usually carry
+ * their own properties. They are serialized as the sequence only when the property or the runtime type passed
+ * to the serialization is declared as {@link Iterable} itself.
+ * <br>
+ * Elements are pulled one by one and written by the element serializer as the JSON array. If the flush interval
+ * is set, generator is flushed every time the given number of elements has been written. Serialized sequence
+ * is consumed, but not closed.
+ */
+class SequenceSerializer implements ContainerSerializer {
+
+    private final ModelSerializer delegate;
+    private final int flushInterval;
+
+    SequenceSerializer(ModelSerializer delegate, int flushInterval) {
+        this.delegate = delegate;
+        this.flushInterval = flushInterval;
+    }
+
+    /**
+     * Whether the given type is a sequence supported by this serializer.
+     *
+     * @param rawType raw type
+     * @return whether type is supported
+     */
+    static boolean isSupported(Class<?> rawType) {
+        return BaseStream.class.isAssignableFrom(rawType)
+                || Iterator.class.isAssignableFrom(rawType)
+                || Spliterator.class.isAssignableFrom(rawType)
+                || Iterable.class.equals(rawType);
+    }
+
+    /**
+     * Resolve type of the sequence elements.
+     *
+     * @param type    sequence type
+     * @param rawType raw sequence type
+     * @return element type, {@link Object} if not known
+     */
+    static Type elementType(Type type, Class<?> rawType) {
+        if (IntStream.class.isAssignableFrom(rawType)) {
+            return Integer.class;
+        } else if (LongStream.class.isAssignableFrom(rawType)) {
+            return Long.class;
+        } else if (DoubleStream.class.isAssignableFrom(rawType)) {
+            return Double.class;
+        } else if (BaseStream.class.isAssignableFrom(rawType)) {
+            return typeArgument(type, rawType, BaseStream.class);
+        } else if (Iterator.class.isAssignableFrom(rawType)) {
+            return typeArgument(type, rawType, Iterator.class);
+        } else if (Spliterator.class.isAssignableFrom(rawType)) {
+            return typeArgument(type, rawType, Spliterator.class);
+        }
+        return typeArgument(type, rawType, Iterable.class);
+    }
+
+    /**
+     * Resolve the element type argument of the given sequence supertype. Type parameters of the searched type
+     * are bound to its actual type arguments, since they do not have to match the parameters of the sequence.
+     *
+     * @param type     type to search
+     * @param rawType  raw type to search
+     * @param sequence sequence supertype with the element type as its first type parameter
+     * @return element type, {@link Object} if not known
+     */
+    private static Type typeArgument(Type type, Class<?> rawType, Class<?> sequence) {
+        if (rawType == sequence) {
+            return type instanceof ParameterizedType ? ((ParameterizedType) type).getActualTypeArguments()[0] : Object.class;
+        }
+        List<Type> supertypes = new ArrayList<>(Arrays.asList(rawType.getGenericInterfaces()));
+        if (rawType.getGenericSuperclass() != null) {
+            supertypes.add(rawType.getGenericSuperclass());
+        }
+        for (Type supertype : supertypes) {
+            Class<?> rawSupertype = ReflectionUtils.getRawType(supertype);
+            if (!sequence.isAssignableFrom(rawSupertype)) {
+                continue;
+            }
+            Type found = typeArgument(supertype, rawSupertype, sequence);
+            if (found instanceof TypeVariable && ((TypeVariable<?>) found).getGenericDeclaration() == rawType) {
+                if (!(type instanceof ParameterizedType)) {
+                    return Object.class;
+                }
+                int index = Arrays.asList(rawType.getTypeParameters()).indexOf(found);
+                return ((ParameterizedType) type).getActualTypeArguments()[index];
+            }
+            return found;
+        }
+        return Object.class;
+    }
+
+    @Override
+    public void serialize(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        Iterator<?> iterator = iterator(value);
+        generator.writeStartArray();
+        int count = 0;
+        while (iterator.hasNext()) {
+            delegate.serialize(iterator.next(), generator, context);
+            if (flushInterval > 0 && ++count == flushInterval) {
+                count = 0;
+                generator.flush();
+            }
+        }
+        generator.writeEnd();
+    }
+
+    @Override
+    public BooleanSupplier open(Object value, JsonGenerator generator, SerializationContextImpl context) {
+        generator.writeStartArray();
+        return ContainerSerializer.steps(iterator(value),
+                                         element -> delegate.serialize(element, generator, context),
+                                         generator);
+    }
+
+    private static Iterator<?> iterator(Object value) {
+        if (value instanceof BaseStream) {
+            return ((BaseStream<?, ?>) value).iterator();
+        } else if (value instanceof Iterator) {
+            return (Iterator<?>) value;
+        } else if (value instanceof Spliterator) {
+            return Spliterators.iterator((Spliterator<?>) value);
+        }
+        return ((Iterable<?>) value).iterator();
+    }
+
+}
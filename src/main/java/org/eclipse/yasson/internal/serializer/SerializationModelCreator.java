@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -20,6 +20,7 @@ import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashMap;
 import java.util.LinkedList;
+import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
 import java.util.Optional;
@@ -30,6 +31,7 @@ import jakarta.json.bind.JsonbException;
 import org.eclipse.yasson.internal.ComponentMatcher;
 import org.eclipse.yasson.internal.JsonbContext;
 import org.eclipse.yasson.internal.ReflectionUtils;
+import org.eclipse.yasson.internal.RootModelCache;
 import org.eclipse.yasson.internal.components.AdapterBinding;
 import org.eclipse.yasson.internal.components.SerializerBinding;
 import org.eclipse.yasson.internal.model.ClassModel;
@@ -50,6 +52,7 @@ public class SerializationModelCreator {
 
     private final Map<Type, ModelSerializer> explicitChain = new ConcurrentHashMap<>();
     private final Map<Type, ModelSerializer> dynamicChain = new ConcurrentHashMap<>();
+    private final RootModelCache<ModelSerializer> rootModels = new RootModelCache<>(this::createRootSerializerChain);
     private final JsonbContext jsonbContext;
 
     /**
@@ -85,9 +88,24 @@ public class SerializationModelCreator {
      * @return type model serializer
      */
     public ModelSerializer serializerChain(Type type, boolean rootValue, boolean resolveRootAdapter) {
+        if (rootValue && resolveRootAdapter) {
+            return rootModels.get(type);
+        }
+        return createSerializerChain(type, rootValue, resolveRootAdapter);
+    }
+
+    private ModelSerializer createRootSerializerChain(Type type) {
+        return createSerializerChain(type, true, true);
+    }
+
+    private ModelSerializer createSerializerChain(Type type, boolean rootValue, boolean resolveRootAdapter) {
         Class<?> rawType = ReflectionUtils.getRawType(type);
-        ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(rawType);
         LinkedList<Type> chain = new LinkedList<>();
+        if (SequenceSerializer.isSupported(rawType) && (!Modifier.isPublic(rawType.getModifiers()) || rawType.isSynthetic())) {
+            //sequence implementations are often inaccessible JDK classes or lambdas, which cannot be parsed
+            return serializerChain(chain, type, ClassCustomization.empty(), rootValue, false, resolveRootAdapter);
+        }
+        ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(rawType);
         return serializerChain(chain, type, classModel.getClassCustomization(), rootValue, false, resolveRootAdapter);
     }
 
@@ -180,6 +198,9 @@ public class SerializationModelCreator {
             }
             return typeSerializer;
         }
+        if (SequenceSerializer.isSupported(rawType)) {
+            return createSequenceSerializer(chain, type, rawType, propertyCustomization);
+        }
         ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(rawType);
         if (Collection.class.isAssignableFrom(rawType)) {
             return createCollectionSerializer(chain, type, propertyCustomization);
@@ -198,29 +219,39 @@ public class SerializationModelCreator {
     private ModelSerializer createObjectSerializer(LinkedList<Type> chain,
                                                    Type type,
                                                    ClassModel classModel) {
-        LinkedHashMap<String, ModelSerializer> propertySerializers = new LinkedHashMap<>();
+        LinkedHashMap<String, ModelSerializer> polymorphismSerializers = new LinkedHashMap<>();
         TypeInheritanceConfiguration typeInheritanceConfiguration = classModel.getClassCustomization().getPolymorphismConfig();
         if (typeInheritanceConfiguration != null) {
-            addPolymorphismProperty(typeInheritanceConfiguration, propertySerializers, classModel);
+            addPolymorphismProperty(typeInheritanceConfiguration, polymorphismSerializers, classModel);
         }
+        List<CompiledObjectSerializer.CompiledProperty> properties = new ArrayList<>();
+        polymorphismSerializers.forEach((name, serializer) -> properties
+                .add(CompiledObjectSerializer.delegateProperty(name, serializer)));
+        boolean strictIJson = jsonbContext.getConfigProperties().isStrictIJson();
         for (PropertyModel model : classModel.getSortedProperties()) {
             if (model.isReadable()) {
-                String name = model.getWriteName();
-                ModelSerializer memberModel = memberSerializer(chain,
-                                                               model.getPropertySerializationType(),
-                                                               model.getCustomization(),
-                                                               false);
-                propertySerializers.put(name, new ValueGetterSerializer(model.getGetValueHandle(), memberModel));
+                Type propertyType = model.getPropertySerializationType();
+                Class<?> rawPropertyType = ReflectionUtils.getRawType(ReflectionUtils.resolveType(chain, propertyType));
+                if (CompiledObjectSerializer.isScalar(rawPropertyType, strictIJson)
+                        && isDirectlyWritable(rawPropertyType, model.getCustomization())) {
+                    properties.add(CompiledObjectSerializer.scalarProperty(model, rawPropertyType));
+                } else {
+                    ModelSerializer memberModel = memberSerializer(chain, propertyType, model.getCustomization(), false);
+                    properties.add(CompiledObjectSerializer.valueProperty(model, memberModel));
+                }
             }
         }
-        ModelSerializer objectSerializer = new ObjectSerializer(propertySerializers);
-        RecursionChecker recursionChecker = new RecursionChecker(objectSerializer);
-        KeyWriter keyWriter = new KeyWriter(recursionChecker);
-        NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(false, keyWriter);
-        NullSerializer nullSerializer = new NullSerializer(nullVisibilitySwitcher, classModel.getClassCustomization(),
-                                                           jsonbContext);
-        explicitChain.put(type, nullSerializer);
-        return nullSerializer;
+        NullSerializer nullSerializer = new NullSerializer(null, classModel.getClassCustomization(), jsonbContext);
+        ModelSerializer objectSerializer = new CompiledObjectSerializer(properties, nullSerializer);
+        explicitChain.put(type, objectSerializer);
+        return objectSerializer;
+    }
+
+    private boolean isDirectlyWritable(Class<?> rawType, Customization customization) {
+        ComponentBoundCustomization componentCustomization = (ComponentBoundCustomization) customization;
+        return customization.getSerializeNumberFormatter() == null
+                && userSerializer(rawType, componentCustomization).isEmpty()
+                && adapterBinding(rawType, componentCustomization).isEmpty();
     }
 
     private void addPolymorphismProperty(TypeInheritanceConfiguration typeInheritanceConfiguration,
@@ -292,6 +323,21 @@ public class SerializationModelCreator {
         return new NullSerializer(nullVisibilitySwitcher, customization, jsonbContext);
     }
 
+    private ModelSerializer createSequenceSerializer(LinkedList<Type> chain,
+                                                     Type type,
+                                                     Class<?> rawType,
+                                                     Customization customization) {
+        Type elementType = SequenceSerializer.elementType(type, rawType);
+        Class<?> rawClass = ReflectionUtils.getRawType(ReflectionUtils.resolveType(chain, elementType));
+        ClassModel classModel = jsonbContext.getMappingContext().getOrCreateClassModel(rawClass);
+        ModelSerializer typeSerializer = memberSerializer(chain, elementType, classModel.getClassCustomization(), false);
+        int flushInterval = jsonbContext.getConfigProperties().getStreamFlushInterval();
+        SequenceSerializer sequenceSerializer = new SequenceSerializer(typeSerializer, flushInterval);
+        KeyWriter keyWriter = new KeyWriter(sequenceSerializer);
+        NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(true, keyWriter);
+        return new NullSerializer(nullVisibilitySwitcher, customization, jsonbContext);
+    }
+
     private ModelSerializer createMapSerializer(LinkedList<Type> chain, Type type, Customization propertyCustomization) {
         Type keyType = type instanceof ParameterizedType
                 ? ((ParameterizedType) type).getActualTypeArguments()[0]
@@ -314,7 +360,8 @@ public class SerializationModelCreator {
                                                   Customization propertyCustomization) {
         Class<?> arrayComponent = raw.getComponentType();
         ModelSerializer modelSerializer = memberSerializer(chain, arrayComponent, propertyCustomization, false);
-        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer);
+        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer,
+                                                                 isDirectlyWritable(arrayComponent, propertyCustomization));
         KeyWriter keyWriter = new KeyWriter(arraySerializer);
         NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(true, keyWriter);
         return new NullSerializer(nullVisibilitySwitcher, propertyCustomization, jsonbContext);
@@ -326,7 +373,7 @@ public class SerializationModelCreator {
         Class<?> raw = ReflectionUtils.getRawType(type);
         Class<?> component = ReflectionUtils.getRawType(((GenericArrayType) type).getGenericComponentType());
         ModelSerializer modelSerializer = memberSerializer(chain, component, propertyCustomization, false);
-        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer);
+        ModelSerializer arraySerializer = ArraySerializer.create(raw, jsonbContext, modelSerializer, false);
         KeyWriter keyWriter = new KeyWriter(arraySerializer);
         NullVisibilitySwitcher nullVisibilitySwitcher = new NullVisibilitySwitcher(true, keyWriter);
         return new NullSerializer(nullVisibilitySwitcher, propertyCustomization, jsonbContext);
@@ -373,7 +420,8 @@ public class SerializationModelCreator {
             boolean isFinal = Modifier.isFinal(rawType.getModifiers());
             if (isFinal
                     || Collection.class.isAssignableFrom(rawType)
-                    || Map.class.isAssignableFrom(rawType)) {
+                    || Map.class.isAssignableFrom(rawType)
+                    || SequenceSerializer.isSupported(rawType)) {
                 return serializerChain(chain, resolved, customization, false, key, true);
             } else {
                 if (dynamicChain.containsKey(resolved)) {
@@ -0,0 +1,119 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.spi;
+
+/**
+ * Direct accessor of the properties declared by a single class.
+ * <br>
+ * Implementations are generated by Yasson at runtime once per class model, if enabled by
+ * {@link org.eclipse.yasson.YassonConfig#withGeneratedAccessors(boolean)}, or adapted from the
+ * {@link GeneratedBindingModel}. Every readable and writable property gets its own index.
+ * Properties of the {@code int}, {@code long}, {@code double} and {@code boolean} types can be also accessed without boxing
+ * by the methods of the given primitive type. These methods throw {@link IndexOutOfBoundsException} for the properties
+ * of any other type.
+ * This interface is exported, since generated classes live in the package of the accessed class.
+ * It is not meant to be implemented by the users.
+ */
+public interface ClassPropertyAccessor {
+
+    /**
+     * Read value of the property with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the property
+     * @return property value
+     */
+    Object getValue(Object instance, int index);
+
+    /**
+     * Write value of the property with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the property
+     * @param value    value to be set
+     */
+    void setValue(Object instance, int index, Object value);
+
+    /**
+     * Read value of the {@code int} property with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the property
+     * @return property value
+     */
+    int getInt(Object instance, int index);
+
+    /**
+     * Read value of the {@code long} property with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the property
+     * @return property value
+     */
+    long getLong(Object instance, int index);
+
+    /**
+     * Read value of the {@code double} property with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the property
+     * @return property value
+     */
+    double getDouble(Object instance, int index);
+
+    /**
+     * Read value of the {@code boolean} property with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the property
+     * @return property value
+     */
+    boolean getBoolean(Object instance, int index);
+
+    /**
+     * Write value of the {@code int} property with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the property
+     * @param value    value to be set
+     */
+    void setInt(Object instance, int index, int value);
+
+    /**
+     * Write value of the {@code long} property with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the property
+     * @param value    value to be set
+     */
+    void setLong(Object instance, int index, long value);
+
+    /**
+     * Write value of the {@code double} property with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the property
+     * @param value    value to be set
+     */
+    void setDouble(Object instance, int index, double value);
+
+    /**
+     * Write value of the {@code boolean} property with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the property
+     * @param value    value to be set
+     */
+    void setBoolean(Object instance, int index, boolean value);
+
+}
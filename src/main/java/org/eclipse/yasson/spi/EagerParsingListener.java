@@ -0,0 +1,56 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.spi;
+
+/**
+ * Listener notified about the progress of the eager parsing of the classes.
+ *
+ * <p>
+ * Listener is set by {@link org.eclipse.yasson.YassonConfig#withEagerParsingListener(EagerParsingListener)}. When the
+ * classes are parsed by an executor, listener is called from its threads, so it has to be thread safe.
+ * </p>
+ */
+public interface EagerParsingListener {
+
+    /**
+     * Called once the class model, serializer and deserializer of the class have been created.
+     *
+     * @param type      parsed class
+     * @param nanos     time the parsing of the class took in nanoseconds
+     * @param completed number of the classes processed so far, including this one
+     * @param total     total number of the classes to be parsed
+     */
+    void classParsed(Class<?> type, long nanos, int completed, int total);
+
+    /**
+     * Called when the parsing of the class has failed.
+     *
+     * @param type      class which parsing failed
+     * @param error     parsing error
+     * @param completed number of the classes processed so far, including this one
+     * @param total     total number of the classes to be parsed
+     */
+    default void classFailed(Class<?> type, Throwable error, int completed, int total) {
+    }
+
+    /**
+     * Called once all the classes have been processed.
+     *
+     * @param total  total number of the processed classes
+     * @param failed number of the classes which parsing failed
+     * @param nanos  time the whole parsing took in nanoseconds
+     */
+    default void parsingFinished(int total, int failed, long nanos) {
+    }
+
+}
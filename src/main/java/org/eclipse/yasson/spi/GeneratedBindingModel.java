@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.spi;
+
+/**
+ * Binding model of a single class generated at build time.
+ *
+ * <p>
+ * Implementations are generated by the {@code yasson-apt} annotation processor for the classes annotated by
+ * {@link org.eclipse.yasson.GenerateBindingModel} and loaded using {@link java.util.ServiceLoader}. Yasson uses them
+ * to access the properties declared by the modeled class directly, instead of the reflection.
+ * </p>
+ * <p>
+ * Every accessible member has its own index, which is its position in the array of the read or write members.
+ * Fields are identified by their name, methods by their name followed by {@code ()}. Methods of the primitive types
+ * can be overridden for the members of the given primitive type, so that they are accessed without boxing.
+ * </p>
+ * <p>
+ * Model can also list the fields, getters and setters declared by the modeled class, so that they do not have to be
+ * discovered by the reflection when the properties of the class are parsed.
+ * </p>
+ */
+public interface GeneratedBindingModel {
+
+    /**
+     * Modeled class.
+     *
+     * @return modeled class
+     */
+    Class<?> getType();
+
+    /**
+     * Fields and getters which can be read by {@link #getValue(Object, int)}, in the order of their indexes.
+     *
+     * @return readable members
+     */
+    String[] getReadMembers();
+
+    /**
+     * Fields and setters which can be written by {@link #setValue(Object, int, Object)}, in the order of their indexes.
+     *
+     * @return writable members
+     */
+    String[] getWriteMembers();
+
+    /**
+     * Fields and the getter and setter methods declared by the modeled class, which are the candidates of its properties.
+     * Members are identified the same way as the read and write members. Fields are listed first.
+     *
+     * @return declared members or null, if they have to be discovered by the reflection
+     */
+    default String[] getDeclaredMembers() {
+        return null;
+    }
+
+    /**
+     * Parameter types of the setters returned by {@link #getDeclaredMembers()}, in the same order. Types of the fields
+     * and the getters are null.
+     *
+     * @return parameter types of the declared setters or null, if the members have to be discovered by the reflection
+     */
+    default Class<?>[] getDeclaredMemberTypes() {
+        return null;
+    }
+
+    /**
+     * Read value of the member with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the member
+     * @return member value
+     */
+    Object getValue(Object instance, int index);
+
+    /**
+     * Write value of the member with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the member
+     * @param value    value to be set
+     */
+    void setValue(Object instance, int index, Object value);
+
+    /**
+     * Read value of the {@code int} member with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the member
+     * @return member value
+     */
+    default int getInt(Object instance, int index) {
+        return (Integer) getValue(instance, index);
+    }
+
+    /**
+     * Read value of the {@code long} member with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the member
+     * @return member value
+     */
+    default long getLong(Object instance, int index) {
+        return (Long) getValue(instance, index);
+    }
+
+    /**
+     * Read value of the {@code double} member with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the member
+     * @return member value
+     */
+    default double getDouble(Object instance, int index) {
+        return (Double) getValue(instance, index);
+    }
+
+    /**
+     * Read value of the {@code boolean} member with the given read index.
+     *
+     * @param instance instance to read value from
+     * @param index    read index of the member
+     * @return member value
+     */
+    default boolean getBoolean(Object instance, int index) {
+        return (Boolean) getValue(instance, index);
+    }
+
+    /**
+     * Write value of the {@code int} member with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the member
+     * @param value    value to be set
+     */
+    default void setInt(Object instance, int index, int value) {
+        setValue(instance, index, value);
+    }
+
+    /**
+     * Write value of the {@code long} member with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the member
+     * @param value    value to be set
+     */
+    default void setLong(Object instance, int index, long value) {
+        setValue(instance, index, value);
+    }
+
+    /**
+     * Write value of the {@code double} member with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the member
+     * @param value    value to be set
+     */
+    default void setDouble(Object instance, int index, double value) {
+        setValue(instance, index, value);
+    }
+
+    /**
+     * Write value of the {@code boolean} member with the given write index.
+     *
+     * @param instance instance to write value to
+     * @param index    write index of the member
+     * @param value    value to be set
+     */
+    default void setBoolean(Object instance, int index, boolean value) {
+        setValue(instance, index, value);
+    }
+
+}
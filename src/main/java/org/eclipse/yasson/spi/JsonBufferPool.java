@@ -0,0 +1,55 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.spi;
+
+/**
+ * Pool of the buffers Yasson writes the JSON to.
+ *
+ * <p>
+ * Buffers are taken for the duration of a single serialization and released once it is done. Released buffer is
+ * no longer used by Yasson. Implementation has to be thread safe. Custom pool is set by
+ * {@link org.eclipse.yasson.YassonConfig#withBufferPool(JsonBufferPool)}, otherwise the default pool is used.
+ * </p>
+ */
+public interface JsonBufferPool {
+
+    /**
+     * Take byte buffer from the pool. Buffer has to have at least 1024 bytes.
+     *
+     * @return byte buffer
+     */
+    byte[] takeBytes();
+
+    /**
+     * Return byte buffer taken by {@link #takeBytes()} to the pool.
+     *
+     * @param buffer released buffer
+     */
+    void releaseBytes(byte[] buffer);
+
+    /**
+     * Take char buffer of at least the given size from the pool.
+     *
+     * @param minimumSize minimum size of the buffer
+     * @return char buffer
+     */
+    char[] takeChars(int minimumSize);
+
+    /**
+     * Return char buffer taken by {@link #takeChars(int)} to the pool.
+     *
+     * @param buffer released buffer
+     */
+    void releaseChars(char[] buffer);
+
+}
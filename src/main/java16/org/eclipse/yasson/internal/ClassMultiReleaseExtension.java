@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,7 @@
 
 package org.eclipse.yasson.internal;
 
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
 import java.util.Map;
@@ -71,4 +72,18 @@ public class ClassMultiReleaseExtension {
         return Optional.empty();
     }
 
+    /**
+     * Define a hidden class in the package of the lookup class.
+     * Class is defined as the nestmate of the lookup class and initialized.
+     *
+     * @param lookup full privilege lookup of the class hosting the hidden class
+     * @param bytes  bytes of the hidden class
+     * @return lookup of the defined hidden class, null if hidden classes are not supported
+     * @throws IllegalAccessException if the lookup does not have the full privilege access
+     */
+    public static MethodHandles.Lookup defineHiddenClass(MethodHandles.Lookup lookup, byte[] bytes)
+            throws IllegalAccessException {
+        return lookup.defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+    }
+
 }
@@ -0,0 +1,179 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests deserialization of the JSON published in chunks.
+ */
+public class AsyncDeserializationTest {
+
+    private static final String JSON = "{\"name\":\"čaj ☕\",\"values\":[1,2,3],\"nested\":{\"name\":\"inner\"}}";
+
+    @Test
+    public void testSubmissionPublisher() throws Exception {
+        CompletionStage<Pojo> result;
+        try (SubmissionPublisher<ByteBuffer> publisher = new SubmissionPublisher<>()) {
+            result = yassonJsonb.fromJson(publisher, Pojo.class);
+            byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+            for (int i = 0; i < bytes.length; i += 5) {
+                publisher.submit(ByteBuffer.wrap(bytes, i, Math.min(5, bytes.length - i)));
+            }
+        }
+        Pojo pojo = result.toCompletableFuture().get(10, TimeUnit.SECONDS);
+        assertEquals("čaj ☕", pojo.name);
+        assertEquals(List.of(1, 2, 3), pojo.values);
+        assertEquals("inner", pojo.nested.name);
+    }
+
+    @Test
+    public void testCompletionAtRootEnd() {
+        ChunkPublisher publisher = new ChunkPublisher(JSON.substring(0, 20), JSON.substring(20), " ", "ignored");
+        CompletionStage<Pojo> result = yassonJsonb.fromJson(publisher, Pojo.class);
+        assertEquals("inner", result.toCompletableFuture().join().nested.name);
+        assertTrue(publisher.cancelled);
+        assertEquals(2, publisher.requested);
+    }
+
+    @Test
+    public void testScalarRoot() {
+        CompletionStage<Integer> result = yassonJsonb.fromJson(new ChunkPublisher("12", "34"), Integer.class);
+        assertEquals(1234, result.toCompletableFuture().join());
+    }
+
+    @Test
+    public void testInvalidJson() {
+        CompletionStage<Pojo> result = yassonJsonb.fromJson(new ChunkPublisher("{\"name\":", "]"), Pojo.class);
+        CompletionException exception = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertInstanceOf(JsonbException.class, exception.getCause());
+    }
+
+    @Test
+    public void testIncompleteJson() {
+        CompletionStage<Pojo> result = yassonJsonb.fromJson(new ChunkPublisher("{\"name\":"), Pojo.class);
+        CompletionException exception = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertInstanceOf(JsonbException.class, exception.getCause());
+    }
+
+    @Test
+    public void testUnsupportedEncoding() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16"))) {
+            assertThrows(JsonbException.class, () -> jsonb.fromJson(new ChunkPublisher("{}"), Pojo.class));
+        }
+    }
+
+    @Test
+    public void testErrorCompletesResult() {
+        List<Flow.Subscriber<? super ByteBuffer>> subscribers = new ArrayList<>();
+        CompletionStage<Failing> result = yassonJsonb.fromJson(subscriber -> {
+            subscribers.add(subscriber);
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+        }, Failing.class);
+        ByteBuffer chunk = ByteBuffer.wrap("{\"name\":\"error\"}".getBytes(StandardCharsets.UTF_8));
+        assertThrows(StackOverflowError.class, () -> subscribers.get(0).onNext(chunk));
+        CompletionException exception = assertThrows(CompletionException.class, () -> result.toCompletableFuture().join());
+        assertInstanceOf(StackOverflowError.class, exception.getCause());
+    }
+
+    public static class Failing {
+        @JsonbCreator
+        public Failing(@JsonbProperty("name") String name) {
+            throw new StackOverflowError(name);
+        }
+    }
+
+    public static class Pojo {
+        public String name;
+        public List<Integer> values;
+        public Pojo nested;
+    }
+
+    /**
+     * Publisher synchronously emitting the requested chunks.
+     */
+    private static final class ChunkPublisher implements Flow.Publisher<ByteBuffer> {
+
+        private final List<String> chunks;
+        private int requested;
+        private boolean cancelled;
+
+        private ChunkPublisher(String... chunks) {
+            this.chunks = new ArrayList<>(List.of(chunks));
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super ByteBuffer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private boolean emitting;
+                private long demand;
+
+                @Override
+                public void request(long n) {
+                    requested++;
+                    demand += n;
+                    if (emitting) {
+                        return;
+                    }
+                    emitting = true;
+                    while (demand > 0 && !cancelled) {
+                        demand--;
+                        if (chunks.isEmpty()) {
+                            subscriber.onComplete();
+                            cancelled = true;
+                        } else {
+                            subscriber.onNext(ByteBuffer.wrap(chunks.remove(0).getBytes(StandardCharsets.UTF_8)));
+                        }
+                    }
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    cancelled = true;
+                }
+            });
+        }
+    }
+
+}
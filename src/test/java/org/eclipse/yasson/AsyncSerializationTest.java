@@ -0,0 +1,225 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Flow;
+import java.util.stream.IntStream;
+
+import jakarta.json.bind.JsonbException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests serialization to the publisher of the JSON chunks.
+ */
+public class AsyncSerializationTest {
+
+    @Test
+    public void testLargeCollection() {
+        List<Item> items = new ArrayList<>();
+        for (int i = 0; i < 5000; i++) {
+            items.add(new Item("item" + i, List.of(i)));
+        }
+        ChunkSubscriber subscriber = new ChunkSubscriber();
+        yassonJsonb.toJsonPublisher(items, null).subscribe(subscriber);
+        assertTrue(subscriber.chunks.isEmpty());
+        subscriber.subscription.request(Long.MAX_VALUE);
+        assertTrue(subscriber.completed);
+        assertEquals(defaultJsonb.toJson(items), subscriber.json());
+        for (int i = 0; i < subscriber.chunks.size() - 1; i++) {
+            assertEquals(8192, subscriber.chunks.get(i).remaining());
+        }
+    }
+
+    @Test
+    public void testSerializationFollowsDemand() {
+        CountingIterator iterator = new CountingIterator(100_000);
+        ChunkSubscriber subscriber = new ChunkSubscriber();
+        yassonJsonb.toJsonPublisher(iterator, null).subscribe(subscriber);
+        assertEquals(0, iterator.next);
+
+        subscriber.subscription.request(1);
+        assertEquals(1, subscriber.chunks.size());
+        int pulled = iterator.next;
+        assertTrue(pulled > 0 && pulled < 10_000, "Pulled " + pulled);
+
+        subscriber.subscription.request(1);
+        assertEquals(2, subscriber.chunks.size());
+        assertTrue(iterator.next > pulled && iterator.next < 10_000, "Pulled " + iterator.next);
+
+        subscriber.subscription.cancel();
+        subscriber.subscription.request(1);
+        assertEquals(2, subscriber.chunks.size());
+        assertFalse(subscriber.completed);
+        assertNull(subscriber.error);
+    }
+
+    @Test
+    public void testMap() {
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("first", List.of(1, 2));
+        map.put("second", null);
+        map.put("third", "value");
+        assertEquals(defaultJsonb.toJson(map), publish(map));
+    }
+
+    @Test
+    public void testSingleValues() {
+        assertEquals("{\"name\":\"item\",\"values\":[1,2]}", publish(new Item("item", List.of(1, 2))));
+        assertEquals("[1,2,3]", publish(new int[] {1, 2, 3}));
+        assertEquals("[\"a\",null]", publish(new String[] {"a", null}));
+        assertEquals("\"text\"", publish("text"));
+        assertEquals("null", publish(null));
+    }
+
+    @Test
+    public void testStream() {
+        assertEquals("[0,1,2,3,4]", publish(IntStream.range(0, 5).boxed()));
+    }
+
+    @Test
+    public void testFailure() {
+        Iterator<Integer> iterator = new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return true;
+            }
+
+            @Override
+            public Integer next() {
+                throw new IllegalStateException("broken");
+            }
+        };
+        ChunkSubscriber subscriber = new ChunkSubscriber();
+        yassonJsonb.toJsonPublisher(iterator, null).subscribe(subscriber);
+        subscriber.subscription.request(1);
+        assertInstanceOf(JsonbException.class, subscriber.error);
+        assertFalse(subscriber.completed);
+    }
+
+    @Test
+    public void testInvalidRequest() {
+        ChunkSubscriber subscriber = new ChunkSubscriber();
+        yassonJsonb.toJsonPublisher("text", null).subscribe(subscriber);
+        subscriber.subscription.request(0);
+        assertInstanceOf(IllegalArgumentException.class, subscriber.error);
+    }
+
+    @Test
+    public void testSingleSubscriber() {
+        Flow.Publisher<ByteBuffer> publisher = yassonJsonb.toJsonPublisher("text", null);
+        ChunkSubscriber first = new ChunkSubscriber();
+        ChunkSubscriber second = new ChunkSubscriber();
+        publisher.subscribe(first);
+        publisher.subscribe(second);
+        assertInstanceOf(IllegalStateException.class, second.error);
+        first.subscription.request(1);
+        assertEquals("\"text\"", first.json());
+        assertTrue(first.completed);
+    }
+
+    private static String publish(Object object) {
+        ChunkSubscriber subscriber = new ChunkSubscriber();
+        yassonJsonb.toJsonPublisher(object, null).subscribe(subscriber);
+        //requested one by one, each chunk is requested from within onNext
+        subscriber.requestOnNext = true;
+        subscriber.subscription.request(1);
+        assertTrue(subscriber.completed);
+        return subscriber.json();
+    }
+
+    public static class Item {
+        public String name;
+        public List<Integer> values;
+
+        Item(String name, List<Integer> values) {
+            this.name = name;
+            this.values = values;
+        }
+    }
+
+    private static final class CountingIterator implements Iterator<Integer> {
+
+        private final int size;
+        private int next;
+
+        private CountingIterator(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Integer next() {
+            return next++;
+        }
+    }
+
+    private static final class ChunkSubscriber implements Flow.Subscriber<ByteBuffer> {
+
+        private final List<ByteBuffer> chunks = new ArrayList<>();
+        private Flow.Subscription subscription;
+        private boolean requestOnNext;
+        private boolean completed;
+        private Throwable error;
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            this.subscription = subscription;
+        }
+
+        @Override
+        public void onNext(ByteBuffer item) {
+            chunks.add(item);
+            if (requestOnNext) {
+                subscription.request(1);
+            }
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+        }
+
+        @Override
+        public void onComplete() {
+            completed = true;
+        }
+
+        private String json() {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            chunks.forEach(chunk -> out.write(chunk.array(), chunk.arrayOffset() + chunk.position(), chunk.remaining()));
+            return out.toString(StandardCharsets.UTF_8);
+        }
+    }
+
+}
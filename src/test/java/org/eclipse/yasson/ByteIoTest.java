@@ -0,0 +1,174 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.json.JsonException;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests reading and writing of the byte arrays, buffers and channels.
+ */
+public class ByteIoTest {
+
+    private static final String JSON = "{\"name\":\"čaj ☕\",\"values\":[1,2,3]}";
+
+    @Test
+    public void testFromByteArrayRange() {
+        byte[] bytes = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        Pojo pojo = yassonJsonb.fromJson(bytes, 2, bytes.length - 4, Pojo.class);
+        assertEquals("čaj ☕", pojo.name);
+        assertEquals(List.of(1, 2, 3), pojo.values);
+    }
+
+    @Test
+    public void testFromHeapByteBuffer() {
+        byte[] bytes = ("xx" + JSON + "yy").getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.wrap(bytes, 1, bytes.length - 1).slice();
+        buffer.position(1).limit(buffer.limit() - 2);
+        Pojo pojo = yassonJsonb.fromJson(buffer, Pojo.class);
+        assertEquals("čaj ☕", pojo.name);
+        assertEquals(buffer.limit(), buffer.position());
+    }
+
+    @Test
+    public void testFromDirectByteBuffer() {
+        byte[] bytes = JSON.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length).put(bytes).flip();
+        Pojo pojo = yassonJsonb.fromJson(buffer, Pojo.class);
+        assertEquals("čaj ☕", pojo.name);
+        assertEquals(List.of(1, 2, 3), pojo.values);
+        assertEquals(buffer.limit(), buffer.position());
+    }
+
+    @Test
+    public void testToJsonBytes() {
+        assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_8), yassonJsonb.toJsonBytes(new Pojo()));
+    }
+
+    @Test
+    public void testToJsonBytesEncoding() throws Exception {
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new JsonbConfig().withEncoding("UTF-16BE"))) {
+            byte[] bytes = jsonb.toJsonBytes(new Pojo());
+            assertArrayEquals(JSON.getBytes(StandardCharsets.UTF_16BE), bytes);
+            assertEquals("čaj ☕", jsonb.<Pojo>fromJson(bytes, 0, bytes.length, Pojo.class).name);
+        }
+    }
+
+    @Test
+    public void testToByteBuffer() {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(100);
+        buffer.put((byte) 'x');
+        yassonJsonb.toJson(new Pojo(), buffer);
+        buffer.flip();
+        assertEquals('x', buffer.get());
+        assertEquals(JSON, StandardCharsets.UTF_8.decode(buffer).toString());
+    }
+
+    @Test
+    public void testToByteBufferOverflow() {
+        JsonbException exception = assertThrows(JsonbException.class, () -> yassonJsonb.toJson(new Pojo(), ByteBuffer.allocate(10)));
+        assertTrue(exception.getMessage().contains("10"), exception.getMessage());
+        List<String> large = List.of("a".repeat(10000));
+        assertThrows(JsonbException.class, () -> yassonJsonb.toJson(large, ByteBuffer.allocate(9000)));
+    }
+
+    @Test
+    public void testToChannel() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        WritableByteChannel channel = Channels.newChannel(out);
+        yassonJsonb.toJson(new Pojo(), channel);
+        yassonJsonb.toJson(List.of(1), channel);
+        assertTrue(channel.isOpen());
+        assertEquals(JSON + "[1]", out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testToNonBlockingChannel() {
+        WritableByteChannel full = new WritableByteChannel() {
+            @Override
+            public int write(ByteBuffer src) {
+                return 0;
+            }
+
+            @Override
+            public boolean isOpen() {
+                return true;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+        JsonException exception = assertThrows(JsonException.class, () -> yassonJsonb.toJson(new Pojo(), full));
+        assertTrue(exception.getCause().getMessage().contains("blocking"), exception.getCause().getMessage());
+    }
+
+    @Test
+    public void testFromFile(@TempDir Path directory) throws Exception {
+        Path file = Files.write(directory.resolve("pojo.json"), yassonJsonb.toJsonBytes(new Pojo()));
+        Pojo pojo = yassonJsonb.fromJson(file, Pojo.class);
+        assertEquals("čaj ☕", pojo.name);
+        assertEquals(List.of(1, 2, 3), pojo.values);
+        assertThrows(JsonbException.class, () -> yassonJsonb.fromJson(directory.resolve("missing.json"), Pojo.class));
+    }
+
+    @Test
+    public void testArrayStreamFromFile(@TempDir Path directory) throws Exception {
+        Path file = Files.writeString(directory.resolve("array.json"), "[" + JSON + ", " + JSON + "]");
+        try (Stream<Pojo> stream = yassonJsonb.fromJsonArrayStream(file, Pojo.class)) {
+            assertEquals(List.of("čaj ☕", "čaj ☕"), stream.map(pojo -> pojo.name).collect(Collectors.toList()));
+        }
+        try (Stream<Pojo> stream = yassonJsonb.fromJsonArrayStream(file, Pojo.class)) {
+            Iterator<Pojo> iterator = stream.iterator();
+            assertEquals(List.of(1, 2, 3), iterator.next().values);
+        }
+        Files.writeString(file, "[]");
+        try (Stream<Pojo> stream = yassonJsonb.fromJsonArrayStream(file, Pojo.class)) {
+            assertFalse(stream.iterator().hasNext());
+        }
+        Files.writeString(file, JSON);
+        try (Stream<Pojo> stream = yassonJsonb.fromJsonArrayStream(file, Pojo.class)) {
+            assertThrows(JsonbException.class, stream::count);
+        }
+    }
+
+    public static class Pojo {
+        public String name = "čaj ☕";
+        public List<Integer> values = List.of(1, 2, 3);
+    }
+
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.json.bind.JsonbException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests lazy deserialization of the top level array elements.
+ */
+public class JsonArrayStreamTest {
+
+    @Test
+    public void testIterator() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Iterator<Element> iterator = yassonJsonb.fromJsonArrayIterator(
+                stream("[{\"name\":\"a\",\"values\":[1]},null,{\"values\":[],\"name\":\"b\"}]", closed), Element.class);
+        assertEquals("a", iterator.next().name);
+        assertNull(iterator.next());
+        assertFalse(closed.get());
+        Element last = iterator.next();
+        assertEquals("b", last.name);
+        assertEquals(List.of(), last.values);
+        assertFalse(iterator.hasNext());
+        assertTrue(closed.get());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void testGenericElements() {
+        Type type = new TestTypeToken<List<Integer>>() { }.getType();
+        try (Stream<List<Integer>> stream = yassonJsonb.fromJsonArrayStream(stream("[[1,2],[],[3]]", null), type)) {
+            assertEquals(List.of(List.of(1, 2), List.of(), List.of(3)), stream.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testStreamClose() {
+        AtomicBoolean closed = new AtomicBoolean();
+        try (Stream<Element> stream = yassonJsonb.fromJsonArrayStream(stream("[{\"name\":\"a\"},{\"name\":\"b\"}]", closed),
+                                                                      Element.class)) {
+            assertEquals("a", stream.findFirst().orElseThrow().name);
+            assertFalse(closed.get());
+        }
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testManyElements() {
+        StringBuilder json = new StringBuilder("[");
+        for (int i = 0; i < 10000; i++) {
+            json.append(i == 0 ? "" : ",").append("{\"name\":\"").append(i).append("\"}");
+        }
+        json.append(']');
+        try (Stream<Element> stream = yassonJsonb.fromJsonArrayStream(stream(json.toString(), null), Element.class)) {
+            assertEquals(10000, stream.filter(element -> element.name != null).count());
+        }
+    }
+
+    @Test
+    public void testNotArray() {
+        AtomicBoolean closed = new AtomicBoolean();
+        Iterator<Element> iterator = yassonJsonb.fromJsonArrayIterator(stream("{\"name\":\"a\"}", closed), Element.class);
+        assertThrows(JsonbException.class, iterator::hasNext);
+        assertTrue(closed.get());
+        assertFalse(iterator.hasNext());
+    }
+
+    private static InputStream stream(String json, AtomicBoolean closed) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8)) {
+            @Override
+            public void close() {
+                if (closed != null) {
+                    closed.set(true);
+                }
+            }
+        };
+    }
+
+    public static class Element {
+        public String name;
+        public List<Integer> values;
+    }
+
+}
@@ -0,0 +1,165 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import jakarta.json.bind.JsonbException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests reading and writing of the JSON Lines.
+ */
+public class JsonLinesTest {
+
+    private static final String LINES = "{\"name\":\"first\",\"value\":1}\n"
+            + "\n"
+            + "  \r\n"
+            + "{\"value\":2,\"name\":\"druhý\"}\r\n"
+            + "null\n"
+            + "{\"name\":\"last\"}";
+
+    @Test
+    public void testReadStream() {
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(stream(LINES), Line.class)) {
+            assertLines(lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testReadReader() {
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(new StringReader(LINES), Line.class)) {
+            assertLines(lines.collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void testReadLongLines() {
+        String name = "€".repeat(5000);
+        String input = ("{\"name\":\"" + name + "\"}\n").repeat(3);
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(stream(input), Line.class)) {
+            assertEquals(Collections.nCopies(3, name), lines.map(line -> line.name).collect(Collectors.toList()));
+        }
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(new StringReader(input), Line.class)) {
+            assertEquals(3, lines.count());
+        }
+    }
+
+    @Test
+    public void testReadEmpty() {
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(stream(" \n\n"), Line.class)) {
+            assertFalse(lines.iterator().hasNext());
+        }
+    }
+
+    @Test
+    public void testReadInvalidLine() {
+        String input = "{\"value\":1}\n\n{\"value\":2} {}\n";
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(stream(input), Line.class)) {
+            Iterator<Line> iterator = lines.iterator();
+            assertEquals(1, iterator.next().value);
+            JsonbException exception = assertThrows(JsonbException.class, iterator::next);
+            assertTrue(exception.getMessage().contains("3"), exception.getMessage());
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testReadLineWithInvalidValue() {
+        String input = "{\"value\":1}\n{\"value\":\"x\"}\n";
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(stream(input), Line.class)) {
+            Iterator<Line> iterator = lines.iterator();
+            assertEquals(1, iterator.next().value);
+            JsonbException exception = assertThrows(JsonbException.class, iterator::next);
+            assertTrue(exception.getMessage().contains("2"), exception.getMessage());
+            assertTrue(exception.getCause() instanceof JsonbException, String.valueOf(exception.getCause()));
+            assertFalse(iterator.hasNext());
+        }
+    }
+
+    @Test
+    public void testWrite() {
+        Line first = new Line();
+        first.name = "first\nline";
+        first.value = 1;
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        yassonJsonb.toJsonLines(Arrays.asList(first, null, List.of(1, 2), Map.of("key", "value"), "text", 2).iterator(), out);
+        assertEquals("{\"name\":\"first\\nline\",\"value\":1}\nnull\n[1,2]\n{\"key\":\"value\"}\n\"text\"\n2\n",
+                     out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testWriteEmpty() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        yassonJsonb.toJsonLines(Stream.empty(), out);
+        assertEquals(0, out.size());
+    }
+
+    @Test
+    public void testRoundTrip() {
+        List<Line> written = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            Line line = new Line();
+            line.name = "line " + i;
+            line.value = i;
+            written.add(line);
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        yassonJsonb.toJsonLines(written.stream(), out);
+        try (Stream<Line> lines = yassonJsonb.fromJsonLines(new ByteArrayInputStream(out.toByteArray()), Line.class)) {
+            List<Line> read = lines.collect(Collectors.toList());
+            assertEquals(1000, read.size());
+            assertEquals("line 999", read.get(999).name);
+            assertEquals(999, read.get(999).value);
+        }
+    }
+
+    private static void assertLines(List<Line> lines) {
+        assertEquals(4, lines.size());
+        assertEquals("first", lines.get(0).name);
+        assertEquals(1, lines.get(0).value);
+        assertEquals("druhý", lines.get(1).name);
+        assertEquals(2, lines.get(1).value);
+        assertNull(lines.get(2));
+        assertEquals("last", lines.get(3).name);
+    }
+
+    private static ByteArrayInputStream stream(String input) {
+        return new ByteArrayInputStream(input.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static class Line {
+        public String name;
+        public int value;
+    }
+
+}
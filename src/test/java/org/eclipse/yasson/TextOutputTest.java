@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson;
+
+import java.io.StringWriter;
+import java.nio.CharBuffer;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.yassonJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests serialization into the strings, string builders and appendables.
+ */
+public class TextOutputTest {
+
+    private static final String LONG = "text ".repeat(10000);
+
+    @Test
+    public void testRepeatedStrings() {
+        //outputs of different sizes are written through the same pooled buffers
+        for (int i = 0; i < 3; i++) {
+            assertEquals("{\"key\":\"" + LONG + "\"}", yassonJsonb.toJson(Map.of("key", LONG)));
+            assertEquals("{\"key\":\"short\"}", yassonJsonb.toJson(Map.of("key", "short")));
+            assertEquals("null", yassonJsonb.toJson(null));
+            assertEquals("[1,2]", yassonJsonb.toJson(List.of(1, 2), List.class));
+        }
+    }
+
+    @Test
+    public void testStringBuilder() {
+        StringBuilder builder = new StringBuilder("prefix:");
+        yassonJsonb.toJson(List.of("a", LONG), builder);
+        assertEquals("prefix:[\"a\",\"" + LONG + "\"]", builder.toString());
+    }
+
+    @Test
+    public void testAppendable() {
+        StringBuilder target = new StringBuilder();
+        Appendable appendable = new Appendable() {
+            @Override
+            public Appendable append(CharSequence csq) {
+                target.append(csq);
+                return this;
+            }
+
+            @Override
+            public Appendable append(CharSequence csq, int start, int end) {
+                target.append(csq, start, end);
+                return this;
+            }
+
+            @Override
+            public Appendable append(char c) {
+                target.append(c);
+                return this;
+            }
+        };
+        yassonJsonb.appendJson(Map.of("key", LONG), appendable);
+        assertEquals("{\"key\":\"" + LONG + "\"}", target.toString());
+
+        CharBuffer buffer = CharBuffer.allocate(20);
+        yassonJsonb.appendJson(List.of(1, "a"), buffer);
+        assertEquals("[1,\"a\"]", buffer.flip().toString());
+    }
+
+    @Test
+    public void testAppendableNotClosed() {
+        StringBuilder closed = new StringBuilder();
+        StringWriter writer = new StringWriter() {
+            @Override
+            public void close() {
+                closed.append("closed");
+            }
+        };
+        yassonJsonb.appendJson(1, writer);
+        assertEquals("1", writer.toString());
+        assertEquals("", closed.toString());
+    }
+
+}
@@ -0,0 +1,216 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.customization;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbTransient;
+import jakarta.json.bind.config.PropertyVisibilityStrategy;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests for {@link YassonConfig#withGeneratedAccessors(boolean)}.
+ * When generated accessors are not available, reflection is used and the results have to be the same.
+ */
+public class GeneratedAccessorsTest {
+
+    private static final Jsonb JSONB = JsonbBuilder.create(new YassonConfig().withGeneratedAccessors(true));
+
+    @Test
+    public void testFieldsAndAccessorsRoundTrip() {
+        Pojo pojo = new Pojo();
+        pojo.name = "Jason";
+        pojo.count = 42;
+        pojo.setAmount(12.5);
+        pojo.setLetters(List.of("a", "b"));
+        pojo.setActive(true);
+        pojo.setInitial('J');
+        pojo.secret = "hidden";
+
+        String expected = "{\"active\":true,\"amount\":12.5,\"count\":42,\"initial\":\"J\",\"letters\":[\"a\",\"b\"],"
+                + "\"name\":\"Jason\"}";
+        assertEquals(expected, JSONB.toJson(pojo));
+
+        Pojo result = JSONB.fromJson(expected, Pojo.class);
+        assertEquals("Jason", result.name);
+        assertEquals(42, result.count);
+        assertEquals(12.5, result.getAmount());
+        assertEquals(List.of("a", "b"), result.getLetters());
+        assertEquals(true, result.isActive());
+        assertEquals('J', result.getInitial());
+        assertNull(result.secret);
+    }
+
+    @Test
+    public void testInheritedProperties() {
+        Child child = new Child();
+        child.parentValue = "parent";
+        child.childValue = 7L;
+        String json = JSONB.toJson(child);
+        assertEquals("{\"parentValue\":\"parent\",\"childValue\":7}", json);
+
+        Child result = JSONB.fromJson(json, Child.class);
+        assertEquals("parent", result.parentValue);
+        assertEquals(7L, result.childValue);
+    }
+
+    @Test
+    public void testPrivateFieldsWithVisibilityStrategy() {
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withGeneratedAccessors(true)
+                                                  .withPropertyVisibilityStrategy(new FieldsOnlyStrategy()));
+        PrivateFields privateFields = new PrivateFields(3, "three");
+        String json = jsonb.toJson(privateFields);
+        assertEquals("{\"number\":3,\"text\":\"three\"}", json);
+
+        PrivateFields result = jsonb.fromJson(json, PrivateFields.class);
+        assertEquals(3, result.number);
+        assertEquals("three", result.text);
+    }
+
+    @Test
+    public void testFluentSetter() {
+        FluentSetter result = JSONB.fromJson("{\"value\":5}", FluentSetter.class);
+        assertEquals(5L, result.getValue());
+    }
+
+    @Test
+    public void testNullIntoPrimitiveFails() {
+        assertThrows(JsonbException.class, () -> JSONB.fromJson("{\"count\":null}", Pojo.class));
+        assertThrows(JsonbException.class, () -> JSONB.fromJson("{\"active\":null}", Pojo.class));
+    }
+
+    @Test
+    public void testDisabledByDefault() {
+        Jsonb jsonb = JsonbBuilder.create(new JsonbConfig());
+        Pojo pojo = new Pojo();
+        pojo.name = "x";
+        assertEquals(JSONB.toJson(pojo), jsonb.toJson(pojo));
+    }
+
+    public static class Pojo {
+
+        public String name;
+
+        public int count;
+
+        @JsonbTransient
+        public String secret;
+
+        private double amount;
+
+        private List<String> letters;
+
+        private boolean active;
+
+        private char initial;
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public List<String> getLetters() {
+            return letters;
+        }
+
+        public void setLetters(List<String> letters) {
+            this.letters = letters;
+        }
+
+        public boolean isActive() {
+            return active;
+        }
+
+        public void setActive(boolean active) {
+            this.active = active;
+        }
+
+        public char getInitial() {
+            return initial;
+        }
+
+        public void setInitial(char initial) {
+            this.initial = initial;
+        }
+    }
+
+    public static class Parent {
+
+        public String parentValue;
+
+    }
+
+    public static class Child extends Parent {
+
+        public long childValue;
+
+    }
+
+    public static class PrivateFields {
+
+        private int number;
+
+        private String text;
+
+        public PrivateFields() {
+        }
+
+        PrivateFields(int number, String text) {
+            this.number = number;
+            this.text = text;
+        }
+    }
+
+    public static class FluentSetter {
+
+        private long value;
+
+        public long getValue() {
+            return value;
+        }
+
+        public FluentSetter setValue(long value) {
+            this.value = value;
+            return this;
+        }
+    }
+
+    private static final class FieldsOnlyStrategy implements PropertyVisibilityStrategy {
+
+        @Override
+        public boolean isVisible(Field field) {
+            return true;
+        }
+
+        @Override
+        public boolean isVisible(Method method) {
+            return false;
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,6 +12,7 @@
 
 package org.eclipse.yasson.customization;
 
+import java.lang.reflect.InvocationTargetException;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.Set;
@@ -163,6 +164,68 @@ public class JsonbCreatorTest {
         assertEquals("name1", persons.hiddenPersons.iterator().next().getName());
     }
 
+    @Test
+    public void testCreatorParameterSlots() {
+        String json = "{\"text\":\"abc\",\"extra\":{\"a\":1},\"flag\":true,\"count\":3,\"property\":\"p\"}";
+        SlotCreator all = defaultJsonb.fromJson(json, SlotCreator.class);
+        assertEquals(3, all.count);
+        assertTrue(all.flag);
+        assertEquals("abc", all.text);
+        assertEquals("p", all.property);
+        SlotCreator defaults = defaultJsonb.fromJson("{\"property\":\"p\",\"text\":\"abc\"}", SlotCreator.class);
+        assertEquals(0, defaults.count);
+        assertEquals(false, defaults.flag);
+        assertEquals("abc", defaults.text);
+        assertEquals("p", defaults.property);
+    }
+
+    @Test
+    public void testFailingCreator() {
+        JsonbException exception = assertThrows(JsonbException.class,
+                                                 () -> defaultJsonb.fromJson("{\"text\":\"fail\"}", SlotCreator.class));
+        assertTrue(exception.getCause() instanceof InvocationTargetException);
+        assertTrue(exception.getCause().getCause() instanceof IllegalArgumentException);
+    }
+
+    @Test
+    public void testCreatorError() {
+        assertThrows(StackOverflowError.class, () -> defaultJsonb.fromJson("{\"text\":\"error\"}", SlotCreator.class));
+    }
+
+    public static final class SlotCreator {
+        private final int count;
+        private final boolean flag;
+        private final String text;
+        public String property;
+
+        @JsonbCreator
+        public SlotCreator(@JsonbProperty("text") String text,
+                           @JsonbProperty("count") int count,
+                           @JsonbProperty("flag") boolean flag) {
+            if ("fail".equals(text)) {
+                throw new IllegalArgumentException("Failing creator");
+            }
+            if ("error".equals(text)) {
+                throw new StackOverflowError("Failing creator");
+            }
+            this.count = count;
+            this.flag = flag;
+            this.text = text;
+        }
+
+        public int getCount() {
+            return count;
+        }
+
+        public boolean isFlag() {
+            return flag;
+        }
+
+        public String getText() {
+            return text;
+        }
+    }
+
     public static final class Persons {
 
         Set<Person> hiddenPersons;
@@ -0,0 +1,115 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.customization;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.YassonConfig;
+import org.eclipse.yasson.YassonJsonb;
+import org.eclipse.yasson.internal.JsonbContext;
+import org.eclipse.yasson.spi.JsonBufferPool;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the JSON-P provider properties and the custom buffer pool configuration.
+ */
+public class JsonpConfigTest {
+
+    @Test
+    public void testJsonpPropertiesPassed() throws Exception {
+        YassonConfig config = new YassonConfig().withJsonpProperties(Map.of(JsonGenerator.PRETTY_PRINTING, true));
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(config)) {
+            String expected = "[\n    1,\n    2\n]";
+            assertEquals(expected, jsonb.toJson(List.of(1, 2)).trim());
+            ByteArrayOutputStream stream = new ByteArrayOutputStream();
+            jsonb.toJson(List.of(1, 2), stream);
+            assertEquals(expected, stream.toString(StandardCharsets.UTF_8).trim());
+            assertEquals(2, jsonb.fromJson(expected, int[].class).length);
+        }
+    }
+
+    @Test
+    public void testFactoriesPrecomputed() {
+        JsonbConfig config = new YassonConfig().withJsonpProperties(Map.of("custom", "value")).withFormatting(true);
+        JsonbContext context = new JsonbContext(config, JsonProvider.provider());
+        assertEquals(Map.of("custom", "value", JsonGenerator.PRETTY_PRINTING, true), context.getJsonpProperties());
+        assertSame(context.getJsonGeneratorFactory(), context.getJsonGeneratorFactory());
+        assertTrue(context.getJsonGeneratorFactory().getConfigInUse().containsKey(JsonGenerator.PRETTY_PRINTING));
+        assertEquals(StandardCharsets.UTF_8, context.getCharset());
+    }
+
+    @Test
+    public void testInvalidJsonpProperties() {
+        JsonbConfig config = new JsonbConfig().setProperty(YassonConfig.JSONP_PROPERTIES, "invalid");
+        assertThrows(JsonbException.class, () -> JsonbBuilder.create(config));
+    }
+
+    @Test
+    public void testCustomBufferPool() throws Exception {
+        CountingBufferPool pool = new CountingBufferPool();
+        try (YassonJsonb jsonb = (YassonJsonb) JsonbBuilder.create(new YassonConfig().withBufferPool(pool))) {
+            assertEquals("[1,2]", jsonb.toJson(List.of(1, 2)));
+            assertEquals("[1,2]", new String(jsonb.toJsonBytes(List.of(1, 2)), StandardCharsets.UTF_8));
+        }
+        assertEquals(1, pool.chars.get());
+        assertEquals(1, pool.bytes.get());
+        assertEquals(0, pool.taken.get());
+    }
+
+    private static final class CountingBufferPool implements JsonBufferPool {
+
+        private final AtomicInteger bytes = new AtomicInteger();
+        private final AtomicInteger chars = new AtomicInteger();
+        private final AtomicInteger taken = new AtomicInteger();
+
+        @Override
+        public byte[] takeBytes() {
+            bytes.incrementAndGet();
+            taken.incrementAndGet();
+            return new byte[1024];
+        }
+
+        @Override
+        public void releaseBytes(byte[] buffer) {
+            taken.decrementAndGet();
+        }
+
+        @Override
+        public char[] takeChars(int minimumSize) {
+            chars.incrementAndGet();
+            taken.incrementAndGet();
+            return new char[minimumSize];
+        }
+
+        @Override
+        public void releaseChars(char[] buffer) {
+            taken.decrementAndGet();
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -12,14 +12,20 @@
 
 package org.eclipse.yasson.customization.polymorphism;
 
+import java.lang.reflect.Type;
 import java.time.LocalDate;
 
+import jakarta.json.JsonObject;
 import jakarta.json.bind.JsonbException;
 import jakarta.json.bind.annotation.JsonbCreator;
 import jakarta.json.bind.annotation.JsonbDateFormat;
 import jakarta.json.bind.annotation.JsonbProperty;
 import jakarta.json.bind.annotation.JsonbSubtype;
+import jakarta.json.bind.annotation.JsonbTypeDeserializer;
 import jakarta.json.bind.annotation.JsonbTypeInfo;
+import jakarta.json.bind.serializer.DeserializationContext;
+import jakarta.json.bind.serializer.JsonbDeserializer;
+import jakarta.json.stream.JsonParser;
 
 import org.eclipse.yasson.Jsonbs;
 import org.junit.jupiter.api.Test;
@@ -101,6 +107,30 @@ public class AnnotationPolymorphismTest {
         assertThat(deserialized[2], instanceOf(Dog.class));
     }
 
+    @Test
+    public void testKeyNotFirstDeserialization() {
+        Animal[] deserialized = Jsonbs.defaultJsonb.fromJson("[{\"isDog\":false,\"@type\":\"dog\"},"
+                                                                     + "{\"unknown\":{\"a\":[1,{\"b\":\"c\"}]},\"isCat\":false,"
+                                                                     + "\"@type\":\"cat\",\"isCat\":true},"
+                                                                     + "{\"isDog\":false,\"@type\":\"dog\"}]",
+                                                             Animal[].class);
+        assertThat(deserialized.length, is(3));
+        assertThat(deserialized[0], instanceOf(Dog.class));
+        assertThat(((Dog) deserialized[0]).isDog, is(false));
+        assertThat(deserialized[1], instanceOf(Cat.class));
+        assertThat(((Cat) deserialized[1]).isCat, is(true));
+        assertThat(((Dog) deserialized[2]).isDog, is(false));
+    }
+
+    @Test
+    public void testUserDeserializerOfSubtype() {
+        Shape first = Jsonbs.defaultJsonb.fromJson("{\"@shape\":\"square\",\"side\":2}", Shape.class);
+        assertThat(((Square) first).side, is(2));
+        Shape last = Jsonbs.defaultJsonb.fromJson("{\"side\":3,\"nested\":{\"values\":[1.5]},\"@shape\":\"square\"}",
+                                                  Shape.class);
+        assertThat(((Square) last).side, is(3));
+    }
+
     @JsonbTypeInfo({
             @JsonbSubtype(alias = "dog", type = Dog.class),
             @JsonbSubtype(alias = "cat", type = Cat.class)
@@ -127,6 +157,32 @@ public class AnnotationPolymorphismTest {
 
     }
 
+    @JsonbTypeInfo(key = "@shape", value = {
+            @JsonbSubtype(alias = "square", type = Square.class)
+    })
+    public interface Shape {
+
+    }
+
+    @JsonbTypeDeserializer(SquareDeserializer.class)
+    public static class Square implements Shape {
+
+        public int side;
+
+    }
+
+    public static class SquareDeserializer implements JsonbDeserializer<Square> {
+
+        @Override
+        public Square deserialize(JsonParser parser, DeserializationContext ctx, Type rtType) {
+            JsonObject object = parser.getObject();
+            Square square = new Square();
+            square.side = object.getInt("side");
+            return square;
+        }
+
+    }
+
     @JsonbTypeInfo(key = "@dateType", value = {
             @JsonbSubtype(alias = "constructor", type = DateConstructor.class)
     })
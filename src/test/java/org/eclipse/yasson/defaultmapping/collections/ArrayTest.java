@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2015, 2020 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2015, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -18,6 +18,9 @@ import static org.eclipse.yasson.Jsonbs.*;
 
 import org.eclipse.yasson.TestTypeToken;
 
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+
 import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.HashMap;
@@ -192,6 +195,56 @@ public class ArrayTest {
         assertArrayEquals(doubleArr, nullableJsonb.fromJson("[-128.0, 127.0]", double[].class), 0d);
     }
 
+    @Test
+    public void testLargePrimitiveArrays() {
+        int[] intArr = new int[1000];
+        long[] longArr = new long[1000];
+        double[] doubleArr = new double[1000];
+        boolean[] booleanArr = new boolean[1000];
+        for (int i = 0; i < intArr.length; i++) {
+            intArr[i] = i - 500;
+            longArr[i] = Long.MAX_VALUE - i;
+            doubleArr[i] = i / 8d;
+            booleanArr[i] = i % 3 == 0;
+        }
+        assertArrayEquals(intArr, defaultJsonb.fromJson(defaultJsonb.toJson(intArr), int[].class));
+        assertArrayEquals(longArr, defaultJsonb.fromJson(defaultJsonb.toJson(longArr), long[].class));
+        assertArrayEquals(doubleArr, defaultJsonb.fromJson(defaultJsonb.toJson(doubleArr), double[].class), 0d);
+        assertArrayEquals(booleanArr, defaultJsonb.fromJson(defaultJsonb.toJson(booleanArr), boolean[].class));
+        assertArrayEquals(new int[0], defaultJsonb.fromJson("[]", int[].class));
+    }
+
+    @Test
+    public void testPrimitiveArrayNotNaturalValues() {
+        assertArrayEquals(new int[] {1, 2, 3}, defaultJsonb.fromJson("[1, \"2\", 3]", int[].class));
+        assertArrayEquals(new double[] {0.5, 1.5}, defaultJsonb.fromJson("[\"0.5\", 1.5]", double[].class), 0d);
+        assertArrayEquals(new boolean[] {true, false}, defaultJsonb.fromJson("[\"true\", false]", boolean[].class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("[1, null]", int[].class));
+    }
+
+    @Test
+    public void testPrimitiveArrayProperties() {
+        PrimitiveArrays arrays = new PrimitiveArrays();
+        arrays.matrix = new int[][] {{1, 2}, {}, {3}};
+        arrays.formatted = new double[] {1.5, 1000};
+        arrays.values = new long[] {4, 5};
+        String expected = "{\"formatted\":[\"1.50\",\"1,000.00\"],\"matrix\":[[1,2],[],[3]],\"values\":[4,5]}";
+        assertEquals(expected, defaultJsonb.toJson(arrays));
+        PrimitiveArrays result = defaultJsonb.fromJson(expected, PrimitiveArrays.class);
+        assertArrayEquals(new double[] {1.5, 1000}, result.formatted, 0d);
+        assertArrayEquals(new int[] {1, 2}, result.matrix[0]);
+        assertArrayEquals(new int[0], result.matrix[1]);
+        assertArrayEquals(new int[] {3}, result.matrix[2]);
+        assertArrayEquals(new long[] {4, 5}, result.values);
+    }
+
+    public static class PrimitiveArrays {
+        @JsonbNumberFormat(value = "#,##0.00", locale = "en-US")
+        public double[] formatted;
+        public int[][] matrix;
+        public long[] values;
+    }
+
     public static class KeyValue {
         public String field;
 
@@ -0,0 +1,217 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.defaultmapping.collections;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbTypeSerializer;
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.eclipse.yasson.Jsonbs.nullableJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests serialization of the streams, iterators, spliterators and iterables.
+ */
+public class SequenceTest {
+
+    @Test
+    public void testRootSequences() {
+        assertEquals("[{\"name\":\"a\"},{\"name\":\"b\"}]", defaultJsonb.toJson(Stream.of(new Item("a"), new Item("b"))));
+        assertEquals("[1,2,3]", defaultJsonb.toJson(IntStream.rangeClosed(1, 3)));
+        assertEquals("[\"a\",1,true]", defaultJsonb.toJson(List.of("a", 1, true).iterator()));
+        assertEquals("[\"a\",\"b\"]", defaultJsonb.toJson(List.of("a", "b").spliterator()));
+        Iterable<String> iterable = () -> List.of("x", "y").iterator();
+        assertEquals("[\"x\",\"y\"]", defaultJsonb.toJson(iterable, Iterable.class));
+        assertEquals("[]", defaultJsonb.toJson(Stream.empty()));
+    }
+
+    @Test
+    public void testSequenceProperties() {
+        Holder holder = new Holder();
+        holder.stream = Stream.of(new Item("a"), null);
+        holder.iterator = Arrays.asList(1L, 2L).iterator();
+        holder.spliterator = List.of("s").spliterator();
+        holder.iterable = () -> List.of(new Item("i")).iterator();
+        holder.nested = Stream.of(List.of(1), List.of());
+        assertEquals("{\"iterable\":[{\"name\":\"i\"}],\"iterator\":[1,2],\"nested\":[[1],[]],"
+                             + "\"spliterator\":[\"s\"],\"stream\":[{\"name\":\"a\"},null]}",
+                     defaultJsonb.toJson(holder));
+        assertEquals("{\"iterable\":null,\"iterator\":null,\"nested\":null,\"spliterator\":null,\"stream\":null}",
+                     nullableJsonb.toJson(new Holder()));
+    }
+
+    @Test
+    public void testIterableBean() {
+        Tags tags = new Tags();
+        tags.owner = "me";
+        tags.items = List.of("a", "b");
+        String json = defaultJsonb.toJson(tags);
+        assertEquals("{\"items\":[\"a\",\"b\"],\"owner\":\"me\"}", json);
+        Tags deserialized = defaultJsonb.fromJson(json, Tags.class);
+        assertEquals("me", deserialized.owner);
+        assertEquals(List.of("a", "b"), deserialized.items);
+    }
+
+    @Test
+    public void testIterableBeanProperty() {
+        TagsHolder holder = new TagsHolder();
+        holder.tags = new Tags();
+        holder.tags.owner = "me";
+        holder.tags.items = List.of("a");
+        holder.iterable = holder.tags;
+        assertEquals("{\"iterable\":[\"a\"],\"tags\":{\"items\":[\"a\"],\"owner\":\"me\"}}", defaultJsonb.toJson(holder));
+    }
+
+    @Test
+    public void testPathIsNotSequence() {
+        assertThrows(JsonbException.class, () -> defaultJsonb.toJson(Paths.get("a", "b")));
+    }
+
+    @Test
+    public void testElementTypeOfSupertype() {
+        PairHolder holder = new PairHolder();
+        holder.pairs = new PairIterator<>("ignored", new Item("a"));
+        assertEquals("{\"pairs\":[{\"name\":\"a\"}]}", defaultJsonb.toJson(holder));
+    }
+
+    @Test
+    public void testCustomizedIterable() {
+        assertEquals("\"custom\"", defaultJsonb.toJson(new CustomIterable()));
+    }
+
+    @Test
+    public void testPeriodicFlush() throws Exception {
+        FlushCountingStream out = new FlushCountingStream();
+        Iterator<Integer> elements = new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < 10;
+            }
+
+            @Override
+            public Integer next() {
+                //elements written before the last flush are already in the output
+                assertEquals(out.flushes * 3, out.toString(StandardCharsets.UTF_8).split(",").length - (out.flushes == 0 ? 1 : 0));
+                return next++;
+            }
+        };
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withStreamFlushInterval(3))) {
+            jsonb.toJson(elements, out);
+        }
+        assertEquals("[0,1,2,3,4,5,6,7,8,9]", out.toString(StandardCharsets.UTF_8));
+        assertEquals(3, out.flushes);
+    }
+
+    public static class Item {
+        public String name;
+
+        public Item(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class Holder {
+        public Stream<Item> stream;
+        public Iterator<Long> iterator;
+        public Spliterator<String> spliterator;
+        public Iterable<Item> iterable;
+        public Stream<List<Integer>> nested;
+    }
+
+    public static class Tags implements Iterable<String> {
+        public String owner;
+        public List<String> items;
+
+        @Override
+        public Iterator<String> iterator() {
+            return items.iterator();
+        }
+    }
+
+    public static class TagsHolder {
+        public Tags tags;
+        public Iterable<String> iterable;
+    }
+
+    public static class PairIterator<A, B> implements Iterator<B> {
+        private final A first;
+        private B second;
+
+        public PairIterator(A first, B second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return second != null;
+        }
+
+        @Override
+        public B next() {
+            B next = second;
+            second = null;
+            return next;
+        }
+    }
+
+    public static class PairHolder {
+        public PairIterator<String, Item> pairs;
+    }
+
+    @JsonbTypeSerializer(CustomIterableSerializer.class)
+    public static class CustomIterable implements Iterable<String> {
+        @Override
+        public Iterator<String> iterator() {
+            return List.of("default").iterator();
+        }
+    }
+
+    public static class CustomIterableSerializer implements JsonbSerializer<CustomIterable> {
+        @Override
+        public void serialize(CustomIterable obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.write("custom");
+        }
+    }
+
+    private static final class FlushCountingStream extends ByteArrayOutputStream {
+        private int flushes;
+
+        @Override
+        public void flush() {
+            flushes++;
+        }
+    }
+
+}
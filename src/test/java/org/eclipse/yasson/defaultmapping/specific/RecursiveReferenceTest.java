@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2019, 2022 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2019, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -13,6 +13,7 @@
 package org.eclipse.yasson.defaultmapping.specific;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.fail;
 
 import java.util.Arrays;
@@ -22,7 +23,9 @@ import jakarta.json.bind.JsonbBuilder;
 import jakarta.json.bind.JsonbConfig;
 import jakarta.json.bind.JsonbException;
 
+import org.eclipse.yasson.CycleDetection;
 import org.eclipse.yasson.Jsonbs;
+import org.eclipse.yasson.YassonConfig;
 import org.eclipse.yasson.adapters.model.Chain;
 import org.eclipse.yasson.adapters.model.ChainAdapter;
 import org.eclipse.yasson.adapters.model.ChainSerializer;
@@ -160,9 +163,90 @@ public class RecursiveReferenceTest {
         assertEquals(expected, result);
     }
 
+    @Test
+    public void testEqualInstancesAreNotRecursive() {
+        Node node = new Node(new Node(new Node(null)));
+        assertEquals("{\"next\":{\"next\":{}}}", Jsonbs.defaultJsonb.toJson(node));
+    }
+
+    @Test
+    public void testDeepRecursiveReference() {
+        Node first = new Node(null);
+        Node last = first;
+        for (int i = 0; i < 100; i++) {
+            last = new Node(last);
+        }
+        first.next = last;
+        Node root = last;
+        assertThrows(JsonbException.class, () -> Jsonbs.defaultJsonb.toJson(root));
+        first.next = null;
+        assertEquals(101, countOccurrences(Jsonbs.defaultJsonb.toJson(root), "{"));
+    }
+
+    @Test
+    public void testRecursiveReferenceAfterFailedSerialization() {
+        Chain recursive = new Chain("test");
+        recursive.setLinksTo(recursive);
+        Chain valid = new Chain("valid");
+        assertThrows(JsonbException.class, () -> Jsonbs.defaultJsonb.toJson(Arrays.asList(recursive, valid)));
+        assertEquals("[{\"name\":\"valid\"},{\"name\":\"valid\"}]", Jsonbs.defaultJsonb.toJson(Arrays.asList(valid, valid)));
+    }
+
+    @Test
+    public void testCycleDetectionOff() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withCycleDetection(CycleDetection.OFF))) {
+            Node node = new Node(new Node(null));
+            assertEquals("{\"next\":{}}", jsonb.toJson(node));
+        }
+    }
+
+    @Test
+    public void testCycleDetectionDepth() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withCycleDetection(CycleDetection.DEPTH).withMaxDepth(3))) {
+            assertEquals("{\"next\":{\"next\":{}}}", jsonb.toJson(new Node(new Node(new Node(null)))));
+            JsonbException exception = assertThrows(JsonbException.class,
+                                                    () -> jsonb.toJson(new Node(new Node(new Node(new Node(null))))));
+            assertEquals("Maximum serialization depth 3 has been exceeded in class class "
+                                 + "org.eclipse.yasson.defaultmapping.specific.RecursiveReferenceTest$Node.",
+                         exception.getCause().getCause().getCause().getMessage());
+            Chain recursive = new Chain("test");
+            recursive.setLinksTo(recursive);
+            assertThrows(JsonbException.class, () -> jsonb.toJson(recursive));
+        }
+    }
+
+    private static int countOccurrences(String value, String part) {
+        int count = 0;
+        for (int i = value.indexOf(part); i >= 0; i = value.indexOf(part, i + 1)) {
+            count++;
+        }
+        return count;
+    }
+
     public static class A {
         public Foo ref1;
         public Foo ref2;
     }
 
+    /**
+     * All instances are equal, so they cannot be distinguished by equality based detection.
+     */
+    public static class Node {
+        public Node next;
+
+        public Node(Node next) {
+            this.next = next;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof Node;
+        }
+
+        @Override
+        public int hashCode() {
+            return 1;
+        }
+    }
+
 }
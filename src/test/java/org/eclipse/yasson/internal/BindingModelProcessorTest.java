@@ -0,0 +1,224 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import javax.annotation.processing.Processor;
+import javax.tools.Diagnostic;
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.ToolProvider;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+
+import org.eclipse.yasson.GenerateBindingModel;
+import org.eclipse.yasson.spi.GeneratedBindingModel;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Compiles the sample classes by the annotation processor of the yasson-apt module and tests the generated models.
+ */
+public class BindingModelProcessorTest {
+
+    private static final Path PROCESSOR_SOURCE = Path.of("yasson-apt/src/main/java/org/eclipse/yasson/apt/BindingModelProcessor.java");
+
+    private static final Map<String, String> SAMPLES = Map.of(
+            "sample/Box.java",
+            "package sample;\n"
+                    + "@org.eclipse.yasson.GenerateBindingModel\n"
+                    + "public class Box<T extends Number> {\n"
+                    + "    public String label;\n"
+                    + "    private T value;\n"
+                    + "    public T getValue() { return value; }\n"
+                    + "    public void setValue(T value) { this.value = value; }\n"
+                    + "}\n",
+            "sample/Outer.java",
+            "package sample;\n"
+                    + "public class Outer {\n"
+                    + "    @org.eclipse.yasson.GenerateBindingModel\n"
+                    + "    public static class Inner {\n"
+                    + "        private Level level;\n"
+                    + "        private Hidden hidden;\n"
+                    + "        public Level getLevel() { return level; }\n"
+                    + "        public void setLevel(Level level) { this.level = level; }\n"
+                    + "        public void setHidden(Hidden hidden) { this.hidden = hidden; }\n"
+                    + "    }\n"
+                    + "    @org.eclipse.yasson.GenerateBindingModel\n"
+                    + "    public static class Visible {\n"
+                    + "        private Level level;\n"
+                    + "        public Level getLevel() { return level; }\n"
+                    + "        public void setLevel(Level level) { this.level = level; }\n"
+                    + "    }\n"
+                    + "    public enum Level { LOW, HIGH }\n"
+                    + "    private static class Hidden { }\n"
+                    + "}\n",
+            "sample/Overloaded.java",
+            "package sample;\n"
+                    + "@org.eclipse.yasson.GenerateBindingModel\n"
+                    + "public class Overloaded {\n"
+                    + "    private String text;\n"
+                    + "    public String getText() { return text; }\n"
+                    + "    public void setText(String text) { this.text = text; }\n"
+                    + "    public void setText(int text) { this.text = String.valueOf(text); }\n"
+                    + "}\n",
+            "sample/Primitives.java",
+            "package sample;\n"
+                    + "@org.eclipse.yasson.GenerateBindingModel\n"
+                    + "public class Primitives {\n"
+                    + "    public int count;\n"
+                    + "    public long total;\n"
+                    + "    public double ratio;\n"
+                    + "    private boolean active;\n"
+                    + "    public char letter;\n"
+                    + "    public boolean isActive() { return active; }\n"
+                    + "    public void setActive(boolean active) { this.active = active; }\n"
+                    + "}\n");
+
+    private static URLClassLoader samples;
+
+    @BeforeAll
+    public static void compileSamples(@TempDir Path directory) throws Exception {
+        JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        Path processorClasses = Files.createDirectories(directory.resolve("processor"));
+        compile(compiler, List.of(PROCESSOR_SOURCE), List.of(), processorClasses, List.of());
+        Path sources = directory.resolve("sources");
+        List<Path> sourceFiles = new ArrayList<>();
+        for (Map.Entry<String, String> sample : SAMPLES.entrySet()) {
+            Path file = sources.resolve(sample.getKey());
+            Files.createDirectories(file.getParent());
+            sourceFiles.add(Files.writeString(file, sample.getValue()));
+        }
+        Path sampleClasses = Files.createDirectories(directory.resolve("samples"));
+        Path yassonClasses = Path.of(GenerateBindingModel.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        try (URLClassLoader processorLoader = new URLClassLoader(new URL[] {processorClasses.toUri().toURL()},
+                                                                 Processor.class.getClassLoader())) {
+            Processor processor = (Processor) processorLoader.loadClass("org.eclipse.yasson.apt.BindingModelProcessor")
+                    .getConstructor()
+                    .newInstance();
+            compile(compiler, sourceFiles, List.of(yassonClasses), sampleClasses, List.of(processor));
+        }
+        samples = new URLClassLoader(new URL[] {sampleClasses.toUri().toURL()}, BindingModelProcessorTest.class.getClassLoader());
+    }
+
+    @Test
+    public void testGenericClass() throws Exception {
+        GeneratedBindingModel model = model("sample.Box_BindingModel");
+        assertArrayEquals(new String[] {"label", "value", "getValue()", "setValue()"}, model.getDeclaredMembers());
+        assertArrayEquals(new Class<?>[] {null, null, null, Number.class}, model.getDeclaredMemberTypes());
+        assertEquals("{\"label\":\"box\",\"value\":2}", roundTrip("sample.Box", "{\"label\":\"box\",\"value\":2}"));
+    }
+
+    @Test
+    public void testNestedClasses() throws Exception {
+        GeneratedBindingModel visible = model("sample.Outer_Visible_BindingModel");
+        assertArrayEquals(new String[] {"level", "getLevel()", "setLevel()"}, visible.getDeclaredMembers());
+        assertEquals(samples.loadClass("sample.Outer$Level"), visible.getDeclaredMemberTypes()[2]);
+        assertEquals("{\"level\":\"HIGH\"}", roundTrip("sample.Outer$Visible", "{\"level\":\"HIGH\"}"));
+        //setter of the private class cannot be referenced by the generated model, members are discovered by the reflection
+        GeneratedBindingModel inner = model("sample.Outer_Inner_BindingModel");
+        assertNull(inner.getDeclaredMembers());
+        assertEquals("{\"level\":\"LOW\"}", roundTrip("sample.Outer$Inner", "{\"level\":\"LOW\"}"));
+    }
+
+    @Test
+    public void testOverloadedSetters() throws Exception {
+        GeneratedBindingModel model = model("sample.Overloaded_BindingModel");
+        assertNull(model.getDeclaredMembers());
+        assertArrayEquals(new String[] {"getText()"}, model.getReadMembers());
+        assertArrayEquals(new String[] {}, model.getWriteMembers());
+        assertEquals("{\"text\":\"overloaded\"}", roundTrip("sample.Overloaded", "{\"text\":\"overloaded\"}"));
+    }
+
+    @Test
+    public void testPrimitives() throws Exception {
+        GeneratedBindingModel model = model("sample.Primitives_BindingModel");
+        assertArrayEquals(new String[] {"count", "total", "ratio", "active", "letter", "isActive()", "setActive()"},
+                          model.getDeclaredMembers());
+        assertArrayEquals(new Class<?>[] {null, null, null, null, null, null, boolean.class}, model.getDeclaredMemberTypes());
+        List<String> primitiveMethods = Stream.of(model.getClass().getDeclaredMethods())
+                .map(Method::getName)
+                .filter(name -> name.matches("(get|set)(Int|Long|Double|Boolean)"))
+                .sorted()
+                .collect(Collectors.toList());
+        assertEquals(List.of("getBoolean", "getDouble", "getInt", "getLong", "setBoolean", "setDouble", "setInt", "setLong"),
+                     primitiveMethods);
+        String json = "{\"active\":true,\"count\":1,\"letter\":\"x\",\"ratio\":0.5,\"total\":2}";
+        assertEquals(json, roundTrip("sample.Primitives", json));
+    }
+
+    private static GeneratedBindingModel model(String name) throws ReflectiveOperationException {
+        return (GeneratedBindingModel) samples.loadClass(name).getConstructor().newInstance();
+    }
+
+    /**
+     * Deserializes and serializes the sample with the generated models visible to the context class loader.
+     */
+    private static String roundTrip(String className, String json) throws Exception {
+        Thread thread = Thread.currentThread();
+        ClassLoader contextClassLoader = thread.getContextClassLoader();
+        thread.setContextClassLoader(samples);
+        try (Jsonb jsonb = JsonbBuilder.create()) {
+            Class<?> sampleClass = samples.loadClass(className);
+            assertTrue(MappingContext.loadGeneratedModels().containsKey(sampleClass));
+            return jsonb.toJson(jsonb.fromJson(json, sampleClass));
+        } finally {
+            thread.setContextClassLoader(contextClassLoader);
+        }
+    }
+
+    private static void compile(JavaCompiler compiler, List<Path> sources, List<Path> classPath, Path output,
+                                List<Processor> processors) {
+        DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+        try (StandardJavaFileManager fileManager = compiler.getStandardFileManager(diagnostics, null, null)) {
+            List<String> options = new ArrayList<>(List.of("-d", output.toString(), "--release", "11"));
+            if (!classPath.isEmpty()) {
+                options.add("-classpath");
+                options.add(classPath.stream().map(Path::toString).collect(Collectors.joining(File.pathSeparator)));
+            }
+            JavaCompiler.CompilationTask task = compiler.getTask(null, fileManager, diagnostics, options, null,
+                                                                 fileManager.getJavaFileObjectsFromPaths(sources));
+            task.setProcessors(processors);
+            boolean compiled = task.call();
+            assertTrue(compiled, () -> diagnostics.getDiagnostics().stream()
+                    .filter(diagnostic -> diagnostic.getKind() == Diagnostic.Kind.ERROR)
+                    .map(Object::toString)
+                    .collect(Collectors.joining("\n")));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the pooling of the output buffers.
+ */
+public class BufferPoolTest {
+
+    @Test
+    public void testBytes() {
+        BufferPool pool = new BufferPool(1);
+        byte[] first = pool.takeBytes();
+        assertEquals(BufferPool.BYTE_BUFFER_SIZE, first.length);
+        assertNotSame(first, pool.takeBytes());
+        pool.releaseBytes(first);
+        pool.releaseBytes(new byte[BufferPool.BYTE_BUFFER_SIZE]);
+        assertSame(first, pool.takeBytes());
+    }
+
+    @Test
+    public void testChars() {
+        BufferPool pool = new BufferPool(1);
+        char[] chars = pool.takeChars(100);
+        assertEquals(100, chars.length);
+        pool.releaseChars(chars);
+        assertSame(chars, pool.takeChars(50));
+        pool.releaseChars(chars);
+        char[] larger = pool.takeChars(200);
+        assertEquals(200, larger.length);
+        pool.releaseChars(larger);
+        assertSame(larger, pool.takeChars(100));
+        pool.releaseChars(new char[BufferPool.MAX_POOLED_CHARS + 1]);
+        assertEquals(10, pool.takeChars(10).length);
+    }
+
+}
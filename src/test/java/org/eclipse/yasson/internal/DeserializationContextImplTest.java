@@ -0,0 +1,105 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.eclipse.yasson.internal.model.customization.ClassCustomization;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the reusable child deserialization contexts.
+ */
+public class DeserializationContextImplTest {
+
+    @Test
+    public void testChildContextIsReset() {
+        DeserializationContextImpl context = newContext();
+        context.setLastValueEvent(JsonParser.Event.START_ARRAY);
+        DeserializationContextImpl child = context.childContext();
+        assertEquals(JsonParser.Event.START_ARRAY, child.getLastValueEvent());
+
+        List<String> runs = new ArrayList<>();
+        child.setInstance("instance");
+        child.setLastValueEvent(JsonParser.Event.VALUE_STRING);
+        child.addDeferredDeserializer(() -> runs.add("stale"));
+
+        context.setLastValueEvent(JsonParser.Event.START_OBJECT);
+        assertSame(child, context.childContext());
+        assertNull(child.getInstance());
+        assertSame(ClassCustomization.empty(), child.getCustomization());
+        assertEquals(JsonParser.Event.START_OBJECT, child.getLastValueEvent());
+        child.runDeferredDeserializers();
+        assertEquals(List.of(), runs);
+    }
+
+    @Test
+    public void testDeferredDeserializers() {
+        DeserializationContextImpl context = newContext();
+        List<String> runs = new ArrayList<>();
+        context.runDeferredDeserializers();
+        context.addDeferredDeserializer(() -> runs.add("first"));
+        context.addDeferredDeserializer(() -> runs.add("second"));
+        context.runDeferredDeserializers();
+        context.runDeferredDeserializers();
+        assertEquals(List.of("first", "second"), runs);
+    }
+
+    @Test
+    public void testNestedElementsUseSeparateFrames() {
+        List<Map<String, List<Item>>> result = defaultJsonb.fromJson(
+                "[{\"a\":[{\"name\":\"a1\",\"value\":1,\"extra\":\"x\"},{\"name\":\"a2\",\"value\":2}]},"
+                        + "{\"b\":[{\"value\":3,\"name\":\"b1\",\"extra\":\"y\"}],\"c\":[]}]",
+                new TestTypeToken<List<Map<String, List<Item>>>>() { }.getType());
+        assertEquals(2, result.size());
+        assertEquals("a1", result.get(0).get("a").get(0).name);
+        assertEquals("x", result.get(0).get("a").get(0).extra);
+        assertEquals("a2", result.get(0).get("a").get(1).name);
+        assertNull(result.get(0).get("a").get(1).extra);
+        assertEquals(2, result.get(0).get("a").get(1).value);
+        assertEquals("b1", result.get(1).get("b").get(0).name);
+        assertEquals("y", result.get(1).get("b").get(0).extra);
+        assertEquals(List.of(), result.get(1).get("c"));
+    }
+
+    private static DeserializationContextImpl newContext() {
+        return new DeserializationContextImpl(new JsonbContext(new JsonbConfig(), JsonProvider.provider()));
+    }
+
+    public static class Item {
+        private final String name;
+        private final int value;
+        public String extra;
+
+        @JsonbCreator
+        public Item(@JsonbProperty("name") String name, @JsonbProperty("value") int value) {
+            this.name = name;
+            this.value = value;
+        }
+    }
+
+}
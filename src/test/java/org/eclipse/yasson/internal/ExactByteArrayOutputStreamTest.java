@@ -0,0 +1,60 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the collection of the bytes to the array of the exact size.
+ */
+public class ExactByteArrayOutputStreamTest {
+
+    @Test
+    public void testExpectedSize() {
+        ExactByteArrayOutputStream stream = new ExactByteArrayOutputStream(4);
+        stream.write(new byte[] {1, 2, 3}, 0, 3);
+        stream.write(4);
+        byte[] bytes = stream.toByteArray();
+        assertArrayEquals(new byte[] {1, 2, 3, 4}, bytes);
+        assertSame(bytes, stream.toByteArray());
+    }
+
+    @Test
+    public void testSmallerSize() {
+        ExactByteArrayOutputStream stream = new ExactByteArrayOutputStream(10);
+        stream.write(new byte[] {1, 2, 3}, 1, 2);
+        assertArrayEquals(new byte[] {2, 3}, stream.toByteArray());
+    }
+
+    @Test
+    public void testLargerSize() {
+        byte[] expected = new byte[100_000];
+        for (int i = 0; i < expected.length; i++) {
+            expected[i] = (byte) i;
+        }
+        ExactByteArrayOutputStream stream = new ExactByteArrayOutputStream(10);
+        stream.write(expected[0]);
+        stream.write(expected, 1, 20_000);
+        stream.write(expected, 20_001, expected.length - 20_001);
+        assertEquals(expected.length, stream.size());
+        assertArrayEquals(expected, stream.toByteArray());
+        assertArrayEquals(Arrays.copyOf(expected, 0), new ExactByteArrayOutputStream(0).toByteArray());
+    }
+
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.spi.JsonProvider;
+
+import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.internal.model.PropertyModel;
+import org.eclipse.yasson.spi.GeneratedBindingModel;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Tests the binding of the binding models generated at build time.
+ */
+public class GeneratedBindingModelTest {
+
+    @Test
+    public void testGeneratedModelIsUsed() {
+        List<String> accesses = new ArrayList<>();
+        ClassModel classModel = newMappingContext(new PersonModel(accesses)).getOrCreateClassModel(Person.class);
+        Person person = new Person();
+        classModel.getPropertyModel("name").setValue(person, "Anna");
+        classModel.getPropertyModel("age").setIntValue(person, 30);
+        assertEquals("Anna", classModel.getPropertyModel("name").getValue(person));
+        assertEquals(30, classModel.getPropertyModel("age").getIntValue(person));
+        assertEquals(List.of("set name", "set age", "get name()", "get age"), accesses);
+    }
+
+    @Test
+    public void testMissingMembersUseReflection() {
+        List<String> accesses = new ArrayList<>();
+        ClassModel classModel = newMappingContext(new PersonModel(accesses)).getOrCreateClassModel(Person.class);
+        Person person = new Person();
+        classModel.getPropertyModel("nickname").setValue(person, "Ann");
+        assertEquals("Ann", classModel.getPropertyModel("nickname").getValue(person));
+        assertEquals(List.of(), accesses);
+    }
+
+    @Test
+    public void testBoxedAccessOfPrimitiveMember() {
+        List<String> accesses = new ArrayList<>();
+        ClassModel classModel = newMappingContext(new PersonModel(accesses)).getOrCreateClassModel(Person.class);
+        Person person = new Person();
+        person.age = 30;
+        assertEquals(30, classModel.getPropertyModel("age").getValue(person));
+        assertEquals(List.of("get age"), accesses);
+    }
+
+    @Test
+    public void testValueHandlesAreNotCreatedForGeneratedMembers() throws Exception {
+        List<String> accesses = new ArrayList<>();
+        ClassModel classModel = newMappingContext(new PersonModel(accesses)).getOrCreateClassModel(Person.class);
+        Person person = new Person();
+        classModel.getPropertyModel("name").setValue(person, "Anna");
+        classModel.getPropertyModel("name").getValue(person);
+        classModel.getPropertyModel("nickname").getValue(person);
+        assertNull(valueHandle(classModel.getPropertyModel("name"), "getValueHandle"));
+        assertNull(valueHandle(classModel.getPropertyModel("name"), "setValueHandle"));
+        assertNotNull(valueHandle(classModel.getPropertyModel("nickname"), "getValueHandle"));
+        assertNull(valueHandle(classModel.getPropertyModel("nickname"), "setValueHandle"));
+    }
+
+    @Test
+    public void testDeclaredMembersAreNotDiscovered() {
+        //nickname is not listed, so it is not a property, although the class declares it
+        PersonModel model = new PersonModel(new ArrayList<>(),
+                                            new String[] {"age", "name", "getName()", "setName()"},
+                                            new Class<?>[] {null, null, null, String.class});
+        ClassModel classModel = newMappingContext(model).getOrCreateClassModel(Person.class);
+        assertNotNull(classModel.getPropertyModel("age"));
+        assertNotNull(classModel.getPropertyModel("name").getGetter());
+        assertNotNull(classModel.getPropertyModel("name").getSetter());
+        assertNull(classModel.getPropertyModel("nickname"));
+    }
+
+    @Test
+    public void testStaleDeclaredMembersAreDiscovered() {
+        PersonModel model = new PersonModel(new ArrayList<>(),
+                                            new String[] {"age", "removed"},
+                                            new Class<?>[] {null, null});
+        ClassModel classModel = newMappingContext(model).getOrCreateClassModel(Person.class);
+        assertNotNull(classModel.getPropertyModel("nickname"));
+        assertNotNull(classModel.getPropertyModel("name").getSetter());
+    }
+
+    @Test
+    public void testGeneratedModelsAreLoadedOncePerClassLoader() {
+        assertSame(MappingContext.loadGeneratedModels(), MappingContext.loadGeneratedModels());
+    }
+
+    private static Object valueHandle(PropertyModel propertyModel, String name) throws ReflectiveOperationException {
+        Field field = PropertyModel.class.getDeclaredField(name);
+        field.setAccessible(true);
+        return field.get(propertyModel);
+    }
+
+    private static MappingContext newMappingContext(GeneratedBindingModel model) {
+        JsonbContext jsonbContext = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+        return new MappingContext(jsonbContext, Map.of(model.getType(), model));
+    }
+
+    public static class Person {
+        public int age;
+        public String nickname;
+        private String name;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+    }
+
+    private static final class PersonModel implements GeneratedBindingModel {
+
+        private final List<String> accesses;
+        private final String[] declaredMembers;
+        private final Class<?>[] declaredMemberTypes;
+
+        private PersonModel(List<String> accesses) {
+            this(accesses, null, null);
+        }
+
+        private PersonModel(List<String> accesses, String[] declaredMembers, Class<?>[] declaredMemberTypes) {
+            this.accesses = accesses;
+            this.declaredMembers = declaredMembers;
+            this.declaredMemberTypes = declaredMemberTypes;
+        }
+
+        @Override
+        public String[] getDeclaredMembers() {
+            return declaredMembers;
+        }
+
+        @Override
+        public Class<?>[] getDeclaredMemberTypes() {
+            return declaredMemberTypes;
+        }
+
+        @Override
+        public Class<?> getType() {
+            return Person.class;
+        }
+
+        @Override
+        public String[] getReadMembers() {
+            return new String[] {"age", "getName()"};
+        }
+
+        @Override
+        public String[] getWriteMembers() {
+            return new String[] {"setName()", "age"};
+        }
+
+        @Override
+        public Object getValue(Object instance, int index) {
+            if (index == 0) {
+                return getInt(instance, index);
+            }
+            accesses.add("get name()");
+            return ((Person) instance).getName();
+        }
+
+        @Override
+        public void setValue(Object instance, int index, Object value) {
+            if (index == 1) {
+                setInt(instance, index, (Integer) value);
+                return;
+            }
+            accesses.add("set name");
+            ((Person) instance).setName((String) value);
+        }
+
+        @Override
+        public int getInt(Object instance, int index) {
+            accesses.add("get age");
+            return ((Person) instance).age;
+        }
+
+        @Override
+        public void setInt(Object instance, int index, int value) {
+            accesses.add("set age");
+            ((Person) instance).age = value;
+        }
+    }
+
+}
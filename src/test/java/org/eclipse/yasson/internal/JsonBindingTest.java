@@ -14,14 +14,26 @@ package org.eclipse.yasson.internal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 import java.lang.reflect.Field;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 
 import jakarta.json.bind.Jsonb;
 import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbProperty;
 
 import org.eclipse.yasson.YassonConfig;
 import org.eclipse.yasson.internal.model.ClassModel;
+import org.eclipse.yasson.spi.EagerParsingListener;
 import org.junit.jupiter.api.Test;
 
 public class JsonBindingTest {
@@ -29,6 +41,17 @@ public class JsonBindingTest {
     public static class EagerParseClass {
         public String foo;
     }
+
+    public static class IndexedClass {
+        public int bar;
+    }
+
+    public static class ClashingClass {
+        @JsonbProperty("same")
+        public String first;
+        @JsonbProperty("same")
+        public String second;
+    }
     
     @Test
     public void testEagerInit() throws Exception {
@@ -53,6 +76,65 @@ public class JsonBindingTest {
         assertNotNull(getClassModel(jsonb, EagerParseClass.class));
     }
     
+    @Test
+    public void testParallelEagerInit() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            RecordingListener listener = new RecordingListener();
+            Jsonb jsonb = JsonbBuilder.create(new YassonConfig()
+                    .withEagerParsing(EagerParseClass.class)
+                    .withEagerParsingPackages("org.eclipse.yasson.internal")
+                    .withEagerParsingExecutor(executor)
+                    .withEagerParsingListener(listener));
+            assertNotNull(getClassModel(jsonb, EagerParseClass.class));
+            assertNotNull(getClassModel(jsonb, IndexedClass.class));
+            assertEquals(Set.of(EagerParseClass.class, IndexedClass.class), listener.parsed);
+            assertEquals(List.of(2, 0), List.of(listener.total, listener.failed));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void testEagerInitPackages() throws Exception {
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig()
+                .withEagerParsingPackages("org.eclipse.yasson.internal."));
+        assertNotNull(getClassModel(jsonb, IndexedClass.class));
+        assertNull(getClassModel(jsonb, EagerParseClass.class));
+
+        jsonb = JsonbBuilder.create(new YassonConfig()
+                .withEagerParsingPackages("org.eclipse.yasson.intern"));
+        assertNull(getClassModel(jsonb, IndexedClass.class));
+    }
+
+    @Test
+    public void testAsyncEagerInit() throws Exception {
+        RecordingListener listener = new RecordingListener();
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig()
+                .withEagerParsing(EagerParseClass.class, ClashingClass.class)
+                .withAsyncEagerParsing(true)
+                .withEagerParsingListener(listener));
+        assertTrue(listener.finished.await(10, TimeUnit.SECONDS));
+        assertNotNull(getClassModel(jsonb, EagerParseClass.class));
+        assertEquals(Set.of(EagerParseClass.class), listener.parsed);
+        assertEquals(List.of(2, 1), List.of(listener.total, listener.failed));
+    }
+
+    @Test
+    public void testParallelEagerInitFailure() {
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            RecordingListener listener = new RecordingListener();
+            assertThrows(JsonbException.class, () -> JsonbBuilder.create(new YassonConfig()
+                    .withEagerParsing(ClashingClass.class)
+                    .withEagerParsingExecutor(executor)
+                    .withEagerParsingListener(listener)));
+            assertEquals(Set.of(ClashingClass.class), listener.failedClasses);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
     private ClassModel getClassModel(Jsonb jsonb, Class<?> clazz) throws Exception {
         // Do some hacks to ensure that the class had a ClassModel registered
         JsonBinding yasson = (JsonBinding) jsonb;
@@ -62,4 +144,29 @@ public class JsonBindingTest {
         return ctx.getMappingContext().getClassModel(clazz);
     }
 
+    private static final class RecordingListener implements EagerParsingListener {
+        private final Set<Class<?>> parsed = ConcurrentHashMap.newKeySet();
+        private final Set<Class<?>> failedClasses = ConcurrentHashMap.newKeySet();
+        private final CountDownLatch finished = new CountDownLatch(1);
+        private volatile int total;
+        private volatile int failed;
+
+        @Override
+        public void classParsed(Class<?> type, long nanos, int completed, int total) {
+            parsed.add(type);
+        }
+
+        @Override
+        public void classFailed(Class<?> type, Throwable error, int completed, int total) {
+            failedClasses.add(type);
+        }
+
+        @Override
+        public void parsingFinished(int total, int failed, long nanos) {
+            this.total = total;
+            this.failed = failed;
+            finished.countDown();
+        }
+    }
+
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Tests reading of the files through the memory mapped windows.
+ */
+public class MappedFileInputStreamTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void testWindows() throws Exception {
+        byte[] content = "0123456789abcdefghijklmnopqrstuvwxyz".repeat(10).getBytes(StandardCharsets.UTF_8);
+        Path file = Files.write(directory.resolve("content.txt"), content);
+        for (int windowSize : new int[] {1, 7, 64, 1024}) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (InputStream in = new MappedFileInputStream(file, windowSize)) {
+                out.write(in.read());
+                byte[] chunk = new byte[5];
+                int read;
+                while ((read = in.read(chunk, 0, chunk.length)) != -1) {
+                    out.write(chunk, 0, read);
+                }
+                assertEquals(-1, in.read());
+            }
+            assertArrayEquals(content, out.toByteArray(), "Window size " + windowSize);
+        }
+    }
+
+    @Test
+    public void testEmptyFile() throws Exception {
+        Path file = Files.createFile(directory.resolve("empty.txt"));
+        try (InputStream in = new MappedFileInputStream(file, 16)) {
+            assertEquals(-1, in.read());
+            assertEquals(-1, in.read(new byte[4], 0, 4));
+        }
+    }
+
+    @Test
+    public void testArrayElementIterator() throws Exception {
+        Path file = Files.writeString(directory.resolve("array.json"), "[{\"value\":1},null,{\"value\":3}]");
+        JsonbContext context = new JsonbContext(new JsonbConfig(), JsonProvider.provider());
+        JsonParser parser = context.getJsonParserFactory().createParser(new MappedFileInputStream(file, 4), StandardCharsets.UTF_8);
+        ArrayElementIterator<Element> iterator = new ArrayElementIterator<>(context, parser, Element.class);
+        assertEquals(1, iterator.next().value);
+        assertEquals(null, iterator.next());
+        assertEquals(3, iterator.next().value);
+        assertEquals(false, iterator.hasNext());
+    }
+
+    public static class Element {
+        public int value;
+    }
+
+}
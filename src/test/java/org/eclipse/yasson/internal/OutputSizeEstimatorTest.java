@@ -0,0 +1,49 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the output size estimates.
+ */
+public class OutputSizeEstimatorTest {
+
+    @Test
+    public void testSizeEstimate() {
+        OutputSizeEstimator estimator = new OutputSizeEstimator();
+        assertEquals(OutputSizeEstimator.INITIAL_SIZE_ESTIMATE, estimator.estimateSize(String.class));
+        estimator.recordSize(String.class, 10_000);
+        int grown = estimator.estimateSize(String.class);
+        assertTrue(grown > 5000, "Estimate " + grown);
+        for (int i = 0; i < 5; i++) {
+            estimator.recordSize(String.class, 10_000);
+        }
+        assertTrue(estimator.estimateSize(String.class) > 9000);
+        estimator.recordSize(String.class, 10);
+        int shrunk = estimator.estimateSize(String.class);
+        assertTrue(shrunk < 9900 && shrunk > 8000, "Estimate " + shrunk);
+        for (int i = 0; i < 100; i++) {
+            estimator.recordSize(String.class, 10);
+        }
+        assertEquals(OutputSizeEstimator.INITIAL_SIZE_ESTIMATE, estimator.estimateSize(String.class));
+        estimator.recordSize(Integer.class, Integer.MAX_VALUE);
+        estimator.recordSize(Integer.class, Integer.MAX_VALUE);
+        assertEquals(OutputSizeEstimator.MAX_SIZE_ESTIMATE, estimator.estimateSize(Integer.class));
+        assertEquals(OutputSizeEstimator.INITIAL_SIZE_ESTIMATE, estimator.estimateSize(Long.class));
+    }
+
+}
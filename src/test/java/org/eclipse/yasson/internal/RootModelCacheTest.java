@@ -0,0 +1,95 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.yasson.TestTypeToken;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the cache of the root models.
+ */
+public class RootModelCacheTest {
+
+    @Test
+    public void testClassRootCreatedOnce() {
+        AtomicInteger created = new AtomicInteger();
+        RootModelCache<Object> cache = new RootModelCache<>(type -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        Object model = cache.get(String.class);
+        assertSame(model, cache.get(String.class));
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void testTypeRootCachedByIdentity() {
+        AtomicInteger created = new AtomicInteger();
+        RootModelCache<Object> cache = new RootModelCache<>(type -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        Type type = new TestTypeToken<List<String>>() { }.getType();
+        Object model = cache.get(type);
+        assertSame(model, cache.get(type));
+        assertEquals(1, created.get());
+        //Equal type instance resolves to the already stored model
+        Type equalType = new TestTypeToken<List<String>>() { }.getType();
+        assertSame(model, cache.get(equalType));
+    }
+
+    @Test
+    public void testTypeRootsAreBounded() {
+        AtomicInteger created = new AtomicInteger();
+        RootModelCache<Object> cache = new RootModelCache<>(type -> {
+            created.incrementAndGet();
+            return new Object();
+        });
+        List<Type> types = new ArrayList<>();
+        for (int i = 0; i < RootModelCache.MAX_TYPE_ROOTS + 10; i++) {
+            //every instance is a different type compared by identity
+            Type type = new Type() { };
+            types.add(type);
+            cache.get(type);
+        }
+        assertEquals(RootModelCache.MAX_TYPE_ROOTS + 10, created.get());
+        cache.get(types.get(0));
+        assertEquals(RootModelCache.MAX_TYPE_ROOTS + 10, created.get());
+        cache.get(types.get(types.size() - 1));
+        assertEquals(RootModelCache.MAX_TYPE_ROOTS + 11, created.get());
+    }
+
+    @Test
+    public void testFailedCreationIsNotCached() {
+        AtomicInteger created = new AtomicInteger();
+        RootModelCache<Object> cache = new RootModelCache<>(type -> {
+            if (created.incrementAndGet() == 1) {
+                throw new IllegalStateException("first creation fails");
+            }
+            return new Object();
+        });
+        assertThrows(IllegalStateException.class, () -> cache.get(Integer.class));
+        cache.get(Integer.class);
+        assertEquals(2, created.get());
+    }
+
+}
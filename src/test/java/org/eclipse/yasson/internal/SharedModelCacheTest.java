@@ -0,0 +1,159 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.adapter.JsonbAdapter;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+import jakarta.json.spi.JsonProvider;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the models shared by the Jsonb instances with the equivalent configuration.
+ */
+public class SharedModelCacheTest {
+
+    @Test
+    public void testEquivalentConfigSharesModels() throws Exception {
+        JsonbContext first = newContext(new YassonConfig().withSharedModelCache(true).withFormatting(true));
+        JsonbContext second = newContext(new YassonConfig().withSharedModelCache(true).withEncoding("UTF-16"));
+        try {
+            assertSame(first.getMappingContext(), second.getMappingContext());
+            assertSame(first.getSerializationModelCreator(), second.getSerializationModelCreator());
+            assertSame(first.getChainModelCreator(), second.getChainModelCreator());
+            assertSame(first.getComponentInstanceCreator(), second.getComponentInstanceCreator());
+            assertNotSame(first.getJsonGeneratorFactory(), second.getJsonGeneratorFactory());
+        } finally {
+            first.close();
+            second.close();
+        }
+    }
+
+    @Test
+    public void testDifferentConfigDoesNotShareModels() throws Exception {
+        JsonbContext first = newContext(new YassonConfig().withSharedModelCache(true));
+        JsonbContext second = newContext(new YassonConfig().withSharedModelCache(true)
+                                                 .withPropertyNamingStrategy(PropertyNamingStrategy.UPPER_CAMEL_CASE));
+        JsonbContext unshared = newContext(new YassonConfig());
+        try {
+            assertNotSame(first.getMappingContext(), second.getMappingContext());
+            assertNotSame(first.getMappingContext(), unshared.getMappingContext());
+        } finally {
+            first.close();
+            second.close();
+            unshared.close();
+        }
+    }
+
+    @Test
+    public void testComponentsAreComparedByIdentity() throws Exception {
+        UpperCaseAdapter adapter = new UpperCaseAdapter();
+        JsonbContext first = newContext(new YassonConfig().withSharedModelCache(true).withAdapters(adapter));
+        JsonbContext second = newContext(new YassonConfig().withSharedModelCache(true).withAdapters(adapter));
+        JsonbContext third = newContext(new YassonConfig().withSharedModelCache(true).withAdapters(new UpperCaseAdapter()));
+        try {
+            assertSame(first.getMappingContext(), second.getMappingContext());
+            assertNotSame(first.getMappingContext(), third.getMappingContext());
+        } finally {
+            first.close();
+            second.close();
+            third.close();
+        }
+    }
+
+    @Test
+    public void testModelsAreReleasedWhenUnused() throws Exception {
+        JsonbContext first = newContext(new YassonConfig().withSharedModelCache(true).withStrictIJSON(true));
+        JsonbContext second = newContext(new YassonConfig().withSharedModelCache(true).withStrictIJSON(true));
+        MappingContext shared = first.getMappingContext();
+        first.close();
+        first.close();
+        JsonbContext third = newContext(new YassonConfig().withSharedModelCache(true).withStrictIJSON(true));
+        assertSame(shared, third.getMappingContext());
+        second.close();
+        third.close();
+
+        JsonbContext fourth = newContext(new YassonConfig().withSharedModelCache(true).withStrictIJSON(true));
+        assertNotSame(shared, fourth.getMappingContext());
+        fourth.close();
+    }
+
+    @Test
+    public void testModelsAreReleasedWhenUnreachable() throws Exception {
+        JsonbConfig config = new YassonConfig().withSharedModelCache(true).withAdapters(new UpperCaseAdapter());
+        List<Object> fingerprint = SharedModelCache.fingerprint(config, JsonProvider.provider());
+        newContext(config);
+        assertTrue(SharedModelCache.isCached(fingerprint));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (SharedModelCache.isCached(fingerprint) && System.nanoTime() < deadline) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertFalse(SharedModelCache.isCached(fingerprint));
+    }
+
+    @Test
+    public void testClosedModelsAreNotCached() throws Exception {
+        JsonbConfig config = new YassonConfig().withSharedModelCache(true).withAdapters(new UpperCaseAdapter());
+        List<Object> fingerprint = SharedModelCache.fingerprint(config, JsonProvider.provider());
+        JsonbContext context = newContext(config);
+        assertTrue(SharedModelCache.isCached(fingerprint));
+        context.close();
+        assertFalse(SharedModelCache.isCached(fingerprint));
+    }
+
+    @Test
+    public void testSharedModelsRoundTrip() throws Exception {
+        Item item = new Item();
+        item.name = "shared";
+        try (Jsonb first = JsonbBuilder.create(new YassonConfig().withSharedModelCache(true));
+                Jsonb second = JsonbBuilder.create(new YassonConfig().withSharedModelCache(true).withFormatting(true))) {
+            assertEquals("{\"name\":\"shared\"}", first.toJson(item));
+            assertEquals("shared", second.fromJson(second.toJson(item), Item.class).name);
+        }
+    }
+
+    private static JsonbContext newContext(JsonbConfig config) {
+        return new JsonbContext(config, JsonProvider.provider());
+    }
+
+    public static class Item {
+        public String name;
+    }
+
+    public static class UpperCaseAdapter implements JsonbAdapter<String, String> {
+        @Override
+        public String adaptToJson(String obj) {
+            return obj.toUpperCase();
+        }
+
+        @Override
+        public String adaptFromJson(String obj) {
+            return obj;
+        }
+    }
+
+}
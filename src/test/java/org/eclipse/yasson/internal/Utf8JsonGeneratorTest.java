@@ -0,0 +1,275 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal;
+
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import jakarta.json.Json;
+import jakarta.json.JsonArrayBuilder;
+import jakarta.json.JsonBuilderFactory;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.JsonReader;
+import jakarta.json.JsonReaderFactory;
+import jakarta.json.JsonWriter;
+import jakarta.json.JsonWriterFactory;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonGenerationException;
+import jakarta.json.stream.JsonGenerator;
+import jakarta.json.stream.JsonGeneratorFactory;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParserFactory;
+
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests that the UTF-8 generator produces the same output as the JSON-P generator.
+ */
+public class Utf8JsonGeneratorTest {
+
+    private static final String SPECIAL = "\u0000\u001f\b\t\n\f\r\"\\/ \u007f\u0080߿ࠀ￿😀\ud800x\udc00";
+
+    @Test
+    public void testScalars() {
+        assertSameOutput(generator -> generator.writeStartArray()
+                .write(0).write(-1).write(Integer.MAX_VALUE).write(Integer.MIN_VALUE)
+                .write(Long.MAX_VALUE).write(Long.MIN_VALUE).write(1_000_000_000_000L)
+                .write(0.1).write(-0.0).write(1e300).write(new BigDecimal("1E+3")).write(new BigInteger("123456789012345678901"))
+                .write(true).write(false).writeNull().write("").write(SPECIAL)
+                .writeEnd());
+    }
+
+    @Test
+    public void testStructures() {
+        assertSameOutput(generator -> generator.writeStartObject()
+                .write(SPECIAL, SPECIAL)
+                .writeStartArray("array").writeStartObject().writeEnd().writeStartArray().writeEnd().writeEnd()
+                .writeStartObject("object").write("int", 1).write("long", 2L).write("double", 2.5).write("boolean", true)
+                .writeNull("null").write("decimal", BigDecimal.ONE).write("integer", BigInteger.TEN).writeEnd()
+                .writeKey("key").write("value")
+                .write("json", Json.createObjectBuilder().add("a", Json.createArrayBuilder().add(1.5).add("b").addNull())
+                        .add("c", false).build())
+                .writeEnd());
+    }
+
+    @Test
+    public void testLongValues() {
+        String longString = SPECIAL.repeat(2000);
+        assertSameOutput(generator -> generator.writeStartObject()
+                .write(longString, longString)
+                .write("ascii", "a".repeat(20000))
+                .write("number", new BigDecimal("1".repeat(10000)))
+                .writeEnd());
+    }
+
+    @Test
+    public void testEncodedNames() {
+        byte[] encoded = Utf8JsonGenerator.encodeName(SPECIAL);
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        Json.createGenerator(expected).writeStartObject().write(SPECIAL, 1).write(SPECIAL, 2).writeEnd().close();
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        Utf8JsonGenerator generator = new Utf8JsonGenerator(actual, new BufferPool());
+        generator.writeStartObject();
+        generator.writeKey(encoded).write(1);
+        generator.expectName(SPECIAL, encoded);
+        generator.write(SPECIAL, 2).writeEnd().close();
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    public void testInvalidUsage() {
+        assertThrows(JsonGenerationException.class, () -> newGenerator().writeStartArray().write("key", 1));
+        assertThrows(JsonGenerationException.class, () -> newGenerator().writeStartObject().write(1));
+        assertThrows(JsonGenerationException.class, () -> newGenerator().writeStartObject().writeKey("a").writeKey("b"));
+        assertThrows(JsonGenerationException.class, () -> newGenerator().write(1).write(2));
+        assertThrows(JsonGenerationException.class, () -> newGenerator().writeEnd());
+        assertThrows(JsonGenerationException.class, () -> newGenerator().writeStartObject().close());
+        assertThrows(NumberFormatException.class, () -> newGenerator().write(Double.NaN));
+    }
+
+    @Test
+    public void testStreamOutput() {
+        Names names = new Names();
+        names.nested = new Names();
+        names.nested.list = List.of();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        defaultJsonb.toJson(List.of(names, Map.of("key", names)), out);
+        String expected = "[{\"list\":[1,2],\"na\\\"me\":\"€\",\"nested\":{\"list\":[],\"na\\\"me\":\"€\"}},"
+                + "{\"key\":{\"list\":[1,2],\"na\\\"me\":\"€\",\"nested\":{\"list\":[],\"na\\\"me\":\"€\"}}}]";
+        assertEquals(expected, out.toString(StandardCharsets.UTF_8));
+        assertEquals(expected, defaultJsonb.toJson(List.of(names, Map.of("key", names))));
+    }
+
+    @Test
+    public void testExplicitProviderIsUsed() throws Exception {
+        CountingProvider provider = new CountingProvider(JsonProvider.provider());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (Jsonb jsonb = JsonbBuilder.newBuilder().withProvider(provider).build()) {
+            jsonb.toJson(new Names(), out);
+        }
+        assertEquals("{\"list\":[1,2],\"na\\\"me\":\"€\"}", out.toString(StandardCharsets.UTF_8));
+        assertEquals(1, provider.generators);
+    }
+
+    private static JsonGenerator newGenerator() {
+        return new Utf8JsonGenerator(new ByteArrayOutputStream(), new BufferPool());
+    }
+
+    private static void assertSameOutput(Consumer<JsonGenerator> generation) {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (JsonGenerator generator = Json.createGenerator(expected)) {
+            generation.accept(generator);
+        }
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (JsonGenerator generator = new Utf8JsonGenerator(actual, new BufferPool())) {
+            generation.accept(generator);
+        }
+        assertEquals(expected.toString(StandardCharsets.UTF_8), actual.toString(StandardCharsets.UTF_8));
+        assertArrayEquals(expected.toByteArray(), actual.toByteArray());
+    }
+
+    private static final class CountingProvider extends JsonProvider {
+
+        private final JsonProvider delegate;
+        private int generators;
+
+        private CountingProvider(JsonProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public JsonGeneratorFactory createGeneratorFactory(Map<String, ?> config) {
+            JsonGeneratorFactory factory = delegate.createGeneratorFactory(config);
+            return new JsonGeneratorFactory() {
+                @Override
+                public JsonGenerator createGenerator(Writer writer) {
+                    generators++;
+                    return factory.createGenerator(writer);
+                }
+
+                @Override
+                public JsonGenerator createGenerator(OutputStream out) {
+                    generators++;
+                    return factory.createGenerator(out);
+                }
+
+                @Override
+                public JsonGenerator createGenerator(OutputStream out, Charset charset) {
+                    generators++;
+                    return factory.createGenerator(out, charset);
+                }
+
+                @Override
+                public Map<String, ?> getConfigInUse() {
+                    return factory.getConfigInUse();
+                }
+            };
+        }
+
+        @Override
+        public JsonParser createParser(Reader reader) {
+            return delegate.createParser(reader);
+        }
+
+        @Override
+        public JsonParser createParser(InputStream in) {
+            return delegate.createParser(in);
+        }
+
+        @Override
+        public JsonParserFactory createParserFactory(Map<String, ?> config) {
+            return delegate.createParserFactory(config);
+        }
+
+        @Override
+        public JsonGenerator createGenerator(Writer writer) {
+            return delegate.createGenerator(writer);
+        }
+
+        @Override
+        public JsonGenerator createGenerator(OutputStream out) {
+            return delegate.createGenerator(out);
+        }
+
+        @Override
+        public JsonReader createReader(Reader reader) {
+            return delegate.createReader(reader);
+        }
+
+        @Override
+        public JsonReader createReader(InputStream in) {
+            return delegate.createReader(in);
+        }
+
+        @Override
+        public JsonWriter createWriter(Writer writer) {
+            return delegate.createWriter(writer);
+        }
+
+        @Override
+        public JsonWriter createWriter(OutputStream out) {
+            return delegate.createWriter(out);
+        }
+
+        @Override
+        public JsonWriterFactory createWriterFactory(Map<String, ?> config) {
+            return delegate.createWriterFactory(config);
+        }
+
+        @Override
+        public JsonReaderFactory createReaderFactory(Map<String, ?> config) {
+            return delegate.createReaderFactory(config);
+        }
+
+        @Override
+        public JsonObjectBuilder createObjectBuilder() {
+            return delegate.createObjectBuilder();
+        }
+
+        @Override
+        public JsonArrayBuilder createArrayBuilder() {
+            return delegate.createArrayBuilder();
+        }
+
+        @Override
+        public JsonBuilderFactory createBuilderFactory(Map<String, ?> config) {
+            return delegate.createBuilderFactory(config);
+        }
+    }
+
+    public static class Names {
+        @JsonbProperty("na\"me")
+        public String name = "€";
+        public List<Integer> list = List.of(1, 2);
+        public Names nested;
+    }
+
+}
@@ -0,0 +1,303 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+import jakarta.json.bind.annotation.JsonbProperty;
+import jakarta.json.bind.config.PropertyNamingStrategy;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the compiled object deserializer and its property matching.
+ */
+public class CompiledObjectDeserializerTest {
+
+    @Test
+    public void testMatcherWithCollidingHashes() {
+        //"Aa" and "BB" have the same hash code
+        Map<String, Integer> properties = new LinkedHashMap<>();
+        properties.put("Aa", 1);
+        properties.put("BB", 2);
+        properties.put("name", 3);
+        PropertyMatcher<Integer> matcher = new PropertyMatcher<>(properties);
+        assertEquals(1, matcher.get("Aa"));
+        assertEquals(2, matcher.get("BB"));
+        assertEquals(3, matcher.get("name"));
+        assertNull(matcher.get("C#"));
+        assertNull(matcher.get("unknown"));
+    }
+
+    @Test
+    public void testEmptyMatcher() {
+        assertNull(new PropertyMatcher<>(Map.of()).get("any"));
+        assertEquals(-1, new PropertyMatcher<>(Map.of()).indexOf("any", 0));
+    }
+
+    @Test
+    public void testMatcherExpectedOrder() {
+        Map<String, Integer> properties = new LinkedHashMap<>();
+        properties.put("Aa", 1);
+        properties.put("BB", 2);
+        properties.put("name", 3);
+        PropertyMatcher<Integer> matcher = new PropertyMatcher<>(properties);
+        //expected property matches
+        assertEquals(0, matcher.indexOf(new String("Aa"), 0));
+        assertEquals(1, matcher.indexOf("BB", 1));
+        assertEquals(2, matcher.indexOf("name", 2));
+        //wrong prediction falls back to the table lookup
+        assertEquals(1, matcher.indexOf("BB", 0));
+        assertEquals(0, matcher.indexOf("Aa", 2));
+        assertEquals(2, matcher.indexOf("name", 3));
+        assertEquals(-1, matcher.indexOf("C#", 0));
+        assertEquals(-1, matcher.indexOf("nam", 2));
+        assertEquals(3, matcher.valueAt(2));
+    }
+
+    @Test
+    public void testInOrderHitRate() {
+        Scalars scalars = new Scalars();
+        scalars.aString = "a";
+        scalars.fBoxedInt = 1;
+        scalars.Aa = "aa";
+        scalars.BB = "bb";
+        String inOrder = defaultJsonb.toJson(scalars);
+        long hits = PropertyMatcher.hits();
+        long misses = PropertyMatcher.misses();
+        for (int i = 0; i < 10; i++) {
+            defaultJsonb.fromJson(inOrder, Scalars.class);
+        }
+        //every property of the serialized order is predicted
+        assertEquals(80, PropertyMatcher.hits() - hits);
+        assertEquals(0, PropertyMatcher.misses() - misses);
+
+        CreatorScalars created = defaultJsonb.fromJson("{\"first\":\"f\",\"second\":2,\"third\":true}",
+                                                       CreatorScalars.class);
+        String createdInOrder = defaultJsonb.toJson(created);
+        hits = PropertyMatcher.hits();
+        misses = PropertyMatcher.misses();
+        defaultJsonb.fromJson(createdInOrder, CreatorScalars.class);
+        assertEquals(3, PropertyMatcher.hits() - hits);
+        assertEquals(0, PropertyMatcher.misses() - misses);
+    }
+
+    @Test
+    public void testShuffledMisses() {
+        String shuffled = "{\"dLong\":2,\"aString\":\"a\",\"cInt\":1,\"bBoolean\":true}";
+        long hits = PropertyMatcher.hits();
+        long misses = PropertyMatcher.misses();
+        defaultJsonb.fromJson(shuffled, Scalars.class);
+        //only the properties following the previous one in the model order are predicted
+        assertEquals(0, PropertyMatcher.hits() - hits);
+        assertEquals(4, PropertyMatcher.misses() - misses);
+    }
+
+    @Test
+    public void testShuffledProperties() {
+        String inOrder = "{\"aString\":\"a\",\"bBoolean\":true,\"cInt\":1,\"dLong\":2}";
+        String shuffled = "{\"dLong\":2,\"aString\":\"a\",\"unknown\":[1],\"cInt\":1,\"bBoolean\":true,\"aString\":\"b\"}";
+        Scalars first = defaultJsonb.fromJson(inOrder, Scalars.class);
+        Scalars second = defaultJsonb.fromJson(shuffled, Scalars.class);
+        assertEquals("a", first.aString);
+        assertTrue(first.bBoolean);
+        assertEquals(1, first.cInt);
+        assertEquals(2L, first.dLong);
+        assertEquals("b", second.aString);
+        assertTrue(second.bBoolean);
+        assertEquals(1, second.cInt);
+        assertEquals(2L, second.dLong);
+    }
+
+    @Test
+    public void testShuffledCreatorProperties() {
+        CreatorScalars inOrder = defaultJsonb.fromJson("{\"first\":\"f\",\"second\":2,\"third\":true}",
+                                                       CreatorScalars.class);
+        CreatorScalars shuffled = defaultJsonb.fromJson("{\"third\":true,\"unknown\":{},\"second\":2,\"first\":\"f\"}",
+                                                        CreatorScalars.class);
+        for (CreatorScalars scalars : new CreatorScalars[] {inOrder, shuffled}) {
+            assertEquals("f", scalars.first);
+            assertEquals(2, scalars.second);
+            assertTrue(scalars.third);
+        }
+    }
+
+    @Test
+    public void testScalarProperties() {
+        Scalars scalars = defaultJsonb.fromJson("{\"aString\":\"text\",\"bBoolean\":true,\"cInt\":3,\"dLong\":4,"
+                                                        + "\"eDouble\":5.5,\"fBoxedInt\":6,\"Aa\":\"first\",\"BB\":\"second\"}",
+                                                Scalars.class);
+        assertEquals("text", scalars.aString);
+        assertTrue(scalars.bBoolean);
+        assertEquals(3, scalars.cInt);
+        assertEquals(4L, scalars.dLong);
+        assertEquals(5.5, scalars.eDouble);
+        assertEquals(6, scalars.fBoxedInt);
+        assertEquals("first", scalars.Aa);
+        assertEquals("second", scalars.BB);
+    }
+
+    @Test
+    public void testScalarFallbackToChain() {
+        Scalars scalars = defaultJsonb.fromJson("{\"aString\":null,\"bBoolean\":\"true\",\"cInt\":\"3\",\"fBoxedInt\":null}",
+                                                Scalars.class);
+        assertNull(scalars.aString);
+        assertTrue(scalars.bBoolean);
+        assertEquals(3, scalars.cInt);
+        assertNull(scalars.fBoxedInt);
+    }
+
+    @Test
+    public void testPrimitiveSetters() throws Exception {
+        String json = "{\"count\":-3,\"flag\":true,\"ratio\":0.5,\"total\":9007199254740993}";
+        assertPrimitiveSetters(defaultJsonb.fromJson(json, PrimitiveSetters.class));
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withGeneratedAccessors(true))) {
+            assertPrimitiveSetters(jsonb.fromJson(json, PrimitiveSetters.class));
+        }
+        //values not matching the natural event are converted by the property deserializer chain
+        PrimitiveSetters converted = defaultJsonb.fromJson("{\"count\":\"-3\",\"flag\":\"true\",\"ratio\":\"0.5\"}",
+                                                           PrimitiveSetters.class);
+        assertEquals(-3, converted.count);
+        assertTrue(converted.flag);
+        assertEquals(0.5, converted.ratio);
+    }
+
+    @Test
+    public void testFailingPrimitiveSetter() {
+        JsonbException exception = assertThrows(JsonbException.class,
+                                                 () -> defaultJsonb.fromJson("{\"value\":1}", FailingSetter.class));
+        assertEquals(IllegalStateException.class, exception.getCause().getCause().getClass());
+    }
+
+    private static void assertPrimitiveSetters(PrimitiveSetters setters) {
+        assertEquals(-3, setters.count);
+        assertTrue(setters.flag);
+        assertEquals(0.5, setters.ratio);
+        assertEquals(9007199254740993L, setters.total);
+    }
+
+    @Test
+    public void testInvalidScalarValue() {
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("{\"cInt\":true}", Scalars.class));
+        assertThrows(JsonbException.class, () -> defaultJsonb.fromJson("{\"cInt\":null}", Scalars.class));
+    }
+
+    @Test
+    public void testNumberFormat() {
+        FormattedNumber number = defaultJsonb.fromJson("{\"value\":\"1,234.50\"}", FormattedNumber.class);
+        assertEquals(1234.5, number.value);
+    }
+
+    @Test
+    public void testCaseInsensitiveNames() throws Exception {
+        JsonbConfig config = new JsonbConfig().withPropertyNamingStrategy(PropertyNamingStrategy.CASE_INSENSITIVE);
+        try (Jsonb jsonb = JsonbBuilder.create(config)) {
+            Scalars scalars = jsonb.fromJson("{\"ASTRING\":\"text\",\"cint\":3}", Scalars.class);
+            assertEquals("text", scalars.aString);
+            assertEquals(3, scalars.cInt);
+        }
+    }
+
+    @Test
+    public void testUnknownProperties() throws Exception {
+        Scalars scalars = defaultJsonb.fromJson("{\"unknown\":{\"cInt\":1},\"bBoolean\":true}", Scalars.class);
+        assertTrue(scalars.bBoolean);
+        assertEquals(0, scalars.cInt);
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().setProperty("jsonb.fail-on-unknown-properties", true))) {
+            assertThrows(JsonbException.class, () -> jsonb.fromJson("{\"unknown\":1}", Scalars.class));
+        }
+        assertFalse(defaultJsonb.fromJson("{}", Scalars.class).bBoolean);
+    }
+
+    public static class Scalars {
+        public String aString;
+        public boolean bBoolean;
+        public int cInt;
+        public long dLong;
+        public double eDouble;
+        public Integer fBoxedInt;
+        public String Aa;
+        public String BB;
+    }
+
+    public static class CreatorScalars {
+        private final String first;
+        private final int second;
+        public boolean third;
+
+        @JsonbCreator
+        public CreatorScalars(@JsonbProperty("second") int second, @JsonbProperty("first") String first) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public String getFirst() {
+            return first;
+        }
+
+        public int getSecond() {
+            return second;
+        }
+    }
+
+    public static class PrimitiveSetters {
+        private int count;
+        private boolean flag;
+        private double ratio;
+        private long total;
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public void setFlag(boolean flag) {
+            this.flag = flag;
+        }
+
+        public PrimitiveSetters setRatio(double ratio) {
+            this.ratio = ratio;
+            return this;
+        }
+
+        public void setTotal(long total) {
+            this.total = total;
+        }
+    }
+
+    public static class FailingSetter {
+        public void setValue(int value) {
+            throw new IllegalStateException("Not writable");
+        }
+    }
+
+    public static class FormattedNumber {
+        @JsonbNumberFormat(value = "#,##0.00", locale = "en-US")
+        public double value;
+    }
+
+}
@@ -0,0 +1,129 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParsingException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the resumable tokenizer produces the same events as the JSON-P parser, regardless of the chunk size.
+ */
+public class JsonTokenizerTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    private static final String[] DOCUMENTS = {
+        "{\"a\": 1, \"b\" : [true, false, null, -0.5e+10, 1E3, 0], \"c\": {}, \"d\": [], \"e\": [[{}]]}",
+        "[\"\\\"\\\\\\/\\b\\f\\n\\r\\t\\u00e9\\uD83D\\uDE00\", \"čaj ☕ 😀\", \"\"]",
+        " \t\r\n\"root string\" \n",
+        "true",
+        "[12345678901234567890123, -1, 1.25]"
+    };
+
+    @Test
+    public void testChunks() {
+        for (String document : DOCUMENTS) {
+            List<String> expected = parserEvents(document);
+            byte[] bytes = document.getBytes(StandardCharsets.UTF_8);
+            for (int chunkSize : new int[] {1, 2, 3, 7, bytes.length}) {
+                JsonTokenizer tokenizer = new JsonTokenizer(PROVIDER);
+                for (int i = 0; i < bytes.length; i += chunkSize) {
+                    ByteBuffer chunk = ByteBuffer.wrap(bytes, i, Math.min(chunkSize, bytes.length - i));
+                    tokenizer.feed(chunk);
+                    assertFalse(chunk.hasRemaining());
+                }
+                tokenizer.finish();
+                assertEquals(expected, tokenizerEvents(tokenizer.parser()), document + " in chunks of " + chunkSize);
+            }
+        }
+    }
+
+    @Test
+    public void testRootCompletion() {
+        JsonTokenizer tokenizer = new JsonTokenizer(PROVIDER);
+        assertFalse(tokenizer.feed(utf8("{\"a\":[1")));
+        assertTrue(tokenizer.feed(utf8("]} \n")));
+        JsonTokenizer number = new JsonTokenizer(PROVIDER);
+        assertFalse(number.feed(utf8("12")));
+        assertTrue(number.feed(utf8(" ")));
+    }
+
+    @Test
+    public void testInvalidInput() {
+        String[] invalid = {"{\"a\" 1}", "[1,]", "[1 2]", "{\"a\":1,}", "tru ", "nul]", "[01]", "[1.]", "[-]",
+            "{1:2}", "\"a\\x\"", "\"\\u12G4\"", "\"a\tb\"", "{} {}", "]", "\"\u00ff\u00ff\""};
+        for (String document : invalid) {
+            JsonTokenizer tokenizer = new JsonTokenizer(PROVIDER);
+            assertThrows(JsonParsingException.class, () -> {
+                tokenizer.feed(ByteBuffer.wrap(document.getBytes(StandardCharsets.ISO_8859_1)));
+                tokenizer.finish();
+            }, document);
+        }
+        String[] incomplete = {"", "{", "[1,", "\"abc", "{\"a\":", "-"};
+        for (String document : incomplete) {
+            JsonTokenizer tokenizer = new JsonTokenizer(PROVIDER);
+            tokenizer.feed(utf8(document));
+            assertThrows(JsonParsingException.class, tokenizer::finish, document);
+        }
+    }
+
+    private static ByteBuffer utf8(String value) {
+        return ByteBuffer.wrap(value.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static List<String> parserEvents(String document) {
+        List<String> events = new ArrayList<>();
+        try (JsonParser parser = PROVIDER.createParser(new StringReader(document))) {
+            while (parser.hasNext()) {
+                events.add(describe(parser.next(), parser));
+            }
+        }
+        return events;
+    }
+
+    private static List<String> tokenizerEvents(JsonParser parser) {
+        List<String> events = new ArrayList<>();
+        events.add(describe(parser.currentEvent(), parser));
+        while (parser.hasNext()) {
+            events.add(describe(parser.next(), parser));
+        }
+        return events;
+    }
+
+    private static String describe(JsonParser.Event event, JsonParser parser) {
+        switch (event) {
+        case KEY_NAME:
+        case VALUE_STRING:
+            return event + ":" + parser.getString();
+        case VALUE_NUMBER:
+            return event + ":" + parser.getBigDecimal() + ":" + parser.isIntegralNumber();
+        default:
+            return event.toString();
+        }
+    }
+
+}
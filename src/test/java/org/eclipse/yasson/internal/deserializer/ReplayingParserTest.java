@@ -0,0 +1,145 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.deserializer;
+
+import java.io.StringReader;
+import java.math.BigDecimal;
+
+import jakarta.json.JsonObject;
+import jakarta.json.spi.JsonProvider;
+import jakarta.json.stream.JsonParser;
+import jakarta.json.stream.JsonParser.Event;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests the replaying of the buffered parser events.
+ */
+public class ReplayingParserTest {
+
+    private static final JsonProvider PROVIDER = JsonProvider.provider();
+
+    @Test
+    public void testReplayFollowedByDelegate() {
+        JsonParser delegate = PROVIDER.createParser(new StringReader("{\"a\":1.5,\"b\":[true],\"c\":\"d\",\"e\":7}"));
+        ReplayingParser parser = bufferUntil(delegate, "c");
+        assertEquals(Event.START_OBJECT, parser.currentEvent());
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("a", parser.getString());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertFalse(parser.isIntegralNumber());
+        assertEquals(new BigDecimal("1.5"), parser.getBigDecimal());
+        assertEquals(1, parser.getInt());
+        parser.next();
+        assertEquals(Event.START_ARRAY, parser.next());
+        parser.skipArray();
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("c", parser.getString());
+        assertEquals(Event.VALUE_STRING, parser.next());
+        assertEquals("d", parser.getString());
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("e", parser.getString());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertTrue(parser.isIntegralNumber());
+        assertEquals(7L, parser.getLong());
+        assertEquals(Event.END_OBJECT, parser.next());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void testObjectAcrossBufferBoundary() {
+        JsonParser delegate = PROVIDER.createParser(new StringReader("{\"a\":{\"b\":[1,{\"c\":null}],\"d\":false},\"e\":\"f\"}"));
+        ReplayingParser parser = bufferUntil(delegate, "c");
+        JsonObject object = parser.getObject();
+        assertEquals("{\"a\":{\"b\":[1,{\"c\":null}],\"d\":false},\"e\":\"f\"}", object.toString());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void testSkipObjectAcrossBufferBoundary() {
+        JsonParser delegate = PROVIDER.createParser(new StringReader("[{\"a\":{\"b\":{}},\"c\":1},2]"));
+        delegate.next();
+        ReplayingParser parser = bufferUntil(delegate, "b");
+        parser.skipObject();
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertEquals(2, parser.getInt());
+        assertEquals(Event.END_ARRAY, parser.next());
+    }
+
+    @Test
+    public void testReusedTextIsCopied() {
+        ReplayingParser parser = new ReplayingParser(null, PROVIDER);
+        StringBuilder text = new StringBuilder();
+        parser.add(Event.START_OBJECT, null, false);
+        parser.add(Event.KEY_NAME, text.append("key"), false);
+        text.setLength(0);
+        parser.add(Event.VALUE_NUMBER, text.append("12.5"), false);
+        text.setLength(0);
+        parser.add(Event.KEY_NAME, text.append("other"), false);
+        parser.add(Event.VALUE_STRING, "", false);
+        parser.add(Event.END_OBJECT, null, false);
+        assertEquals("{\"key\":12.5,\"other\":\"\"}", parser.getObject().toString());
+        assertFalse(parser.hasNext());
+    }
+
+    @Test
+    public void testWidenedText() {
+        ReplayingParser parser = new ReplayingParser(null, PROVIDER);
+        StringBuilder text = new StringBuilder();
+        parser.add(Event.START_OBJECT, null, false);
+        parser.add(Event.KEY_NAME, text.append("key"), false);
+        text.setLength(0);
+        parser.add(Event.VALUE_NUMBER, text.append("12.5"), false);
+        text.setLength(0);
+        parser.add(Event.KEY_NAME, text.append("other"), false);
+        parser.add(Event.VALUE_STRING, "", false);
+        //widens the texts stored so far
+        parser.add(Event.KEY_NAME, "čaj ☕", false);
+        parser.add(Event.VALUE_NUMBER, "-3", true);
+        parser.add(Event.END_OBJECT, null, false);
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("key", parser.getString());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertFalse(parser.isIntegralNumber());
+        assertEquals(new BigDecimal("12.5"), parser.getBigDecimal());
+        parser.next();
+        parser.next();
+        assertEquals(Event.KEY_NAME, parser.next());
+        assertEquals("čaj ☕", parser.getString());
+        assertEquals(Event.VALUE_NUMBER, parser.next());
+        assertTrue(parser.isIntegralNumber());
+        assertEquals(-3, parser.getInt());
+        assertEquals(Event.END_OBJECT, parser.next());
+        assertFalse(parser.hasNext());
+    }
+
+    /**
+     * Buffers the events of the object the delegate is positioned at, until the given key is reached.
+     * Key itself is buffered as well.
+     */
+    private static ReplayingParser bufferUntil(JsonParser delegate, String key) {
+        assertEquals(Event.START_OBJECT, delegate.next());
+        ReplayingParser parser = new ReplayingParser(delegate, PROVIDER, Event.START_OBJECT);
+        Event event;
+        do {
+            event = delegate.next();
+            parser.buffer(event, delegate);
+        } while (event != Event.KEY_NAME || !key.equals(delegate.getString()));
+        return parser;
+    }
+
+}
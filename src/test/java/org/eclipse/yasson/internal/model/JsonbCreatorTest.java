@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import jakarta.json.bind.JsonbException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests that the creator failures are reported the same way by the method handle and the reflection.
+ */
+public class JsonbCreatorTest {
+
+    @Test
+    public void testException() throws Exception {
+        for (JsonbCreator creator : creators(Failing.class.getDeclaredMethod("create", String.class))) {
+            JsonbException exception = assertThrows(JsonbException.class, () -> creator.call(new Object[] {"exception"}, Failing.class));
+            assertTrue(exception.getCause() instanceof InvocationTargetException);
+            assertTrue(exception.getCause().getCause() instanceof IllegalArgumentException);
+        }
+    }
+
+    @Test
+    public void testError() throws Exception {
+        for (JsonbCreator creator : creators(Failing.class.getDeclaredMethod("create", String.class))) {
+            assertThrows(StackOverflowError.class, () -> creator.call(new Object[] {"error"}, Failing.class));
+        }
+    }
+
+    @Test
+    public void testSuccess() throws Exception {
+        for (JsonbCreator creator : creators(Failing.class.getDeclaredMethod("create", String.class))) {
+            assertEquals("ok", creator.call(new Object[] {"ok"}, Failing.class).value);
+        }
+    }
+
+    private static JsonbCreator[] creators(Method method) {
+        JsonbCreator handleCreator = new JsonbCreator(method, new CreatorModel[0]);
+        JsonbCreator reflectiveCreator = new JsonbCreator(method, new CreatorModel[0], (MethodHandle) null);
+        return new JsonbCreator[] {handleCreator, reflectiveCreator};
+    }
+
+    public static final class Failing {
+
+        private final String value;
+
+        private Failing(String value) {
+            this.value = value;
+        }
+
+        public static Failing create(String value) {
+            if ("exception".equals(value)) {
+                throw new IllegalArgumentException("Failing creator");
+            }
+            if ("error".equals(value)) {
+                throw new StackOverflowError("Failing creator");
+            }
+            return new Failing(value);
+        }
+    }
+
+}
@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2021, 2024 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2021, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -37,6 +37,14 @@ public class RecordTest {
         assertEquals(car, deserialized);
     }
 
+    @Test
+    public void testRecordMissingAndReorderedComponents() {
+        Car deserialized = Jsonbs.defaultJsonb.fromJson("{\"typeChanged\":\"skoda\",\"unknown\":[1],\"other\":{}}", Car.class);
+        assertEquals(new Car("skoda", null), deserialized);
+        deserialized = Jsonbs.defaultJsonb.fromJson("{\"typeChanged\":\"skoda\",\"colorChanged\":\"green\"}", Car.class);
+        assertEquals(new Car("skoda", "green"), deserialized);
+    }
+
     @Test
     public void testRecordProcessingWithoutJsonbProperties() {
         CarWithoutAnnotations car = new CarWithoutAnnotations("skoda", "green");
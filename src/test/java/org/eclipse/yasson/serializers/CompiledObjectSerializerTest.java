@@ -0,0 +1,229 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.serializers;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import jakarta.json.bind.JsonbConfig;
+import jakarta.json.bind.JsonbException;
+import jakarta.json.bind.adapter.JsonbAdapter;
+import jakarta.json.bind.annotation.JsonbNillable;
+import jakarta.json.bind.annotation.JsonbNumberFormat;
+import jakarta.json.bind.annotation.JsonbPropertyOrder;
+import jakarta.json.bind.annotation.JsonbTypeAdapter;
+import jakarta.json.bind.serializer.JsonbSerializer;
+import jakarta.json.bind.serializer.SerializationContext;
+import jakarta.json.stream.JsonGenerator;
+
+import org.eclipse.yasson.YassonConfig;
+import org.junit.jupiter.api.Test;
+
+import static org.eclipse.yasson.Jsonbs.defaultJsonb;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the object serializer with the directly written scalar properties.
+ */
+public class CompiledObjectSerializerTest {
+
+    @Test
+    public void testScalarProperties() {
+        Scalars scalars = new Scalars();
+        String expected = "{\"aString\":\"text\",\"bBoolean\":true,\"cByte\":1,\"dShort\":2,\"eInt\":3,\"fLong\":4,"
+                + "\"gDouble\":5.5,\"hBigDecimal\":6.25,\"iBigInteger\":7,\"jBoxedInt\":8}";
+        assertEquals(expected, defaultJsonb.toJson(scalars));
+    }
+
+    @Test
+    public void testPrimitiveGetters() throws Exception {
+        String expected = "{\"count\":-3,\"flag\":true,\"ratio\":0.5,\"total\":9007199254740993}";
+        assertEquals(expected, defaultJsonb.toJson(new PrimitiveGetters()));
+        try (Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withGeneratedAccessors(true))) {
+            assertEquals(expected, jsonb.toJson(new PrimitiveGetters()));
+        }
+    }
+
+    @Test
+    public void testFailingPrimitiveGetter() {
+        JsonbException exception = assertThrows(JsonbException.class, () -> defaultJsonb.toJson(new FailingGetter()));
+        assertEquals(IllegalStateException.class, exception.getCause().getCause().getClass());
+    }
+
+    @Test
+    public void testNullScalarProperties() {
+        Scalars scalars = new Scalars();
+        scalars.aString = null;
+        scalars.jBoxedInt = null;
+        assertEquals("{\"bBoolean\":true,\"cByte\":1,\"dShort\":2,\"eInt\":3,\"fLong\":4,"
+                             + "\"gDouble\":5.5,\"hBigDecimal\":6.25,\"iBigInteger\":7}",
+                     defaultJsonb.toJson(scalars));
+    }
+
+    @Test
+    public void testNillableScalarProperties() {
+        assertEquals("{\"name\":null,\"value\":null}", defaultJsonb.toJson(new NillableScalars()));
+    }
+
+    @Test
+    public void testNullValuesConfig() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withNullValues(true))) {
+            assertEquals("{\"name\":null,\"value\":null}", jsonb.toJson(new NullScalars()));
+        }
+    }
+
+    @Test
+    public void testNumberFormat() {
+        assertEquals("{\"value\":\"1,234.50\"}", defaultJsonb.toJson(new FormattedNumber()));
+    }
+
+    @Test
+    public void testPropertyAdapter() {
+        assertEquals("{\"value\":\"adapted-42\"}", defaultJsonb.toJson(new AdaptedNumber()));
+    }
+
+    @Test
+    public void testGlobalSerializer() throws Exception {
+        JsonbConfig config = new JsonbConfig().withSerializers(new UpperCaseSerializer());
+        try (Jsonb jsonb = JsonbBuilder.create(config)) {
+            assertEquals("{\"name\":\"TEXT\"}", jsonb.toJson(new NullScalars("text")));
+        }
+    }
+
+    @Test
+    public void testStrictIJsonValidatesStrings() throws Exception {
+        try (Jsonb jsonb = JsonbBuilder.create(new JsonbConfig().withStrictIJSON(true))) {
+            assertThrows(JsonbException.class, () -> jsonb.toJson(new NullScalars("\uDD1E")));
+        }
+    }
+
+    @Test
+    public void testNestedObjects() {
+        Outer outer = new Outer();
+        outer.inner = new Outer();
+        outer.inner.name = "inner";
+        outer.name = "outer";
+        assertEquals("{\"inner\":{\"name\":\"inner\"},\"name\":\"outer\"}", defaultJsonb.toJson(outer));
+    }
+
+    @Test
+    public void testRecursiveReference() {
+        Outer outer = new Outer();
+        outer.inner = outer;
+        assertThrows(JsonbException.class, () -> defaultJsonb.toJson(outer));
+    }
+
+    @Test
+    public void testNullPropertyInArray() {
+        Outer[] outers = new Outer[] {null, new Outer()};
+        assertEquals("[null,{}]", defaultJsonb.toJson(outers));
+    }
+
+    @JsonbPropertyOrder({"aString", "bBoolean", "cByte", "dShort", "eInt", "fLong", "gDouble", "hBigDecimal",
+            "iBigInteger", "jBoxedInt"})
+    public static class Scalars {
+        public String aString = "text";
+        public boolean bBoolean = true;
+        public byte cByte = 1;
+        public short dShort = 2;
+        public int eInt = 3;
+        public long fLong = 4;
+        public double gDouble = 5.5;
+        public BigDecimal hBigDecimal = new BigDecimal("6.25");
+        public BigInteger iBigInteger = BigInteger.valueOf(7);
+        public Integer jBoxedInt = 8;
+    }
+
+    public static class PrimitiveGetters {
+        public int getCount() {
+            return -3;
+        }
+
+        public boolean isFlag() {
+            return true;
+        }
+
+        public double getRatio() {
+            return 0.5;
+        }
+
+        public long getTotal() {
+            return 9007199254740993L;
+        }
+    }
+
+    public static class FailingGetter {
+        public int getValue() {
+            throw new IllegalStateException("Not available");
+        }
+    }
+
+    public static class NillableScalars {
+        @JsonbNillable
+        public String name;
+        @JsonbNillable
+        public Long value;
+    }
+
+    public static class NullScalars {
+        public String name;
+        public Long value;
+
+        public NullScalars() {
+        }
+
+        NullScalars(String name) {
+            this.name = name;
+        }
+    }
+
+    public static class FormattedNumber {
+        @JsonbNumberFormat(value = "#,##0.00", locale = "en-US")
+        public double value = 1234.5;
+    }
+
+    public static class AdaptedNumber {
+        @JsonbTypeAdapter(PrefixAdapter.class)
+        public Integer value = 42;
+    }
+
+    public static class Outer {
+        public Outer inner;
+        public String name;
+    }
+
+    public static class PrefixAdapter implements JsonbAdapter<Integer, String> {
+
+        @Override
+        public String adaptToJson(Integer obj) {
+            return "adapted-" + obj;
+        }
+
+        @Override
+        public Integer adaptFromJson(String obj) {
+            return Integer.parseInt(obj.substring("adapted-".length()));
+        }
+    }
+
+    public static class UpperCaseSerializer implements JsonbSerializer<String> {
+
+        @Override
+        public void serialize(String obj, JsonGenerator generator, SerializationContext ctx) {
+            generator.write(obj.toUpperCase());
+        }
+    }
+
+}
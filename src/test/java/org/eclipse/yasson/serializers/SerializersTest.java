@@ -1,5 +1,5 @@
 /*
- * Copyright (c) 2016, 2023 Oracle and/or its affiliates. All rights reserved.
+ * Copyright (c) 2016, 2026 Oracle and/or its affiliates. All rights reserved.
  *
  * This program and the accompanying materials are made available under the
  * terms of the Eclipse Public License v. 2.0 which is available at
@@ -499,6 +499,16 @@ public class SerializersTest {
         assertEquals("[{\"key\":null,\"value\":\"value\"}]", jsonb.toJson(singletonMap(null, "value")));
     }
 
+    @Test
+    public void testSerializeDifferentObjectKeyMaps() {
+        Jsonb jsonb = JsonbBuilder.create(new YassonConfig().withForceMapArraySerializerForNullKeys(Boolean.TRUE));
+        Map<Object, Object> stringKeys = singletonMap("key", "value");
+        Map<Object, Object> nullKeys = singletonMap(null, "value");
+        assertEquals("{\"key\":\"value\"}", jsonb.toJson(stringKeys));
+        assertEquals("[{\"key\":null,\"value\":\"value\"}]", jsonb.toJson(nullKeys));
+        assertEquals("{\"key\":\"value\"}", jsonb.toJson(stringKeys));
+    }
+
     /**
      * Test serialization of Map with String keys only.
      * Map shall be stored as a single JsonObject with keys as object properties names.
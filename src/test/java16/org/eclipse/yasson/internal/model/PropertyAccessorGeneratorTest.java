@@ -0,0 +1,176 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.internal.model;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Member;
+import java.util.List;
+
+import org.eclipse.yasson.spi.ClassPropertyAccessor;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Tests the bytecode produced by {@link PropertyAccessorGenerator}.
+ */
+public class PropertyAccessorGeneratorTest {
+
+    private static ClassPropertyAccessor accessor;
+
+    @BeforeAll
+    public static void defineAccessor() throws Throwable {
+        List<Member> readers = List.of(Bean.class.getDeclaredField("count"),
+                                       Bean.class.getDeclaredField("name"),
+                                       Bean.class.getDeclaredMethod("getAmount"),
+                                       Bean.class.getDeclaredMethod("isFlag"),
+                                       Bean.class.getDeclaredField("values"),
+                                       Bean.class.getDeclaredField("ratio"));
+        List<Member> writers = List.of(Bean.class.getDeclaredField("count"),
+                                       Bean.class.getDeclaredField("name"),
+                                       Bean.class.getDeclaredMethod("setAmount", long.class),
+                                       Bean.class.getDeclaredMethod("setFlag", boolean.class),
+                                       Bean.class.getDeclaredField("values"),
+                                       Bean.class.getDeclaredField("ratio"));
+        byte[] bytes = PropertyAccessorGenerator.generateClassBytes(Bean.class.getName().replace('.', '/') + "$$Test",
+                                                                    Bean.class,
+                                                                    readers,
+                                                                    writers);
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Bean.class, MethodHandles.lookup())
+                .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        accessor = (ClassPropertyAccessor) lookup.lookupClass().getConstructor().newInstance();
+    }
+
+    @Test
+    public void testReadPrivateMembers() {
+        Bean bean = new Bean();
+        bean.count = 5;
+        bean.name = "name";
+        bean.amount = Long.MAX_VALUE;
+        bean.flag = true;
+        bean.values = new String[] {"a"};
+        assertEquals(5, accessor.getValue(bean, 0));
+        assertEquals("name", accessor.getValue(bean, 1));
+        assertEquals(Long.MAX_VALUE, accessor.getValue(bean, 2));
+        assertEquals(true, accessor.getValue(bean, 3));
+        assertSame(bean.values, accessor.getValue(bean, 4));
+    }
+
+    @Test
+    public void testWritePrivateMembers() {
+        Bean bean = new Bean();
+        String[] values = {"b"};
+        accessor.setValue(bean, 0, 7);
+        accessor.setValue(bean, 1, "value");
+        accessor.setValue(bean, 2, 10L);
+        accessor.setValue(bean, 3, true);
+        accessor.setValue(bean, 4, values);
+        assertEquals(7, bean.count);
+        assertEquals("value", bean.name);
+        assertEquals(10L, bean.amount);
+        assertEquals(true, bean.flag);
+        assertSame(values, bean.values);
+    }
+
+    @Test
+    public void testPrimitiveMembers() {
+        Bean bean = new Bean();
+        accessor.setInt(bean, 0, 3);
+        accessor.setLong(bean, 2, Long.MIN_VALUE);
+        accessor.setBoolean(bean, 3, true);
+        accessor.setDouble(bean, 5, 0.25);
+        assertEquals(3, bean.count);
+        assertEquals(Long.MIN_VALUE, bean.amount);
+        assertEquals(true, bean.flag);
+        assertEquals(0.25, bean.ratio);
+        assertEquals(3, accessor.getInt(bean, 0));
+        assertEquals(Long.MIN_VALUE, accessor.getLong(bean, 2));
+        assertEquals(true, accessor.getBoolean(bean, 3));
+        assertEquals(0.25, accessor.getDouble(bean, 5));
+    }
+
+    @Test
+    public void testPrimitiveMembersOfOtherType() {
+        Bean bean = new Bean();
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getInt(bean, 1));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getLong(bean, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getDouble(bean, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.setBoolean(bean, 0, true));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.setDouble(bean, 2, 1));
+    }
+
+    @Test
+    public void testInvalidValues() {
+        Bean bean = new Bean();
+        assertThrows(NullPointerException.class, () -> accessor.setValue(bean, 0, null));
+        assertThrows(ClassCastException.class, () -> accessor.setValue(bean, 1, 1));
+        assertThrows(ClassCastException.class, () -> accessor.getValue("not a bean", 1));
+    }
+
+    @Test
+    public void testUnknownIndex() {
+        Bean bean = new Bean();
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.getValue(bean, 6));
+        assertThrows(IndexOutOfBoundsException.class, () -> accessor.setValue(bean, -1, null));
+    }
+
+    @Test
+    public void testNoProperties() throws Throwable {
+        byte[] bytes = PropertyAccessorGenerator.generateClassBytes(Bean.class.getName().replace('.', '/') + "$$Empty",
+                                                                    Bean.class,
+                                                                    List.of(),
+                                                                    List.of());
+        MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(Bean.class, MethodHandles.lookup())
+                .defineHiddenClass(bytes, true, MethodHandles.Lookup.ClassOption.NESTMATE);
+        ClassPropertyAccessor empty = (ClassPropertyAccessor) lookup.lookupClass().getConstructor().newInstance();
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.getValue(new Bean(), 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.getInt(new Bean(), 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> empty.setDouble(new Bean(), 0, 1));
+    }
+
+    private static final class Bean {
+
+        private int count;
+
+        private String name;
+
+        private long amount;
+
+        private boolean flag;
+
+        private String[] values;
+
+        private double ratio;
+
+        private long getAmount() {
+            return amount;
+        }
+
+        private Bean setAmount(long amount) {
+            this.amount = amount;
+            return this;
+        }
+
+        private boolean isFlag() {
+            return flag;
+        }
+
+        private void setFlag(boolean flag) {
+            this.flag = flag;
+        }
+    }
+
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright (c) 2026 Oracle and/or its affiliates. All rights reserved.
+ *
+ * This program and the accompanying materials are made available under the
+ * terms of the Eclipse Public License v. 2.0 which is available at
+ * http://www.eclipse.org/legal/epl-2.0,
+ * or the Eclipse Distribution License v. 1.0 which is available at
+ * http://www.eclipse.org/org/documents/edl-v10.php.
+ *
+ * SPDX-License-Identifier: EPL-2.0 OR BSD-3-Clause
+ */
+
+package org.eclipse.yasson.apt;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.NestingKind;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.VariableElement;
+import javax.lang.model.type.ArrayType;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.JavaFileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Generates the {@code org.eclipse.yasson.spi.GeneratedBindingModel} of every class annotated by
+ * {@code org.eclipse.yasson.GenerateBindingModel}.
+ * <br>
+ * Generated model is placed to the package of the annotated class and reads and writes its non-private fields,
+ * getters and setters directly. Overloaded setters are left to the reflection, since the members are identified
+ * by their name only. Model also lists the fields, getters and setters declared by the class, so that Yasson does not
+ * discover them by the reflection. They are not listed if the reflection would pick one of several methods of the same
+ * property, or if a setter parameter type is not visible to the generated model.
+ * All the generated models are registered in the service file once the processing is over.
+ * Annotated classes are also listed in the class index, so that they can be parsed eagerly by their package.
+ */
+@SupportedAnnotationTypes(BindingModelProcessor.ANNOTATION)
+public class BindingModelProcessor extends AbstractProcessor {
+
+    static final String ANNOTATION = "org.eclipse.yasson.GenerateBindingModel";
+
+    private static final String MODEL_INTERFACE = "org.eclipse.yasson.spi.GeneratedBindingModel";
+    private static final String MODEL_SUFFIX = "_BindingModel";
+    private static final String CLASS_INDEX = "META-INF/yasson/class-index";
+    private static final String[][] PRIMITIVES = {
+            {"int", "Int"},
+            {"long", "Long"},
+            {"double", "Double"},
+            {"boolean", "Boolean"}};
+
+    private final Set<String> generatedModels = new LinkedHashSet<>();
+    private final Set<String> indexedClasses = new LinkedHashSet<>();
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        for (TypeElement annotation : annotations) {
+            for (Element element : roundEnv.getElementsAnnotatedWith(annotation)) {
+                if (isSupported(element)) {
+                    generateModel((TypeElement) element);
+                }
+            }
+        }
+        if (roundEnv.processingOver() && !generatedModels.isEmpty()) {
+            writeResource("META-INF/services/" + MODEL_INTERFACE, generatedModels);
+            writeResource(CLASS_INDEX, indexedClasses);
+        }
+        return true;
+    }
+
+    private boolean isSupported(Element element) {
+        if (element.getKind() != ElementKind.CLASS) {
+            error(element, "Binding model can be generated only for classes");
+            return false;
+        }
+        for (Element type = element; type instanceof TypeElement; type = type.getEnclosingElement()) {
+            NestingKind nesting = ((TypeElement) type).getNestingKind();
+            if (type.getModifiers().contains(Modifier.PRIVATE) || nesting == NestingKind.LOCAL
+                    || nesting == NestingKind.ANONYMOUS) {
+                error(element, "Binding model cannot be generated for the class not visible in its package");
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void generateModel(TypeElement type) {
+        List<Member> readMembers = new ArrayList<>();
+        List<Member> writeMembers = new ArrayList<>();
+        collectMembers(type, readMembers, writeMembers);
+
+        String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(type).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                .replace('$', '_') + MODEL_SUFFIX;
+        String modelName = packageName.isEmpty() ? simpleName : packageName + "." + simpleName;
+        String typeName = processingEnv.getTypeUtils().erasure(type.asType()).toString();
+
+        StringBuilder source = new StringBuilder();
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+        source.append("@SuppressWarnings({\"rawtypes\", \"unchecked\"})\n")
+                .append("public final class ").append(simpleName).append(" implements ").append(MODEL_INTERFACE)
+                .append(" {\n\n");
+        source.append("    @Override\n")
+                .append("    public Class<?> getType() {\n")
+                .append("        return ").append(typeName).append(".class;\n")
+                .append("    }\n\n");
+        appendMemberNames(source, "getReadMembers", readMembers);
+        appendMemberNames(source, "getWriteMembers", writeMembers);
+        appendDeclaredMembers(source, type);
+
+        source.append("    @Override\n")
+                .append("    public Object getValue(Object instance, int index) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < readMembers.size(); i++) {
+            source.append("        case ").append(i).append(":\n")
+                    .append("            return ").append(readMembers.get(i).read(typeName)).append(";\n");
+        }
+        appendUnknownIndex(source);
+
+        source.append("    @Override\n")
+                .append("    public void setValue(Object instance, int index, Object value) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < writeMembers.size(); i++) {
+            Member member = writeMembers.get(i);
+            source.append("        case ").append(i).append(":\n")
+                    .append("            ").append(member.write(typeName, "(" + member.boxedType() + ") value"))
+                    .append(";\n")
+                    .append("            return;\n");
+        }
+        appendUnknownIndex(source);
+
+        for (String[] primitive : PRIMITIVES) {
+            appendPrimitiveRead(source, primitive[0], primitive[1], readMembers, typeName);
+            appendPrimitiveWrite(source, primitive[0], primitive[1], writeMembers, typeName);
+        }
+        source.append("}\n");
+
+        try {
+            JavaFileObject file = processingEnv.getFiler().createSourceFile(modelName, type);
+            try (Writer writer = file.openWriter()) {
+                writer.write(source.toString());
+            }
+            generatedModels.add(modelName);
+            indexedClasses.add(binaryName);
+        } catch (IOException e) {
+            error(type, "Binding model cannot be written: " + e.getMessage());
+        }
+    }
+
+    private void collectMembers(TypeElement type, List<Member> readMembers, List<Member> writeMembers) {
+        PackageElement typePackage = processingEnv.getElementUtils().getPackageOf(type);
+        Set<String> setterNames = new LinkedHashSet<>();
+        Set<String> overloadedSetters = new LinkedHashSet<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.METHOD && isSetter((ExecutableElement) element)
+                    && !setterNames.add(element.getSimpleName().toString())) {
+                overloadedSetters.add(element.getSimpleName().toString());
+            }
+        }
+        for (Element element : type.getEnclosedElements()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE) || modifiers.contains(Modifier.STATIC)) {
+                continue;
+            }
+            String name = element.getSimpleName().toString();
+            if (element.getKind() == ElementKind.FIELD) {
+                TypeMirror fieldType = erasure(((VariableElement) element).asType());
+                readMembers.add(new Member(name, false, fieldType));
+                if (!modifiers.contains(Modifier.FINAL) && isVisible(fieldType, typePackage)) {
+                    writeMembers.add(new Member(name, false, fieldType));
+                }
+            } else if (element.getKind() == ElementKind.METHOD) {
+                ExecutableElement method = (ExecutableElement) element;
+                if (isGetter(method)) {
+                    readMembers.add(new Member(name, true, erasure(method.getReturnType())));
+                } else if (isSetter(method) && !overloadedSetters.contains(name)) {
+                    TypeMirror parameterType = erasure(method.getParameters().get(0).asType());
+                    //the value cannot be cast to the type not visible from the generated model
+                    if (isVisible(parameterType, typePackage)) {
+                        writeMembers.add(new Member(name, true, parameterType));
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Lists the members the same way as Yasson discovers them by the reflection: all the declared fields and the methods
+     * named as getters or setters, regardless of their modifiers and types.
+     */
+    private void appendDeclaredMembers(StringBuilder source, TypeElement type) {
+        PackageElement typePackage = processingEnv.getElementUtils().getPackageOf(type);
+        List<String> members = new ArrayList<>();
+        List<String> memberTypes = new ArrayList<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() == ElementKind.FIELD) {
+                members.add(element.getSimpleName().toString());
+                memberTypes.add("null");
+            }
+        }
+        Set<String> methodProperties = new HashSet<>();
+        for (Element element : type.getEnclosedElements()) {
+            if (element.getKind() != ElementKind.METHOD) {
+                continue;
+            }
+            ExecutableElement method = (ExecutableElement) element;
+            String name = method.getSimpleName().toString();
+            int parameters = method.getParameters().size();
+            boolean getter = (name.startsWith("get") || name.startsWith("is")) && parameters == 0;
+            boolean setter = name.startsWith("set") && parameters == 1;
+            if (!getter && !setter) {
+                continue;
+            }
+            if (!methodProperties.add((getter ? "get " : "set ") + propertyName(name))) {
+                //property method picked by the reflection would depend on the order of the declared methods
+                return;
+            }
+            if (setter) {
+                TypeMirror parameterType = erasure(method.getParameters().get(0).asType());
+                if (!isVisible(parameterType, typePackage)) {
+                    return;
+                }
+                memberTypes.add(parameterType + ".class");
+            } else {
+                memberTypes.add("null");
+            }
+            members.add(name + "()");
+        }
+        source.append("    @Override\n")
+                .append("    public String[] getDeclaredMembers() {\n")
+                .append("        return new String[] {");
+        for (int i = 0; i < members.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append('"').append(members.get(i)).append('"');
+        }
+        source.append("};\n")
+                .append("    }\n\n");
+        source.append("    @Override\n")
+                .append("    public Class<?>[] getDeclaredMemberTypes() {\n")
+                .append("        return new Class<?>[] {").append(String.join(", ", memberTypes)).append("};\n")
+                .append("    }\n\n");
+    }
+
+    private boolean isVisible(TypeMirror type, PackageElement typePackage) {
+        if (type.getKind() == TypeKind.ARRAY) {
+            return isVisible(((ArrayType) type).getComponentType(), typePackage);
+        }
+        if (type.getKind() != TypeKind.DECLARED) {
+            return type.getKind().isPrimitive();
+        }
+        for (Element element = ((DeclaredType) type).asElement(); element instanceof TypeElement;
+                element = element.getEnclosingElement()) {
+            Set<Modifier> modifiers = element.getModifiers();
+            if (modifiers.contains(Modifier.PRIVATE)
+                    || (!modifiers.contains(Modifier.PUBLIC)
+                    && !processingEnv.getElementUtils().getPackageOf(element).equals(typePackage))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Property name of the getter or setter, derived the same way as by Yasson.
+     */
+    private static String propertyName(String methodName) {
+        String name = methodName.substring(methodName.startsWith("is") ? 2 : 3);
+        if (name.isEmpty() || (name.length() > 1 && Character.isUpperCase(name.charAt(1))
+                && Character.isUpperCase(name.charAt(0)))) {
+            return name;
+        }
+        return Character.toLowerCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static boolean isGetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return method.getParameters().isEmpty()
+                && method.getReturnType().getKind() != TypeKind.VOID
+                && ((name.startsWith("get") && name.length() > 3) || (name.startsWith("is") && name.length() > 2));
+    }
+
+    private static boolean isSetter(ExecutableElement method) {
+        String name = method.getSimpleName().toString();
+        return method.getParameters().size() == 1 && name.startsWith("set") && name.length() > 3;
+    }
+
+    private TypeMirror erasure(TypeMirror type) {
+        return processingEnv.getTypeUtils().erasure(type);
+    }
+
+    private static void appendMemberNames(StringBuilder source, String methodName, List<Member> members) {
+        source.append("    @Override\n")
+                .append("    public String[] ").append(methodName).append("() {\n")
+                .append("        return new String[] {");
+        for (int i = 0; i < members.size(); i++) {
+            source.append(i == 0 ? "" : ", ").append('"').append(members.get(i).key()).append('"');
+        }
+        source.append("};\n")
+                .append("    }\n\n");
+    }
+
+    private static void appendUnknownIndex(StringBuilder source) {
+        source.append("        default:\n")
+                .append("            throw new IndexOutOfBoundsException(\"Unknown member index: \" + index);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+    }
+
+    private static void appendPrimitiveRead(StringBuilder source, String primitive, String suffix, List<Member> members,
+                                            String typeName) {
+        if (members.stream().noneMatch(member -> member.type.toString().equals(primitive))) {
+            return;
+        }
+        source.append("    @Override\n")
+                .append("    public ").append(primitive).append(" get").append(suffix)
+                .append("(Object instance, int index) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).type.toString().equals(primitive)) {
+                source.append("        case ").append(i).append(":\n")
+                        .append("            return ").append(members.get(i).read(typeName)).append(";\n");
+            }
+        }
+        source.append("        default:\n")
+                .append("            return ").append(MODEL_INTERFACE).append(".super.get").append(suffix)
+                .append("(instance, index);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+    }
+
+    private static void appendPrimitiveWrite(StringBuilder source, String primitive, String suffix, List<Member> members,
+                                             String typeName) {
+        if (members.stream().noneMatch(member -> member.type.toString().equals(primitive))) {
+            return;
+        }
+        source.append("    @Override\n")
+                .append("    public void set").append(suffix).append("(Object instance, int index, ").append(primitive)
+                .append(" value) {\n")
+                .append("        switch (index) {\n");
+        for (int i = 0; i < members.size(); i++) {
+            if (members.get(i).type.toString().equals(primitive)) {
+                source.append("        case ").append(i).append(":\n")
+                        .append("            ").append(members.get(i).write(typeName, "value")).append(";\n")
+                        .append("            return;\n");
+            }
+        }
+        source.append("        default:\n")
+                .append("            ").append(MODEL_INTERFACE).append(".super.set").append(suffix)
+                .append("(instance, index, value);\n")
+                .append("        }\n")
+                .append("    }\n\n");
+    }
+
+    private void writeResource(String resource, Set<String> lines) {
+        try {
+            FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", resource);
+            try (Writer writer = file.openWriter()) {
+                for (String line : lines) {
+                    writer.write(line);
+                    writer.write('\n');
+                }
+            }
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                                                     resource + " cannot be written: " + e.getMessage());
+        }
+    }
+
+    private void error(Element element, String message) {
+        processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, message, element);
+    }
+
+    /**
+     * Field or method accessed by the generated model.
+     */
+    private static final class Member {
+
+        private final String name;
+        private final boolean method;
+        private final TypeMirror type;
+
+        private Member(String name, boolean method, TypeMirror type) {
+            this.name = name;
+            this.method = method;
+            this.type = type;
+        }
+
+        private String key() {
+            return method ? name + "()" : name;
+        }
+
+        private String read(String typeName) {
+            return "((" + typeName + ") instance)." + key();
+        }
+
+        private String write(String typeName, String value) {
+            return method
+                    ? "((" + typeName + ") instance)." + name + "(" + value + ")"
+                    : "((" + typeName + ") instance)." + name + " = " + value;
+        }
+
+        private String boxedType() {
+            return type.getKind().isPrimitive() ? boxed(type.toString()) : type.toString();
+        }
+
+        private static String boxed(String primitive) {
+            switch (primitive) {
+            case "int":
+                return "Integer";
+            case "char":
+                return "Character";
+            default:
+                return Character.toUpperCase(primitive.charAt(0)) + primitive.substring(1);
+            }
+        }
+
+    }
+
+}
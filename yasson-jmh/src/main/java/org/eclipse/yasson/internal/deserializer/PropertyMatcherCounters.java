@@ -0,0 +1,34 @@
+package org.eclipse.yasson.internal.deserializer;
+
+import org.openjdk.jmh.annotations.*;
+
+/**
+ * Reports the property order predictions of the {@link PropertyMatcher} done during the measured iteration.
+ * <br>
+ * Counting has to be enabled by the system property {@value PropertyMatcher#COUNTING_PROPERTY} in the forked JVM.
+ * Counters are shared by all the matchers and threads, so the reported numbers are exact for the single threaded runs
+ * only.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.EVENTS)
+public class PropertyMatcherCounters {
+
+    private long startHits;
+
+    private long startMisses;
+
+    @Setup(Level.Iteration)
+    public void start() {
+        startHits = PropertyMatcher.hits();
+        startMisses = PropertyMatcher.misses();
+    }
+
+    public long hits() {
+        return PropertyMatcher.hits() - startHits;
+    }
+
+    public long misses() {
+        return PropertyMatcher.misses() - startMisses;
+    }
+
+}
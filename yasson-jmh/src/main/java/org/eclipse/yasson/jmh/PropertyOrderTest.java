@@ -0,0 +1,72 @@
+package org.eclipse.yasson.jmh;
+
+import org.eclipse.yasson.internal.deserializer.PropertyMatcherCounters;
+import org.eclipse.yasson.jmh.model.OrderedData;
+import org.openjdk.jmh.annotations.*;
+
+import jakarta.json.Json;
+import jakarta.json.JsonObject;
+import jakarta.json.JsonObjectBuilder;
+import jakarta.json.bind.Jsonb;
+import jakarta.json.bind.JsonbBuilder;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tests for deserialization of objects which properties are received in the order they are serialized in, or shuffled.
+ * <br>
+ * Property matching predicts the next property in the serialization order. Input of each tested class is created
+ * from its own serialized form, so the in order input is the best case for the prediction of that class. Numbers of the right
+ * and wrong predictions are reported as the hits and misses counters.
+ */
+@BenchmarkMode(Mode.Throughput)
+@Timeout(time = 20)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Fork(jvmArgsAppend = "-Dorg.eclipse.yasson.propertyMatcherCounting=true")
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class PropertyOrderTest {
+
+    @Param({"IN_ORDER", "SHUFFLED"})
+    public String order;
+
+    private Jsonb jsonb;
+
+    private String json;
+
+    private String createdJson;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.jsonb = JsonbBuilder.create();
+        this.json = input(new OrderedData(42));
+        OrderedData.Created created = jsonb.fromJson(json, OrderedData.Created.class);
+        this.createdJson = input(created);
+    }
+
+    @Benchmark
+    public OrderedData testDeserialize(PropertyMatcherCounters counters) {
+        return jsonb.fromJson(json, OrderedData.class);
+    }
+
+    @Benchmark
+    public OrderedData.Created testDeserializeCreator(PropertyMatcherCounters counters) {
+        return jsonb.fromJson(createdJson, OrderedData.Created.class);
+    }
+
+    private String input(Object value) {
+        JsonObject object = Json.createReader(new StringReader(jsonb.toJson(value))).readObject();
+        List<String> received = new ArrayList<>(object.keySet());
+        if ("SHUFFLED".equals(order)) {
+            Collections.shuffle(received, new Random(42));
+        }
+        JsonObjectBuilder builder = Json.createObjectBuilder();
+        received.forEach(name -> builder.add(name, object.get(name)));
+        return builder.build().toString();
+    }
+
+}
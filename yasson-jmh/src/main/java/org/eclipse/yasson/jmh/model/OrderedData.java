@@ -0,0 +1,63 @@
+package org.eclipse.yasson.jmh.model;
+
+import jakarta.json.bind.annotation.JsonbCreator;
+import jakarta.json.bind.annotation.JsonbProperty;
+
+public class OrderedData {
+
+    public String alpha;
+    public int bravo;
+    public long charlie;
+    public boolean delta;
+    public double echo;
+    public String foxtrot;
+    public int golf;
+    public long hotel;
+
+    public OrderedData() {
+    }
+
+    public OrderedData(int seed) {
+        this.alpha = "alpha" + seed;
+        this.bravo = seed;
+        this.charlie = seed * 1000L;
+        this.delta = seed % 2 == 0;
+        this.echo = seed / 4d;
+        this.foxtrot = "foxtrot" + seed;
+        this.golf = -seed;
+        this.hotel = Long.MAX_VALUE - seed;
+    }
+
+    public static class Created {
+
+        private final String alpha;
+        private final int bravo;
+        private final long charlie;
+        public boolean delta;
+        public double echo;
+        public String foxtrot;
+        public int golf;
+        public long hotel;
+
+        @JsonbCreator
+        public Created(@JsonbProperty("alpha") String alpha,
+                       @JsonbProperty("bravo") int bravo,
+                       @JsonbProperty("charlie") long charlie) {
+            this.alpha = alpha;
+            this.bravo = bravo;
+            this.charlie = charlie;
+        }
+
+        public String getAlpha() {
+            return alpha;
+        }
+
+        public int getBravo() {
+            return bravo;
+        }
+
+        public long getCharlie() {
+            return charlie;
+        }
+    }
+}